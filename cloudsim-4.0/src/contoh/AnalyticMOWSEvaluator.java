@@ -0,0 +1,113 @@
+package contoh;
+
+import java.util.*;
+
+/**
+ * Menilai satu set {@link MOWSParameters} tanpa menjalankan CloudSim. Penugasan VM dihitung
+ * dengan {@link MOWSSelector} yang sama seperti eksperimen, lalu waktu selesai tiap cloudlet
+ * dihitung secara analitik untuk VM satu PE dengan CloudletSchedulerTimeShared dan semua
+ * tugas tiba di t=0 (processor sharing): pada VM berkecepatan r dengan panjang terurut
+ * l1 &lt;= ... &lt;= lk, tugas ke-i selesai pada (l1 + ... + l(i-1) + (k-i+1) li) / r.
+ *
+ * Karena tidak memakai state global CloudSim, evaluator ini aman dipanggil dari banyak thread.
+ */
+class AnalyticMOWSEvaluator {
+
+    /** Hasil evaluasi; nama metrik sama dengan kolom CSV eksperimen. */
+    static final class Result {
+        final MOWSParameters params;
+        final int sampleSize;
+        final double makespan;
+        final double imbalanceDegree;
+        final double avgFinishTime;
+
+        Result(MOWSParameters params, int sampleSize, double makespan, double imbalanceDegree, double avgFinishTime) {
+            this.params = params;
+            this.sampleSize = sampleSize;
+            this.makespan = makespan;
+            this.imbalanceDegree = imbalanceDegree;
+            this.avgFinishTime = avgFinishTime;
+        }
+
+        /** True jika hasil ini tidak lebih buruk di kedua objektif dan lebih baik di salah satunya. */
+        boolean dominates(Result o) {
+            return makespan <= o.makespan && imbalanceDegree <= o.imbalanceDegree
+                    && (makespan < o.makespan || imbalanceDegree < o.imbalanceDegree);
+        }
+    }
+
+    private final int[] lengths;
+    private final int[] vmIds;
+    private final double[] vmMips;
+    private final double[] vmBw;
+    private final long fileSize;
+
+    AnalyticMOWSEvaluator(int[] lengths, double[] vmMips, double[] vmBw, long fileSize) {
+        this.lengths = lengths;
+        this.vmMips = vmMips;
+        this.vmBw = vmBw;
+        this.fileSize = fileSize;
+        this.vmIds = new int[vmMips.length];
+        for (int v = 0; v < vmIds.length; v++) vmIds[v] = v;
+    }
+
+    int datasetSize() {
+        return lengths.length;
+    }
+
+    /**
+     * @param sampleSize jumlah tugas yang dipakai (diambil merata dari seluruh dataset, bukan prefix)
+     * @param seed seed RNG MOWS; pakai seed yang sama untuk semua konfigurasi agar perbandingannya adil
+     */
+    Result evaluate(MOWSParameters params, int sampleSize, long seed) {
+        int n = Math.min(sampleSize, lengths.length);
+        int vms = vmMips.length;
+        MOWSSelector selector = new MOWSSelector(params, vmIds, vmMips, vmBw, new ReplayableRandom(seed));
+
+        int[] assigned = new int[n];
+        int[] perVm = new int[vms + 1];
+        for (int i = 0; i < n; i++) {
+            int v = selector.selectIndex(lengths[index(i, n)], fileSize);
+            assigned[i] = v;
+            perVm[v + 1]++;
+        }
+
+        // Kelompokkan panjang tugas per VM (counting sort berdasarkan indeks VM)
+        for (int v = 0; v < vms; v++) perVm[v + 1] += perVm[v];
+        long[] grouped = new long[n];
+        int[] cursor = Arrays.copyOf(perVm, vms);
+        for (int i = 0; i < n; i++) {
+            grouped[cursor[assigned[i]]++] = lengths[index(i, n)];
+        }
+
+        double makespan = 0.0, sumFinish = 0.0;
+        double maxExec = 0.0, minExec = Double.POSITIVE_INFINITY, sumPerVm = 0.0;
+        for (int v = 0; v < vms; v++) {
+            int from = perVm[v], to = perVm[v + 1];
+            if (from == to) continue;
+            Arrays.sort(grouped, from, to);
+
+            double done = 0.0, vmExec = 0.0;
+            int k = to - from;
+            for (int j = 0; j < k; j++) {
+                long l = grouped[from + j];
+                double finish = (done + (double) (k - j) * l) / vmMips[v];
+                vmExec += finish;
+                done += l;
+            }
+            makespan = Math.max(makespan, done / vmMips[v]);
+            sumFinish += vmExec;
+            maxExec = Math.max(maxExec, vmExec);
+            minExec = Math.min(minExec, vmExec);
+            sumPerVm += vmExec;
+        }
+        if (minExec == Double.POSITIVE_INFINITY) minExec = 0.0;
+        double avgPerVm = sumPerVm / vms;
+        double imbalance = avgPerVm > 0 ? (maxExec - minExec) / avgPerVm : 0.0;
+        return new Result(params, n, makespan, imbalance, n > 0 ? sumFinish / n : 0.0);
+    }
+
+    private int index(int i, int n) {
+        return (int) ((long) i * lengths.length / n);
+    }
+}
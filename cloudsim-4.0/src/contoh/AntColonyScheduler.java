@@ -0,0 +1,123 @@
+package contoh;
+
+import java.util.*;
+import java.util.stream.IntStream;
+
+/**
+ * Ant Colony Optimization (MAX-MIN) untuk penjadwalan tugas. Setiap semut menempatkan tugas
+ * (urut dari yang terpanjang) ke VM dengan peluang sebanding pheromone(tugas, VM) x
+ * heuristik^2, dengan heuristik = 1 / perkiraan waktu selesai di VM tersebut. Semut dalam
+ * satu iterasi dijalankan paralel; pheromone diperbarui dari solusi terbaik iterasi dan global.
+ */
+public class AntColonyScheduler extends MetaheuristicScheduler {
+
+    private static final float TAU_MIN = 0.01f;
+    private static final float TAU_MAX = 1.0f;
+
+    private final int ants;
+    private final int iterations;
+    private final double evaporation;
+
+    public AntColonyScheduler() {
+        this(16, 40, 0.1);
+    }
+
+    public AntColonyScheduler(int ants, int iterations, double evaporation) {
+        this.ants = Math.max(1, ants);
+        this.iterations = iterations;
+        this.evaporation = evaporation;
+    }
+
+    @Override
+    public int[] schedule(long[] lengths, double[] vmMips, long seed) {
+        int n = lengths.length, vms = vmMips.length;
+        if (n == 0) return new int[0];
+
+        // Urutan konstruksi: tugas terpanjang lebih dulu (seperti LPT)
+        Integer[] boxed = new Integer[n];
+        for (int i = 0; i < n; i++) boxed[i] = i;
+        Arrays.sort(boxed, (a, b) -> Long.compare(lengths[b], lengths[a]));
+        int[] order = new int[n];
+        for (int i = 0; i < n; i++) order[i] = boxed[i];
+
+        float[] tau = new float[n * vms];
+        Arrays.fill(tau, TAU_MAX);
+
+        double totalWork = 0, totalMips = 0;
+        for (long l : lengths) totalWork += l;
+        for (double m : vmMips) totalMips += m;
+        double lowerBound = totalWork / totalMips;
+
+        LoadAssignment globalBest = new LoadAssignment(lengths, vmMips, greedy(lengths, vmMips));
+        double globalFit = globalBest.fitness();
+        int[][] solutions = new int[ants][];
+        double[] fitness = new double[ants];
+
+        for (int it = 0; it < iterations; it++) {
+            final int iter = it;
+            IntStream.range(0, ants).parallel().forEach(k -> {
+                SplittableRandom r = rng(seed, (long) iter * ants + k);
+                int[] vmOf = construct(lengths, vmMips, order, tau, r);
+                LoadAssignment a = new LoadAssignment(lengths, vmMips, vmOf);
+                rebalanceStep(a, r);
+                solutions[k] = a.toArray();
+                fitness[k] = a.fitness();
+            });
+
+            int best = 0;
+            for (int k = 1; k < ants; k++) if (fitness[k] < fitness[best]) best = k;
+            if (fitness[best] < globalFit) {
+                globalFit = fitness[best];
+                globalBest = new LoadAssignment(lengths, vmMips, solutions[best]);
+            }
+
+            // Penguapan lalu deposit dari solusi terbaik iterasi dan global
+            float keep = (float) (1.0 - evaporation);
+            for (int i = 0; i < tau.length; i++) tau[i] = Math.max(TAU_MIN, tau[i] * keep);
+            deposit(tau, solutions[best], vms, (float) (evaporation * lowerBound / fitness[best]));
+            deposit(tau, globalBest.toArray(), vms, (float) (evaporation * lowerBound / globalFit));
+        }
+        return globalBest.toArray();
+    }
+
+    private static int[] construct(long[] lengths, double[] mips, int[] order, float[] tau, SplittableRandom r) {
+        int vms = mips.length;
+        int[] vmOf = new int[lengths.length];
+        double[] load = new double[vms];
+        double[] weight = new double[vms];
+        for (int task : order) {
+            double total = 0;
+            int base = task * vms;
+            for (int v = 0; v < vms; v++) {
+                double eta = 1.0 / (load[v] + lengths[task] / mips[v] + 1e-9);
+                double w = tau[base + v] * eta * eta;
+                weight[v] = w;
+                total += w;
+            }
+            double pick = r.nextDouble() * total;
+            int chosen = vms - 1;
+            for (int v = 0; v < vms; v++) {
+                pick -= weight[v];
+                if (pick <= 0) {
+                    chosen = v;
+                    break;
+                }
+            }
+            vmOf[task] = chosen;
+            load[chosen] += lengths[task] / mips[chosen];
+        }
+        return vmOf;
+    }
+
+    private static void deposit(float[] tau, int[] vmOf, int vms, float amount) {
+        for (int t = 0; t < vmOf.length; t++) {
+            int i = t * vms + vmOf[t];
+            tau[i] = Math.min(TAU_MAX, tau[i] + amount);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ACO(ants=" + ants + ",iterations=" + iterations + ",evaporation=" + evaporation + ")";
+    }
+}
@@ -0,0 +1,133 @@
+package contoh;
+
+import org.cloudbus.cloudsim.*;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.SimEvent;
+import java.util.*;
+
+/**
+ * Broker yang mengirim cloudlet pada waktu kedatangannya di trace, bukan semuanya di t=0.
+ * Cloudlet diambil dari {@link CloudletSource} (harus {@link TraceCloudlet}, urut menurut
+ * waktu kedatangan) sebanyak {@code lookahead} sekaligus; untuk setiap waktu kedatangan
+ * broker mengirim event ke dirinya sendiri lalu meneruskan cloudlet yang sudah tiba ke
+ * datacenter dalam satu batch.
+ *
+ * Cloudlet yang tiba sebelum VM selesai dibuat dikirim segera setelah VM siap.
+ */
+public class ArrivalDatacenterBroker extends BatchDatacenterBroker {
+
+    private CloudletSource source;
+    private MetricsCollector collector;
+    private int lookahead = 1000;
+    private final ArrayDeque<TraceCloudlet> pending = new ArrayDeque<>();
+    private boolean sourceExhausted = true;
+    private boolean arrivalScheduled = false;
+    private boolean vmsReady = false;
+
+    public ArrivalDatacenterBroker(String name) throws Exception {
+        super(name);
+    }
+
+    /**
+     * Mengatur sumber cloudlet untuk run berikutnya.
+     *
+     * @param lookahead jumlah cloudlet yang dibaca dari source sekaligus (bukan batas jumlah yang berjalan)
+     * @param collector tempat metrik cloudlet selesai dikumpulkan, boleh {@code null}
+     */
+    public void setSource(CloudletSource source, int lookahead, MetricsCollector collector) {
+        this.source = source;
+        this.lookahead = Math.max(1, lookahead);
+        this.collector = collector;
+        this.sourceExhausted = (source == null);
+        this.arrivalScheduled = false;
+        this.vmsReady = false;
+        this.pending.clear();
+    }
+
+    @Override
+    void resetForNextRun() {
+        super.resetForNextRun();
+        setSource(null, lookahead, null);
+    }
+
+    @Override
+    protected void submitCloudlets() {
+        // Dipanggil pertama kali oleh broker saat semua VM sudah dibuat
+        if (!vmsReady) {
+            vmsReady = true;
+            releaseArrived();
+        }
+        super.submitCloudlets();
+    }
+
+    @Override
+    protected void processOtherEvent(SimEvent ev) {
+        if (ev.getTag() == ExperimentTags.CLOUDLET_ARRIVAL) {
+            arrivalScheduled = false;
+            releaseArrived();
+            super.submitCloudlets();
+        } else {
+            super.processOtherEvent(ev);
+        }
+    }
+
+    @Override
+    protected boolean hasPendingCloudlets() {
+        return !pending.isEmpty() || !sourceExhausted;
+    }
+
+    @Override
+    protected void onCloudletSubmitted(Cloudlet cloudlet) {
+        if (source == null) super.onCloudletSubmitted(cloudlet);
+    }
+
+    @Override
+    protected void onCloudletsReturned(List<Cloudlet> finished) {
+        if (source == null) {
+            super.onCloudletsReturned(finished);
+            return;
+        }
+        for (Cloudlet cl : finished) {
+            source.onReturned(cl);
+            if (collector != null) collector.fold(cl);
+        }
+    }
+
+    /**
+     * Dipanggil saat cloudlet tiba, sebelum dimasukkan ke {@code getCloudletList()}. VM sudah
+     * dibuat pada titik ini, jadi subclass bisa memilih VM berdasarkan keadaan saat itu.
+     */
+    protected void onCloudletArrived(TraceCloudlet cloudlet) {
+    }
+
+    /** Memindahkan cloudlet yang waktu kedatangannya sudah lewat ke cloudletList, lalu menjadwalkan kedatangan berikutnya. */
+    private void releaseArrived() {
+        double now = CloudSim.clock();
+        while (true) {
+            if (pending.isEmpty() && !pull()) break;
+            TraceCloudlet next = pending.peekFirst();
+            if (next.getArrivalTime() > now) break;
+            TraceCloudlet arrived = pending.pollFirst();
+            onCloudletArrived(arrived);
+            getCloudletList().add(arrived);
+        }
+
+        if (!pending.isEmpty() && !arrivalScheduled) {
+            arrivalScheduled = true;
+            schedule(getId(), pending.peekFirst().getArrivalTime() - now, ExperimentTags.CLOUDLET_ARRIVAL);
+        }
+    }
+
+    private boolean pull() {
+        if (sourceExhausted) return false;
+        List<Cloudlet> window = source.next(lookahead);
+        if (window.isEmpty()) {
+            sourceExhausted = true;
+            return false;
+        }
+        for (Cloudlet cl : window) {
+            pending.addLast((TraceCloudlet) cl);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,335 @@
+package contoh;
+
+import org.cloudbus.cloudsim.Log;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.SimEntity;
+import org.cloudbus.cloudsim.core.SimEvent;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Log simulasi asinkron: thread simulasi hanya mengisi slot di ring buffer yang sudah dialokasikan,
+ * thread latar menguras ring tersebut ke file biner. Pengganti {@code Log.printLine} yang sinkron ke
+ * stdout, sehingga trace lengkap tetap bisa aktif saat sweep.
+ *
+ * Yang dicatat:
+ * <ul>
+ *   <li>{@link Level#DEBUG}: setiap event yang diproses {@link ReusableDatacenter} dan
+ *       {@link ReusableDatacenterBroker} (clock, entitas, tag, sumber);</li>
+ *   <li>{@link Level#INFO}: baris teks CloudSim ({@code Log.printLine}) selama log {@link #start() aktif};</li>
+ *   <li>penanda run dari {@link #beginRun}, selalu dicatat.</li>
+ * </ul>
+ * Filter level dan prefix nama entitas diterapkan di sisi produsen, sebelum record masuk ring.
+ * Jika ring penuh, produsen menunggu drain (tidak ada record yang dibuang); jumlah tunggu dilaporkan
+ * saat {@link #close()}. Baca file dengan {@code AsyncSimLog <file>}.
+ *
+ * Format record: {@code kind(byte) level(byte) clock(double) entity(int) tag(int) src(int)}, untuk
+ * kind teks/nama/run diikuti {@code panjang(int) UTF-8}.
+ */
+public class AsyncSimLog implements Closeable {
+
+    public enum Level { DEBUG, INFO, WARN }
+
+    static final int MAGIC = 0x534C4F47; // "SLOG"
+    static final byte KIND_EVENT = 0;
+    static final byte KIND_TEXT = 1;
+    static final byte KIND_ENTITY = 2;
+    static final byte KIND_RUN = 3;
+
+    private static final long DRAIN_PARK_NS = 5_000_000L;
+    private static final long FLUSH_INTERVAL_NS = 1_000_000_000L;
+
+    private static volatile AsyncSimLog active;
+
+    private final Level minLevel;
+    private final String[] entityPrefixes;
+    private final int mask;
+
+    // Slot ring: kolom primitif yang dialokasikan sekali; pesan hanya disimpan sebagai referensi
+    private final byte[] kinds;
+    private final byte[] levels;
+    private final double[] clocks;
+    private final int[] entities;
+    private final int[] tags;
+    private final int[] sources;
+    private final String[] texts;
+
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong consumed = new AtomicLong();
+    private long claimed = 0;
+    private long stalls = 0;
+
+    // Cache per id entitas: bit NAMED = nama sudah dicatat, CHECKED/ACCEPTED = hasil filter prefix
+    private static final byte NAMED = 1, CHECKED = 2, ACCEPTED = 4;
+    private byte[] entityState = new byte[64];
+
+    private final FileChannel channel;
+    private final ByteBuffer out = ByteBuffer.allocateDirect(1 << 20);
+    private final Thread drainer;
+    private volatile boolean closing = false;
+    private OutputStream previousOutput;
+    private boolean previousDisabled;
+
+    /**
+     * @param capacity jumlah slot ring, dibulatkan ke pangkat dua
+     * @param entityPrefixes hanya entitas dengan nama berawalan salah satu prefix ini; kosong = semua
+     */
+    public AsyncSimLog(Path file, int capacity, Level minLevel, String... entityPrefixes) throws IOException {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.mask = size - 1;
+        this.minLevel = minLevel;
+        this.entityPrefixes = entityPrefixes.clone();
+        this.kinds = new byte[size];
+        this.levels = new byte[size];
+        this.clocks = new double[size];
+        this.entities = new int[size];
+        this.tags = new int[size];
+        this.sources = new int[size];
+        this.texts = new String[size];
+
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        out.putInt(MAGIC);
+
+        this.drainer = new Thread(this::drainLoop, "async-sim-log");
+        drainer.setDaemon(true);
+        drainer.start();
+    }
+
+    public static AsyncSimLog getActive() {
+        return active;
+    }
+
+    /** Mengaktifkan log: event entitas dicatat dan output {@code Log} CloudSim dialihkan ke ring. */
+    public synchronized void start() {
+        previousOutput = Log.getOutput();
+        previousDisabled = Log.isDisabled();
+        if (isEnabled(Level.INFO)) {
+            Log.setOutput(new TextOutput());
+            Log.enable();
+        }
+        active = this;
+    }
+
+    public synchronized void stop() {
+        if (active != this) return;
+        active = null;
+        if (previousOutput != null) Log.setOutput(previousOutput);
+        Log.setDisabled(previousDisabled);
+    }
+
+    public boolean isEnabled(Level level) {
+        return level.compareTo(minLevel) >= 0;
+    }
+
+    /** Penanda awal run; cache nama entitas direset karena id bisa berubah setelah CloudSim.init. */
+    public synchronized void beginRun(String scenario, int taskCount, int run) {
+        Arrays.fill(entityState, (byte) 0);
+        publish(KIND_RUN, Level.WARN, 0.0, -1, taskCount, run, scenario);
+    }
+
+    /** Dipanggil dari loop event entitas, sebelum event diproses. */
+    synchronized void event(SimEntity entity, SimEvent ev) {
+        if (minLevel != Level.DEBUG || !accepts(entity.getId())) return;
+        name(ev.getSource());
+        publish(KIND_EVENT, Level.DEBUG, ev.eventTime(), entity.getId(), ev.getTag(), ev.getSource(), null);
+    }
+
+    public void log(Level level, String message) {
+        if (!isEnabled(level)) return;
+        publish(KIND_TEXT, level, CloudSim.clock(), -1, 0, 0, message);
+    }
+
+    private boolean accepts(int id) {
+        if (id < 0) return true;
+        byte state = name(id);
+        if ((state & CHECKED) == 0) {
+            String name = CloudSim.getEntityName(id);
+            boolean ok = entityPrefixes.length == 0;
+            for (String prefix : entityPrefixes) ok |= name != null && name.startsWith(prefix);
+            state |= ok ? CHECKED | ACCEPTED : CHECKED;
+            entityState[id] = state;
+        }
+        return (state & ACCEPTED) != 0;
+    }
+
+    /** Mencatat nama entitas sekali per run supaya record event cukup membawa id-nya. */
+    private byte name(int id) {
+        if (id < 0) return 0;
+        if (id >= entityState.length) entityState = Arrays.copyOf(entityState, Math.max(id + 1, entityState.length * 2));
+        byte state = entityState[id];
+        if ((state & NAMED) == 0) {
+            publish(KIND_ENTITY, Level.WARN, 0.0, id, 0, 0, CloudSim.getEntityName(id));
+            state |= NAMED;
+            entityState[id] = state;
+        }
+        return state;
+    }
+
+    private synchronized void publish(byte kind, Level level, double clock, int entity, int tag, int src, String text) {
+        long seq = claimed;
+        if (seq - consumed.get() > mask) {
+            stalls++;
+            while (seq - consumed.get() > mask) {
+                LockSupport.unpark(drainer);
+                LockSupport.parkNanos(10_000L);
+            }
+        }
+        int slot = (int) (seq & mask);
+        kinds[slot] = kind;
+        levels[slot] = (byte) level.ordinal();
+        clocks[slot] = clock;
+        entities[slot] = entity;
+        tags[slot] = tag;
+        sources[slot] = src;
+        texts[slot] = text;
+        claimed = seq + 1;
+        published.lazySet(seq + 1);
+    }
+
+    /**
+     * Menguras ring ke buffer keluaran; buffer ditulis ke file saat penuh, saat log ditutup, atau
+     * paling lambat FLUSH_INTERVAL_NS setelah record terakhir, supaya thread simulasi jarang terganggu.
+     */
+    private void drainLoop() {
+        long lastFlush = System.nanoTime();
+        try {
+            while (true) {
+                long available = published.get();
+                long next = consumed.get();
+                if (next == available) {
+                    if (closing && published.get() == next) {
+                        flush();
+                        return;
+                    }
+                    if (out.position() > 0 && System.nanoTime() - lastFlush > FLUSH_INTERVAL_NS) {
+                        flush();
+                        lastFlush = System.nanoTime();
+                    }
+                    LockSupport.parkNanos(DRAIN_PARK_NS);
+                    continue;
+                }
+                for (; next < available; next++) {
+                    encode((int) (next & mask));
+                    consumed.lazySet(next + 1);
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("AsyncSimLog berhenti: " + e.getMessage());
+            consumed.set(Long.MAX_VALUE / 2);
+        }
+    }
+
+    private void encode(int slot) throws IOException {
+        String text = texts[slot];
+        texts[slot] = null;
+        byte[] bytes = (text != null) ? text.getBytes(StandardCharsets.UTF_8) : null;
+        int size = 2 + 8 + 12 + (bytes != null ? 4 + bytes.length : 0);
+        if (out.remaining() < size) flush();
+        if (out.remaining() < size) throw new IOException("Record log terlalu besar: " + size + " byte");
+
+        out.put(kinds[slot]).put(levels[slot]).putDouble(clocks[slot])
+                .putInt(entities[slot]).putInt(tags[slot]).putInt(sources[slot]);
+        if (kinds[slot] != KIND_EVENT) {
+            out.putInt(bytes != null ? bytes.length : 0);
+            if (bytes != null) out.put(bytes);
+        }
+    }
+
+    private void flush() throws IOException {
+        out.flip();
+        while (out.hasRemaining()) channel.write(out);
+        out.clear();
+    }
+
+    /** Menunggu ring terkuras ke file lalu menutupnya. */
+    @Override
+    public void close() throws IOException {
+        stop();
+        closing = true;
+        LockSupport.unpark(drainer);
+        try {
+            drainer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        channel.close();
+        if (stalls > 0) {
+            System.out.println("AsyncSimLog: " + stalls + " kali produsen menunggu ring penuh (pertimbangkan kapasitas lebih besar)");
+        }
+    }
+
+    /** Mengumpulkan baris teks {@code Log} CloudSim menjadi record INFO. */
+    private final class TextOutput extends OutputStream {
+        private final ByteArrayOutputStream line = new ByteArrayOutputStream(128);
+
+        @Override
+        public void write(int b) {
+            if (b == '\n') {
+                log(Level.INFO, line.toString());
+                line.reset();
+            } else {
+                line.write(b);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            for (int i = off; i < off + len; i++) write(b[i]);
+        }
+    }
+
+    /** Pemakaian: {@code AsyncSimLog <file> [minLevel]}, mencetak record sebagai teks. */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Pemakaian: AsyncSimLog <file> [DEBUG|INFO|WARN]");
+            return;
+        }
+        Level min = args.length > 1 ? Level.valueOf(args[1]) : Level.DEBUG;
+        Map<Integer, String> names = new HashMap<>();
+        PrintWriter pw = new PrintWriter(new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8)));
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(Paths.get(args[0])), 1 << 16))) {
+            if (in.readInt() != MAGIC) throw new IOException("Bukan file AsyncSimLog: " + args[0]);
+            while (true) {
+                byte kind;
+                try {
+                    kind = in.readByte();
+                } catch (EOFException e) {
+                    break;
+                }
+                Level level = Level.values()[in.readByte()];
+                double clock = in.readDouble();
+                int entity = in.readInt();
+                int tag = in.readInt();
+                int src = in.readInt();
+                String text = null;
+                if (kind != KIND_EVENT) {
+                    byte[] bytes = new byte[in.readInt()];
+                    in.readFully(bytes);
+                    text = new String(bytes, StandardCharsets.UTF_8);
+                }
+                if (kind == KIND_RUN) {
+                    names.clear();
+                    pw.printf("=== %s tasks=%d run=%d%n", text, tag, src);
+                } else if (kind == KIND_ENTITY) {
+                    names.put(entity, text);
+                } else if (level.compareTo(min) >= 0) {
+                    if (kind == KIND_EVENT) {
+                        pw.printf(Locale.US, "%.4f %-5s %s %s src=%s%n", clock, level, names.getOrDefault(entity, "#" + entity),
+                                EventProfiler.tagName(tag), names.getOrDefault(src, "#" + src));
+                    } else {
+                        pw.printf(Locale.US, "%.4f %-5s %s%n", clock, level, text);
+                    }
+                }
+            }
+        }
+        pw.flush();
+    }
+}
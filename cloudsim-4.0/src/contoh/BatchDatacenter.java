@@ -0,0 +1,109 @@
+package contoh;
+
+import org.cloudbus.cloudsim.*;
+import org.cloudbus.cloudsim.core.CloudSimTags;
+import org.cloudbus.cloudsim.core.SimEvent;
+import java.util.*;
+
+/**
+ * Datacenter yang menerima cloudlet per batch ({@link ExperimentTags#CLOUDLET_BATCH_SUBMIT})
+ * dan mengembalikan cloudlet yang selesai per batch ({@link ExperimentTags#CLOUDLET_BATCH_RETURN}).
+ *
+ * Logika submit sama dengan {@code Datacenter.processCloudletSubmit} per cloudlet, bedanya
+ * {@code VM_DATACENTER_EVENT} hanya dijadwalkan sekali untuk setiap perkiraan waktu selesai yang
+ * berbeda. Event kembar pada waktu yang sama tidak mengubah apa pun (updateCloudletProcessing()
+ * mengabaikannya), jadi waktu mulai/selesai tiap cloudlet sama persis dengan submit satu per satu.
+ *
+ * Penghematannya terbatas: di SDSC7395 (7152 tugas, TimeShared) satu run MOWS memproses 17.285 event
+ * dibanding 28.058 tanpa batch (-38%), dan fase simulate turun sekitar 30% (MOWS) / 20% (RR). Yang
+ * hilang hanya CLOUDLET_SUBMIT/RETURN per cloudlet; sekitar 12.800 VM_DATACENTER_EVENT tetap ada karena
+ * setiap perkiraan waktu selesai adalah titik proses tersendiri (progres cloudlet dibulatkan per titik,
+ * jadi menggabungkannya mengubah hasil). Di RandStratified10000 tidak ada beda waktu yang terukur.
+ */
+public class BatchDatacenter extends ReusableDatacenter {
+
+    public BatchDatacenter(String name, DatacenterCharacteristics characteristics, VmAllocationPolicy vmAllocationPolicy,
+            List<Storage> storageList, double schedulingInterval) throws Exception {
+        super(name, characteristics, vmAllocationPolicy, storageList, schedulingInterval);
+    }
+
+    @Override
+    protected void processOtherEvent(SimEvent ev) {
+        if (ev.getTag() == ExperimentTags.CLOUDLET_BATCH_SUBMIT) {
+            processCloudletBatchSubmit(ev);
+        } else {
+            super.processOtherEvent(ev);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    protected void processCloudletBatchSubmit(SimEvent ev) {
+        List<Cloudlet> batch = (List<Cloudlet>) ev.getData();
+        List<Cloudlet> alreadyFinished = null;
+        Set<Double> wakeUps = new LinkedHashSet<>();
+
+        for (Cloudlet cl : batch) {
+            // Seperti processCloudletSubmit; di awal simulasi (clock < 0.111) panggilan ini tidak no-op
+            updateCloudletProcessing();
+
+            // Sama seperti Datacenter biasa: cloudlet yang sudah selesai langsung dikembalikan
+            if (cl.isFinished()) {
+                if (alreadyFinished == null) alreadyFinished = new ArrayList<>();
+                alreadyFinished.add(cl);
+                continue;
+            }
+
+            cl.setResourceParameter(getId(), getCharacteristics().getCostPerSecond(), getCharacteristics().getCostPerBw());
+
+            int userId = cl.getUserId();
+            int vmId = cl.getVmId();
+            double fileTransferTime = predictFileTransferTime(cl.getRequiredFiles());
+
+            Host host = getVmAllocationPolicy().getHost(vmId, userId);
+            Vm vm = host.getVm(vmId, userId);
+            double estimatedFinishTime = vm.getCloudletScheduler().cloudletSubmit(cl, fileTransferTime);
+
+            if (estimatedFinishTime > 0.0 && !Double.isInfinite(estimatedFinishTime)) {
+                wakeUps.add(estimatedFinishTime + fileTransferTime);
+            }
+        }
+
+        for (double delay : wakeUps) {
+            send(getId(), delay, CloudSimTags.VM_DATACENTER_EVENT);
+        }
+        if (alreadyFinished != null) {
+            sendNow(alreadyFinished.get(0).getUserId(), ExperimentTags.CLOUDLET_BATCH_RETURN, alreadyFinished);
+        }
+
+        checkCloudletCompletion();
+    }
+
+    /** Mengumpulkan semua cloudlet yang selesai per user, lalu mengirimnya dalam satu event. */
+    @Override
+    protected void checkCloudletCompletion() {
+        Map<Integer, List<Cloudlet>> finishedByUser = null;
+
+        for (Host host : getVmAllocationPolicy().getHostList()) {
+            for (Vm vm : host.getVmList()) {
+                CloudletScheduler scheduler = vm.getCloudletScheduler();
+                while (scheduler.isFinishedCloudlets()) {
+                    Cloudlet cl = scheduler.getNextFinishedCloudlet();
+                    if (cl == null) continue;
+
+                    if (finishedByUser == null) finishedByUser = new LinkedHashMap<>();
+                    List<Cloudlet> finished = finishedByUser.get(cl.getUserId());
+                    if (finished == null) {
+                        finished = new ArrayList<>();
+                        finishedByUser.put(cl.getUserId(), finished);
+                    }
+                    finished.add(cl);
+                }
+            }
+        }
+
+        if (finishedByUser == null) return;
+        for (Map.Entry<Integer, List<Cloudlet>> e : finishedByUser.entrySet()) {
+            sendNow(e.getKey(), ExperimentTags.CLOUDLET_BATCH_RETURN, e.getValue());
+        }
+    }
+}
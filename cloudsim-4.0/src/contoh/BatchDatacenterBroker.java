@@ -0,0 +1,120 @@
+package contoh;
+
+import org.cloudbus.cloudsim.*;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.SimEvent;
+import java.util.*;
+
+/**
+ * Broker yang mengirim cloudlet per datacenter dalam satu event batch, bukan satu
+ * {@code CLOUDLET_SUBMIT} per cloudlet. Hanya bisa dipakai bersama {@link BatchDatacenter}.
+ */
+public class BatchDatacenterBroker extends ReusableDatacenterBroker {
+
+    public BatchDatacenterBroker(String name) throws Exception {
+        super(name);
+    }
+
+    /**
+     * Pemilihan VM sama dengan {@code DatacenterBroker.submitCloudlets()}: cloudlet tanpa VM
+     * dibagi round-robin ke VM yang sudah dibuat, cloudlet yang VM-nya belum ada ditunda.
+     */
+    @Override
+    protected void submitCloudlets() {
+        List<Vm> createdVms = getVmsCreatedList();
+        if (createdVms.isEmpty()) return;
+
+        Map<Integer, Vm> vmById = new HashMap<>(createdVms.size() * 2);
+        for (Vm vm : createdVms) {
+            vmById.put(vm.getId(), vm);
+        }
+
+        Map<Integer, List<Cloudlet>> batches = new LinkedHashMap<>();
+        List<Cloudlet> postponed = new ArrayList<>();
+        int vmIndex = 0;
+
+        for (Cloudlet cloudlet : getCloudletList()) {
+            Vm vm;
+            if (cloudlet.getVmId() == -1) {
+                vm = createdVms.get(vmIndex);
+                vmIndex = (vmIndex + 1) % createdVms.size();
+            } else {
+                vm = vmById.get(cloudlet.getVmId());
+                if (vm == null) {
+                    postponed.add(cloudlet);
+                    continue;
+                }
+            }
+
+            cloudlet.setVmId(vm.getId());
+            int datacenterId = getVmsToDatacentersMap().get(vm.getId());
+            List<Cloudlet> batch = batches.get(datacenterId);
+            if (batch == null) {
+                batch = new ArrayList<>();
+                batches.put(datacenterId, batch);
+            }
+            batch.add(cloudlet);
+            onCloudletSubmitted(cloudlet);
+            cloudletsSubmitted++;
+        }
+
+        for (Map.Entry<Integer, List<Cloudlet>> e : batches.entrySet()) {
+            sendNow(e.getKey(), ExperimentTags.CLOUDLET_BATCH_SUBMIT, e.getValue());
+        }
+
+        // Menggantikan removeAll() bawaan yang O(n^2) untuk list cloudlet besar
+        getCloudletList().clear();
+        getCloudletList().addAll(postponed);
+    }
+
+    @Override
+    protected void processOtherEvent(SimEvent ev) {
+        if (ev.getTag() == ExperimentTags.CLOUDLET_BATCH_RETURN) {
+            processCloudletBatchReturn(ev);
+        } else {
+            super.processOtherEvent(ev);
+        }
+    }
+
+    /** Versi batch dari {@code DatacenterBroker.processCloudletReturn}. */
+    @SuppressWarnings("unchecked")
+    protected void processCloudletBatchReturn(SimEvent ev) {
+        List<Cloudlet> finished = (List<Cloudlet>) ev.getData();
+        cloudletsSubmitted -= finished.size();
+        SweepProgress.cloudletsReturned(finished.size());
+        onCloudletsReturned(finished);
+
+        if (getCloudletList().size() == 0 && cloudletsSubmitted == 0) {
+            if (hasPendingCloudlets()) return;
+            Log.printConcatLine(CloudSim.clock(), ": ", getName(), ": All Cloudlets executed. Finishing...");
+            clearDatacenters();
+            finishExecution();
+        } else if (getCloudletList().size() > 0 && cloudletsSubmitted == 0) {
+            // Semua cloudlet yang dikirim sudah kembali tapi masih ada yang ditunda: buat VM lagi
+            clearDatacenters();
+            createVmsInDatacenter(0);
+        }
+    }
+
+    /**
+     * Apakah masih ada cloudlet yang akan datang tapi belum masuk {@code getCloudletList()}.
+     * Selama bernilai {@code true}, broker tidak selesai walaupun semua cloudlet sudah kembali.
+     */
+    protected boolean hasPendingCloudlets() {
+        return false;
+    }
+
+    /** Dipanggil untuk setiap cloudlet yang dikirim ke datacenter. */
+    protected void onCloudletSubmitted(Cloudlet cloudlet) {
+        getCloudletSubmittedList().add(cloudlet);
+    }
+
+    /**
+     * Dipanggil saat satu batch cloudlet kembali, sebelum broker memeriksa apakah semua
+     * cloudlet sudah selesai. Subclass boleh menambah cloudlet baru ke {@code getCloudletList()}
+     * dan memanggil {@link #submitCloudlets()} di sini.
+     */
+    protected void onCloudletsReturned(List<Cloudlet> finished) {
+        getCloudletReceivedList().addAll(finished);
+    }
+}
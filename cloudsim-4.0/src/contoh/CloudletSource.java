@@ -0,0 +1,22 @@
+package contoh;
+
+import org.cloudbus.cloudsim.Cloudlet;
+import java.util.List;
+
+/**
+ * Sumber cloudlet yang dibaca bertahap oleh {@link StreamingDatacenterBroker}.
+ * Cloudlet yang dikembalikan sudah memiliki userId dan (jika perlu) vmId.
+ */
+public interface CloudletSource {
+
+    /**
+     * Mengambil paling banyak {@code max} cloudlet berikutnya.
+     *
+     * @return list kosong jika sumber sudah habis
+     */
+    List<Cloudlet> next(int max);
+
+    /** Dipanggil broker untuk setiap cloudlet yang sudah kembali, sebelum cloudlet dilepas. */
+    default void onReturned(Cloudlet cloudlet) {
+    }
+}
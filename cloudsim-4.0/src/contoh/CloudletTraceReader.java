@@ -0,0 +1,180 @@
+package contoh;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.Locale;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * Membaca file dari {@link CloudletTraceWriter} satu blok sekaligus. Record diakses seperti cursor:
+ * {@link #next()} lalu getter field-nya.
+ *
+ * <pre>
+ *   try (CloudletTraceReader r = new CloudletTraceReader(path)) {
+ *       while (r.next()) {
+ *           double slowdown = (r.finish() - r.submit()) / r.cpuTime();
+ *       }
+ *   }
+ * </pre>
+ */
+public class CloudletTraceReader implements Closeable {
+
+    private final FileChannel channel;
+    private final Inflater inflater = new Inflater();
+    private final ByteBuffer blockHeader = ByteBuffer.allocate(12);
+    private ByteBuffer compressed = ByteBuffer.allocate(0);
+    private byte[] raw = new byte[0];
+    private ByteBuffer block = ByteBuffer.allocate(0);
+    private int blockRemaining = 0;
+    private boolean ended = false;
+    private long expectedCount = -1;
+    private long count = 0;
+
+    private int cloudletId;
+    private int vmId;
+    private long length;
+    private int status;
+    private long submitBits;
+    private long startBits;
+    private long finishBits;
+    private long cpuBits;
+
+    public CloudletTraceReader(Path file) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        ByteBuffer header = readFully(ByteBuffer.allocate(8));
+        if (header == null || header.getInt() != CloudletTraceWriter.MAGIC) {
+            channel.close();
+            throw new IOException("Bukan file trace cloudlet: " + file);
+        }
+        int version = header.getInt();
+        if (version != CloudletTraceWriter.VERSION) {
+            channel.close();
+            throw new IOException("Versi trace tidak didukung: " + version);
+        }
+    }
+
+    /** Maju ke record berikutnya; false di akhir file. */
+    public boolean next() throws IOException {
+        if (blockRemaining == 0 && !nextBlock()) return false;
+
+        status = block.get();
+        cloudletId = (int) (cloudletId + CloudletTraceWriter.unZigZag(CloudletTraceWriter.getVarLong(block)));
+        vmId = (int) (vmId + CloudletTraceWriter.unZigZag(CloudletTraceWriter.getVarLong(block)));
+        length = CloudletTraceWriter.unZigZag(CloudletTraceWriter.getVarLong(block));
+        submitBits ^= CloudletTraceWriter.getVarLong(block);
+        startBits ^= CloudletTraceWriter.getVarLong(block);
+        finishBits ^= CloudletTraceWriter.getVarLong(block);
+        cpuBits ^= CloudletTraceWriter.getVarLong(block);
+        blockRemaining--;
+        count++;
+        return true;
+    }
+
+    private boolean nextBlock() throws IOException {
+        if (ended) return false;
+        blockHeader.clear();
+        if (readFully(blockHeader) == null) {
+            throw new EOFException("Trace terpotong setelah " + count + " record (writer tidak ditutup)");
+        }
+        int rawLength = blockHeader.getInt();
+        int compressedLength = blockHeader.getInt();
+        int records = blockHeader.getInt();
+        if (rawLength == 0) {
+            ByteBuffer total = readFully(ByteBuffer.allocate(8));
+            expectedCount = (total != null) ? total.getLong() : -1;
+            ended = true;
+            if (expectedCount != count) throw new IOException("Jumlah record " + count + " tidak sama dengan footer " + expectedCount);
+            return false;
+        }
+
+        if (compressed.capacity() < compressedLength) compressed = ByteBuffer.allocate(compressedLength);
+        compressed.clear().limit(compressedLength);
+        if (readFully(compressed) == null) throw new EOFException("Blok trace terpotong");
+        if (raw.length < rawLength) raw = new byte[rawLength];
+        inflater.reset();
+        inflater.setInput(compressed.array(), 0, compressedLength);
+        try {
+            int n = 0;
+            while (n < rawLength && !inflater.finished()) {
+                n += inflater.inflate(raw, n, rawLength - n);
+            }
+            if (n != rawLength) throw new IOException("Blok trace rusak");
+        } catch (DataFormatException e) {
+            throw new IOException("Blok trace rusak", e);
+        }
+
+        block = ByteBuffer.wrap(raw, 0, rawLength);
+        blockRemaining = records;
+        cloudletId = vmId = 0;
+        submitBits = startBits = finishBits = cpuBits = 0L;
+        return records > 0 || nextBlock();
+    }
+
+    /** Mengisi buf sampai penuh lalu flip; null jika file habis sebelum buf terisi. */
+    private ByteBuffer readFully(ByteBuffer buf) throws IOException {
+        while (buf.hasRemaining()) {
+            if (channel.read(buf) < 0) return null;
+        }
+        buf.flip();
+        return buf;
+    }
+
+    public int cloudletId() { return cloudletId; }
+    public int vmId() { return vmId; }
+    public long length() { return length; }
+    public int status() { return status; }
+    public double submit() { return Double.longBitsToDouble(submitBits); }
+    public double start() { return Double.longBitsToDouble(startBits); }
+    public double finish() { return Double.longBitsToDouble(finishBits); }
+    public double cpuTime() { return Double.longBitsToDouble(cpuBits); }
+
+    /** Jumlah record yang sudah dibaca. */
+    public long getCount() {
+        return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        inflater.end();
+        channel.close();
+    }
+
+    /**
+     * Pemakaian: {@code CloudletTraceReader <file.cltrace> [csv]}. Tanpa argumen kedua mencetak ringkasan
+     * (jumlah, makespan, slowdown rata-rata & maksimum); dengan {@code csv} mencetak semua record.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Pemakaian: CloudletTraceReader <file.cltrace> [csv]");
+            return;
+        }
+        boolean csv = args.length > 1 && "csv".equals(args[1]);
+        try (CloudletTraceReader r = new CloudletTraceReader(Paths.get(args[0]))) {
+            if (csv) {
+                PrintWriter out = new PrintWriter(new BufferedWriter(new OutputStreamWriter(System.out)));
+                out.println("cloudletId,vmId,length,status,submit,start,finish,cpuTime");
+                while (r.next()) {
+                    out.printf(Locale.US, "%d,%d,%d,%d,%.10f,%.10f,%.10f,%.10f%n", r.cloudletId(), r.vmId(), r.length(), r.status(),
+                            r.submit(), r.start(), r.finish(), r.cpuTime());
+                }
+                out.flush();
+                return;
+            }
+            double makespan = 0.0, sumSlowdown = 0.0, maxSlowdown = 0.0;
+            long measured = 0;
+            while (r.next()) {
+                makespan = Math.max(makespan, r.finish());
+                if (r.cpuTime() <= 0) continue;
+                double slowdown = (r.finish() - r.submit()) / r.cpuTime();
+                sumSlowdown += slowdown;
+                maxSlowdown = Math.max(maxSlowdown, slowdown);
+                measured++;
+            }
+            System.out.printf(Locale.US, "cloudlets=%d makespan=%.4f avgSlowdown=%.4f maxSlowdown=%.4f%n",
+                    r.getCount(), makespan, measured > 0 ? sumSlowdown / measured : 0.0, maxSlowdown);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package contoh;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+
+/**
+ * Menulis trace per cloudlet satu run (cloudletId, vmId, length, status, submit, start, finish, cpuTime)
+ * ke file biner ringkas, dibaca kembali dengan {@link CloudletTraceReader}.
+ *
+ * Record di-encode ke blok berukuran {@link #BLOCK_SIZE}: id dan vmId sebagai varint zigzag dari
+ * selisih dengan record sebelumnya, length sebagai varint, dan setiap waktu sebagai varint dari
+ * XOR bit double-nya dengan nilai field yang sama pada record sebelumnya (lossless). XOR nilai
+ * berdekatan hanya punya nol di bit atas (tanda, eksponen, awal mantisa); varint cuma membuang
+ * nol itu, jadi waktu yang berubah tetap 7-8 byte dan hanya nilai yang sama persis (XOR 0) yang
+ * menjadi 1 byte. Penghematan utamanya dari deflate atas blok penuh, yang lalu ditulis lewat
+ * FileChannel, sehingga memori tetap konstan untuk jutaan cloudlet per run.
+ *
+ * Format file: {@code MAGIC, VERSION}, lalu blok {@code rawLength, compressedLength, records, data},
+ * diakhiri blok dengan rawLength 0 dan jumlah total record (long).
+ */
+public class CloudletTraceWriter implements Closeable {
+
+    static final int MAGIC = 0x434C5452; // "CLTR"
+    static final int VERSION = 1;
+    static final int BLOCK_SIZE = 1 << 20;
+    static final int MAX_RECORD_BYTES = 1 + 2 * 5 + 10 + 4 * 10;
+
+    private final FileChannel channel;
+    private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+    private final ByteBuffer block = ByteBuffer.allocate(BLOCK_SIZE);
+    private byte[] compressed = new byte[BLOCK_SIZE + BLOCK_SIZE / 8 + 64];
+    private final ByteBuffer blockHeader = ByteBuffer.allocate(12);
+    private int blockRecords = 0;
+    private long count = 0;
+
+    private int prevId;
+    private int prevVmId;
+    private long prevSubmit;
+    private long prevStart;
+    private long prevFinish;
+    private long prevCpu;
+
+    public CloudletTraceWriter(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        ByteBuffer header = ByteBuffer.allocate(8).putInt(MAGIC).putInt(VERSION);
+        header.flip();
+        writeFully(header);
+        resetDeltas();
+    }
+
+    public void write(int cloudletId, int vmId, long length, int status,
+            double submit, double start, double finish, double cpuTime) throws IOException {
+        if (block.remaining() < MAX_RECORD_BYTES) flushBlock();
+
+        block.put((byte) status);
+        putVarLong(block, zigZag((long) cloudletId - prevId));
+        putVarLong(block, zigZag((long) vmId - prevVmId));
+        putVarLong(block, zigZag(length));
+        prevSubmit = putXor(block, submit, prevSubmit);
+        prevStart = putXor(block, start, prevStart);
+        prevFinish = putXor(block, finish, prevFinish);
+        prevCpu = putXor(block, cpuTime, prevCpu);
+        prevId = cloudletId;
+        prevVmId = vmId;
+
+        blockRecords++;
+        count++;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    /** Setiap blok di-decode mandiri, jadi state delta kembali ke nol di awal blok. */
+    private void resetDeltas() {
+        prevId = 0;
+        prevVmId = 0;
+        prevSubmit = prevStart = prevFinish = prevCpu = 0L;
+    }
+
+    private void flushBlock() throws IOException {
+        if (blockRecords == 0) return;
+        deflater.reset();
+        deflater.setInput(block.array(), 0, block.position());
+        deflater.finish();
+        int compressedLength = 0;
+        while (!deflater.finished()) {
+            if (compressedLength == compressed.length) compressed = Arrays.copyOf(compressed, compressed.length * 2);
+            compressedLength += deflater.deflate(compressed, compressedLength, compressed.length - compressedLength);
+        }
+
+        blockHeader.clear();
+        blockHeader.putInt(block.position()).putInt(compressedLength).putInt(blockRecords).flip();
+        writeFully(blockHeader);
+        writeFully(ByteBuffer.wrap(compressed, 0, compressedLength));
+
+        block.clear();
+        blockRecords = 0;
+        resetDeltas();
+    }
+
+    private void writeFully(ByteBuffer buf) throws IOException {
+        while (buf.hasRemaining()) channel.write(buf);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!channel.isOpen()) return;
+        try {
+            flushBlock();
+            ByteBuffer end = ByteBuffer.allocate(12 + 8).putInt(0).putInt(0).putInt(0).putLong(count);
+            end.flip();
+            writeFully(end);
+        } finally {
+            deflater.end();
+            channel.close();
+        }
+    }
+
+    // --- Encoding (dipakai juga oleh CloudletTraceReader) ---
+
+    static long zigZag(long v) {
+        return (v << 1) ^ (v >> 63);
+    }
+
+    static long unZigZag(long v) {
+        return (v >>> 1) ^ -(v & 1);
+    }
+
+    static void putVarLong(ByteBuffer buf, long v) {
+        while ((v & ~0x7FL) != 0) {
+            buf.put((byte) ((v & 0x7F) | 0x80));
+            v >>>= 7;
+        }
+        buf.put((byte) v);
+    }
+
+    static long getVarLong(ByteBuffer buf) {
+        long v = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = buf.get();
+            v |= (long) (b & 0x7F) << shift;
+            if (b >= 0) return v;
+        }
+    }
+
+    private static long putXor(ByteBuffer buf, double value, long prevBits) {
+        long bits = Double.doubleToRawLongBits(value);
+        putVarLong(buf, bits ^ prevBits);
+        return bits;
+    }
+}
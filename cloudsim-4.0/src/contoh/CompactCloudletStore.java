@@ -0,0 +1,252 @@
+package contoh;
+
+import org.cloudbus.cloudsim.Cloudlet;
+import java.nio.*;
+import java.util.*;
+
+/**
+ * Penyimpanan cloudlet berbentuk kolom primitif (struct-of-arrays): panjang, vmId, status,
+ * waktu submit, mulai, selesai dan CPU time. Satu tugas memakai sekitar 41 byte, jauh lebih
+ * kecil daripada satu objek {@link Cloudlet} beserta list resource dan utilization model-nya.
+ *
+ * Objek Cloudlet hanya dibuat sementara untuk tugas yang sedang berjalan
+ * (lihat {@link CompactStoreCloudletSource}); hasilnya ditulis balik ke kolom di sini.
+ * Dengan {@link #offHeap(int)} kolom disimpan di direct ByteBuffer sehingga tidak
+ * membebani heap/GC untuk trace yang sangat besar.
+ */
+public class CompactCloudletStore {
+
+    /** Status untuk tugas yang belum pernah dikembalikan datacenter. */
+    public static final byte STATUS_PENDING = -1;
+
+    private final Columns columns;
+    private int size = 0;
+
+    private CompactCloudletStore(Columns columns) {
+        this.columns = columns;
+    }
+
+    public static CompactCloudletStore onHeap(int capacity) {
+        return new CompactCloudletStore(new HeapColumns(capacity));
+    }
+
+    public static CompactCloudletStore offHeap(int capacity) {
+        return new CompactCloudletStore(new DirectColumns(capacity));
+    }
+
+    /** Membaca seluruh panjang tugas dari reader ke store baru (kapasitas bertambah otomatis untuk heap). */
+    public static CompactCloudletStore fromLengths(PrimitiveIterator.OfInt lengths, boolean offHeap, int expectedSize) {
+        CompactCloudletStore store = offHeap ? offHeap(expectedSize) : onHeap(expectedSize);
+        while (lengths.hasNext()) {
+            store.add(lengths.nextInt());
+        }
+        return store;
+    }
+
+    /** Menambah tugas baru dengan status pending dan belum terikat ke VM; mengembalikan indeksnya. */
+    public int add(long length) {
+        if (size == columns.capacity()) {
+            columns.grow(Math.max(16, size * 2));
+        }
+        int i = size++;
+        columns.setLength(i, length);
+        columns.setVmId(i, -1);
+        columns.setStatus(i, STATUS_PENDING);
+        return i;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long getLength(int i) {
+        return columns.getLength(i);
+    }
+
+    public int getVmId(int i) {
+        return columns.getVmId(i);
+    }
+
+    public void setVmId(int i, int vmId) {
+        columns.setVmId(i, vmId);
+    }
+
+    public int getStatus(int i) {
+        return columns.getStatus(i);
+    }
+
+    public double getSubmissionTime(int i) {
+        return columns.getDouble(Columns.SUBMIT, i);
+    }
+
+    public double getExecStartTime(int i) {
+        return columns.getDouble(Columns.START, i);
+    }
+
+    public double getFinishTime(int i) {
+        return columns.getDouble(Columns.FINISH, i);
+    }
+
+    public double getActualCPUTime(int i) {
+        return columns.getDouble(Columns.CPU_TIME, i);
+    }
+
+    /** Menyalin hasil eksekusi cloudlet yang sudah kembali ke baris {@code i}. */
+    public void recordResult(int i, Cloudlet cl) {
+        columns.setVmId(i, cl.getVmId());
+        columns.setStatus(i, (byte) cl.getStatus());
+        columns.setDouble(Columns.SUBMIT, i, cl.getSubmissionTime());
+        columns.setDouble(Columns.START, i, cl.getExecStartTime());
+        columns.setDouble(Columns.FINISH, i, cl.getFinishTime());
+        columns.setDouble(Columns.CPU_TIME, i, cl.getActualCPUTime());
+    }
+
+    /** Cursor yang bisa dipakai ulang untuk membaca/menulis satu baris tanpa membuat objek per tugas. */
+    public View view() {
+        return new View();
+    }
+
+    public class View {
+        private int index = -1;
+
+        public View moveTo(int i) {
+            if (i < 0 || i >= size) throw new IndexOutOfBoundsException("index " + i + ", size " + size);
+            index = i;
+            return this;
+        }
+
+        public int index() {
+            return index;
+        }
+
+        public long length() {
+            return columns.getLength(index);
+        }
+
+        public int vmId() {
+            return columns.getVmId(index);
+        }
+
+        public void setVmId(int vmId) {
+            columns.setVmId(index, vmId);
+        }
+
+        public int status() {
+            return columns.getStatus(index);
+        }
+
+        public double submissionTime() {
+            return columns.getDouble(Columns.SUBMIT, index);
+        }
+
+        public double execStartTime() {
+            return columns.getDouble(Columns.START, index);
+        }
+
+        public double finishTime() {
+            return columns.getDouble(Columns.FINISH, index);
+        }
+
+        public double actualCpuTime() {
+            return columns.getDouble(Columns.CPU_TIME, index);
+        }
+    }
+
+    // --- Implementasi kolom ---
+
+    private interface Columns {
+        int SUBMIT = 0;
+        int START = 1;
+        int FINISH = 2;
+        int CPU_TIME = 3;
+
+        int capacity();
+        void grow(int newCapacity);
+        long getLength(int i);
+        void setLength(int i, long length);
+        int getVmId(int i);
+        void setVmId(int i, int vmId);
+        byte getStatus(int i);
+        void setStatus(int i, byte status);
+        double getDouble(int column, int i);
+        void setDouble(int column, int i, double v);
+    }
+
+    private static final class HeapColumns implements Columns {
+        private int[] length;
+        private int[] vmId;
+        private byte[] status;
+        private double[][] times = new double[4][];
+
+        HeapColumns(int capacity) {
+            length = new int[capacity];
+            vmId = new int[capacity];
+            status = new byte[capacity];
+            for (int c = 0; c < times.length; c++) times[c] = new double[capacity];
+        }
+
+        public int capacity() { return length.length; }
+
+        public void grow(int newCapacity) {
+            length = Arrays.copyOf(length, newCapacity);
+            vmId = Arrays.copyOf(vmId, newCapacity);
+            status = Arrays.copyOf(status, newCapacity);
+            for (int c = 0; c < times.length; c++) times[c] = Arrays.copyOf(times[c], newCapacity);
+        }
+
+        // Panjang disimpan sebagai int: dataset yang dimuat sudah dipotong ke Integer.MAX_VALUE
+        public long getLength(int i) { return length[i]; }
+        public void setLength(int i, long v) { length[i] = (int) Math.min(v, Integer.MAX_VALUE); }
+        public int getVmId(int i) { return vmId[i]; }
+        public void setVmId(int i, int v) { vmId[i] = v; }
+        public byte getStatus(int i) { return status[i]; }
+        public void setStatus(int i, byte v) { status[i] = v; }
+        public double getDouble(int c, int i) { return times[c][i]; }
+        public void setDouble(int c, int i, double v) { times[c][i] = v; }
+    }
+
+    /**
+     * Kolom di luar heap. Tiap kolom dipecah menjadi chunk 2^20 elemen karena satu
+     * ByteBuffer dibatasi 2 GB.
+     */
+    private static final class DirectColumns implements Columns {
+        private static final int CHUNK_SHIFT = 20;
+        private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+        private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+        // length(4) + vmId(4) + status(1) + 4 x double(8)
+        private static final int ROW_BYTES = 4 + 4 + 1 + 4 * 8;
+
+        private final List<ByteBuffer> chunks = new ArrayList<>();
+        private int capacity = 0;
+
+        DirectColumns(int capacity) {
+            grow(capacity);
+        }
+
+        public int capacity() { return capacity; }
+
+        public void grow(int newCapacity) {
+            while (capacity < newCapacity) {
+                chunks.add(ByteBuffer.allocateDirect(CHUNK_SIZE * ROW_BYTES).order(ByteOrder.nativeOrder()));
+                capacity += CHUNK_SIZE;
+            }
+        }
+
+        // Layout per chunk: [length x N][vmId x N][time0 x N]..[time3 x N][status x N]
+        private static int lengthOffset(int j) { return j * 4; }
+        private static int vmOffset(int j) { return CHUNK_SIZE * 4 + j * 4; }
+        private static int timeOffset(int c, int j) { return CHUNK_SIZE * 8 + (c * CHUNK_SIZE + j) * 8; }
+        private static int statusOffset(int j) { return CHUNK_SIZE * 40 + j; }
+
+        private ByteBuffer chunk(int i) { return chunks.get(i >>> CHUNK_SHIFT); }
+
+        public long getLength(int i) { return chunk(i).getInt(lengthOffset(i & CHUNK_MASK)); }
+        public void setLength(int i, long v) { chunk(i).putInt(lengthOffset(i & CHUNK_MASK), (int) Math.min(v, Integer.MAX_VALUE)); }
+        public int getVmId(int i) { return chunk(i).getInt(vmOffset(i & CHUNK_MASK)); }
+        public void setVmId(int i, int v) { chunk(i).putInt(vmOffset(i & CHUNK_MASK), v); }
+        public byte getStatus(int i) { return chunk(i).get(statusOffset(i & CHUNK_MASK)); }
+        public void setStatus(int i, byte v) { chunk(i).put(statusOffset(i & CHUNK_MASK), v); }
+        public double getDouble(int c, int i) { return chunk(i).getDouble(timeOffset(c, i & CHUNK_MASK)); }
+        public void setDouble(int c, int i, double v) { chunk(i).putDouble(timeOffset(c, i & CHUNK_MASK), v); }
+    }
+}
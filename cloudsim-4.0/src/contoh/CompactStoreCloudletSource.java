@@ -0,0 +1,46 @@
+package contoh;
+
+import org.cloudbus.cloudsim.*;
+import java.util.*;
+
+/**
+ * {@link CloudletSource} di atas {@link CompactCloudletStore}: objek Cloudlet dibuat hanya
+ * untuk window yang sedang dikirim (id cloudlet = indeks baris di store), dan hasilnya
+ * ditulis balik ke store saat kembali sehingga objeknya bisa langsung dilepas.
+ */
+public class CompactStoreCloudletSource implements CloudletSource {
+
+    private final CompactCloudletStore store;
+    private final int brokerId;
+    private final int pesNumber;
+    private final long fileSize;
+    private final long outputSize;
+    private final UtilizationModel utilModel = new UtilizationModelFull();
+    private int next = 0;
+
+    public CompactStoreCloudletSource(CompactCloudletStore store, int brokerId, int pesNumber, long fileSize, long outputSize) {
+        this.store = store;
+        this.brokerId = brokerId;
+        this.pesNumber = pesNumber;
+        this.fileSize = fileSize;
+        this.outputSize = outputSize;
+    }
+
+    @Override
+    public List<Cloudlet> next(int max) {
+        int end = (int) Math.min((long) next + max, store.size());
+        List<Cloudlet> window = new ArrayList<>(end - next);
+        for (; next < end; next++) {
+            Cloudlet cloudlet = new Cloudlet(next, store.getLength(next), pesNumber, fileSize, outputSize, utilModel, utilModel, utilModel);
+            cloudlet.setUserId(brokerId);
+            cloudlet.setVmId(store.getVmId(next));
+            window.add(cloudlet);
+        }
+        return window;
+    }
+
+    @Override
+    public void onReturned(Cloudlet cloudlet) {
+        store.recordResult(cloudlet.getCloudletId(), cloudlet);
+    }
+}
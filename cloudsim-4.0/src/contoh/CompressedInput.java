@@ -0,0 +1,200 @@
+package contoh;
+
+import java.io.*;
+import java.nio.charset.Charset;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.zip.*;
+
+/**
+ * Membuka file dataset/trace yang mungkin terkompresi. Format dikenali dari magic byte,
+ * bukan dari ekstensi:
+ * <ul>
+ * <li>BGZF (gzip berblok, mis. hasil {@code bgzip}): blok-blok independen di-inflate paralel
+ *     beberapa blok di depan posisi baca, urutan keluaran tetap sama.</li>
+ * <li>gzip biasa (termasuk multi-member): {@link GZIPInputStream}, satu thread.</li>
+ * <li>zstd: belum didukung (JDK tidak punya decoder zstd); file perlu di-recompress ke BGZF.</li>
+ * <li>lainnya dibaca sebagai teks biasa.</li>
+ * </ul>
+ */
+public final class CompressedInput {
+
+    public enum Format { PLAIN, GZIP, BGZF, ZSTD }
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private CompressedInput() {
+    }
+
+    public static InputStream open(String path) throws IOException {
+        BufferedInputStream in = new BufferedInputStream(new FileInputStream(path), BUFFER_SIZE);
+        try {
+            switch (detect(in)) {
+                case BGZF: return new BgzfInputStream(in, Runtime.getRuntime().availableProcessors() * 4);
+                case GZIP: return new GZIPInputStream(in, BUFFER_SIZE);
+                case ZSTD: throw new IOException(path + ": trace zstd belum didukung; recompress dengan bgzip");
+                default: return in;
+            }
+        } catch (IOException | RuntimeException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    /** Reader dengan charset default, sama seperti {@link FileReader} untuk file tanpa kompresi. */
+    public static Reader openReader(String path) throws IOException {
+        return new InputStreamReader(open(path), Charset.defaultCharset());
+    }
+
+    public static Format detect(String path) throws IOException {
+        try (BufferedInputStream in = new BufferedInputStream(new FileInputStream(path), 64)) {
+            return detect(in);
+        }
+    }
+
+    /** Mengintip header tanpa mengonsumsinya ({@code in} harus mendukung mark/reset). */
+    static Format detect(InputStream in) throws IOException {
+        byte[] h = new byte[18];
+        in.mark(h.length);
+        int n = readFully(in, h, 0, h.length);
+        in.reset();
+        if (n >= 4 && (h[0] & 0xff) == 0x28 && (h[1] & 0xff) == 0xb5 && (h[2] & 0xff) == 0x2f && (h[3] & 0xff) == 0xfd) {
+            return Format.ZSTD;
+        }
+        if (n < 2 || (h[0] & 0xff) != 0x1f || (h[1] & 0xff) != 0x8b) return Format.PLAIN;
+        return (n == h.length && isBgzfHeader(h)) ? Format.BGZF : Format.GZIP;
+    }
+
+    /** Header gzip dengan FEXTRA berisi subfield 'BC' (BSIZE) di posisi standar BGZF. */
+    private static boolean isBgzfHeader(byte[] h) {
+        return (h[3] & 4) != 0 && u16(h, 10) >= 6 && h[12] == 'B' && h[13] == 'C' && u16(h, 14) == 2;
+    }
+
+    private static int u16(byte[] b, int off) {
+        return (b[off] & 0xff) | (b[off + 1] & 0xff) << 8;
+    }
+
+    private static int u32(byte[] b, int off) {
+        return u16(b, off) | u16(b, off + 2) << 16;
+    }
+
+    static int readFully(InputStream in, byte[] b, int off, int len) throws IOException {
+        int total = 0;
+        while (total < len) {
+            int r = in.read(b, off + total, len - total);
+            if (r < 0) break;
+            total += r;
+        }
+        return total;
+    }
+
+    /**
+     * Stream hasil dekompresi BGZF. Blok mentah dibaca berurutan (murah), inflate tiap blok
+     * dijalankan di common pool dengan read-ahead sebanyak {@code readAhead} blok.
+     */
+    static final class BgzfInputStream extends InputStream {
+        private final InputStream in;
+        private final int readAhead;
+        private final Deque<CompletableFuture<byte[]>> pending = new ArrayDeque<>();
+        private byte[] current = new byte[0];
+        private int pos = 0;
+        private boolean eof = false;
+
+        BgzfInputStream(InputStream in, int readAhead) {
+            this.in = in;
+            this.readAhead = Math.max(1, readAhead);
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (!ensureData()) return -1;
+            return current[pos++] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) return 0;
+            if (!ensureData()) return -1;
+            int n = Math.min(len, current.length - pos);
+            System.arraycopy(current, pos, b, off, n);
+            pos += n;
+            return n;
+        }
+
+        private boolean ensureData() throws IOException {
+            while (pos >= current.length) {
+                fillPending();
+                if (pending.isEmpty()) return false;
+                try {
+                    current = pending.poll().join();
+                } catch (CompletionException e) {
+                    if (e.getCause() instanceof UncheckedIOException) throw ((UncheckedIOException) e.getCause()).getCause();
+                    throw e;
+                }
+                pos = 0;
+            }
+            return true;
+        }
+
+        private void fillPending() throws IOException {
+            while (!eof && pending.size() < readAhead) {
+                final byte[] block = readBlock();
+                if (block == null) {
+                    eof = true;
+                } else {
+                    pending.add(CompletableFuture.supplyAsync(() -> inflate(block)));
+                }
+            }
+        }
+
+        /** Satu blok gzip utuh (header sampai ISIZE), atau null di akhir file. */
+        private byte[] readBlock() throws IOException {
+            byte[] header = new byte[18];
+            int n = readFully(in, header, 0, header.length);
+            if (n == 0) return null;
+            if (n < header.length || (header[0] & 0xff) != 0x1f || (header[1] & 0xff) != 0x8b || !isBgzfHeader(header)) {
+                throw new IOException("Blok BGZF tidak valid");
+            }
+            int blockSize = u16(header, 16) + 1;
+            byte[] block = Arrays.copyOf(header, blockSize);
+            if (readFully(in, block, header.length, blockSize - header.length) != blockSize - header.length) {
+                throw new EOFException("Blok BGZF terpotong");
+            }
+            return block;
+        }
+
+        private static byte[] inflate(byte[] block) {
+            int dataStart = 12 + u16(block, 10);
+            int dataLength = block.length - dataStart - 8;
+            byte[] out = new byte[u32(block, block.length - 4)];
+            Inflater inflater = new Inflater(true);
+            try {
+                inflater.setInput(block, dataStart, dataLength);
+                int n = 0;
+                while (n < out.length && !inflater.finished()) {
+                    int r = inflater.inflate(out, n, out.length - n);
+                    if (r == 0 && (inflater.needsInput() || inflater.needsDictionary())) break;
+                    n += r;
+                }
+                CRC32 crc = new CRC32();
+                crc.update(out, 0, n);
+                if (n != out.length || (int) crc.getValue() != u32(block, block.length - 8)) {
+                    throw new UncheckedIOException(new ZipException("CRC/ukuran blok BGZF tidak cocok"));
+                }
+                return out;
+            } catch (DataFormatException e) {
+                throw new UncheckedIOException(new ZipException(e.getMessage()));
+            } finally {
+                inflater.end();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            for (CompletableFuture<byte[]> f : pending) f.cancel(false);
+            pending.clear();
+            in.close();
+        }
+    }
+}
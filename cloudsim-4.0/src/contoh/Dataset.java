@@ -0,0 +1,179 @@
+package contoh;
+
+import java.io.*;
+import java.nio.charset.Charset;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+/**
+ * Panjang tugas dari satu file dataset beserta {@link WorkloadProfile}-nya, dimuat dalam satu
+ * pass. Hasilnya di-cache per (path, limit) selama file tidak berubah, dan profilnya juga
+ * ditulis ke sidecar untuk pemakaian tanpa memuat data. File boleh terkompresi
+ * (lihat {@link CompressedInput}); teks hasil dekompresi di-parse paralel per batch.
+ */
+public class Dataset {
+
+    private static final Map<String, Dataset> CACHE = new ConcurrentHashMap<>();
+
+    // Ukuran batch teks yang dipecah ke beberapa thread untuk di-parse
+    private static final int PARSE_BATCH = 8 << 20;
+
+    private final String path;
+    private final long sourceSize;
+    private final long sourceModified;
+    private final int[] lengths;
+    private final WorkloadProfile profile;
+
+    private Dataset(String path, long sourceSize, long sourceModified, int[] lengths, WorkloadProfile profile) {
+        this.path = path;
+        this.sourceSize = sourceSize;
+        this.sourceModified = sourceModified;
+        this.lengths = lengths;
+        this.profile = profile;
+    }
+
+    /**
+     * Memuat dataset (aturan parsing {@link TaskLengthReader}) atau mengembalikan versi cache.
+     *
+     * @param limit jumlah maksimum tugas, {@code Long.MAX_VALUE} untuk seluruh file
+     */
+    public static Dataset load(String path, long limit) throws IOException {
+        File file = new File(path);
+        if (!file.isFile()) throw new FileNotFoundException(path);
+        String key = file.getAbsolutePath() + "#" + limit;
+        Dataset cached = CACHE.get(key);
+        if (cached != null && cached.sourceSize == file.length() && cached.sourceModified == file.lastModified()) {
+            return cached;
+        }
+
+        int[] values;
+        try (InputStream in = CompressedInput.open(path)) {
+            values = parseLengths(in, limit);
+        }
+        WorkloadProfile profile = new WorkloadProfile();
+        for (int v : values) profile.add(v);
+        profile.finish();
+        profile.writeSidecar(path, limit);
+
+        Dataset dataset = new Dataset(path, file.length(), file.lastModified(), values, profile);
+        CACHE.put(key, dataset);
+        return dataset;
+    }
+
+    /**
+     * Membaca panjang tugas dari stream teks per batch {@link #PARSE_BATCH} byte. Setiap batch
+     * dipotong di batas baris terakhir lalu dibagi ke beberapa bagian yang di-parse paralel
+     * dengan {@link TaskLengthReader#parseLength}; urutan hasil sama dengan urutan baris.
+     */
+    static int[] parseLengths(InputStream in, long limit) throws IOException {
+        int parts = Runtime.getRuntime().availableProcessors();
+        byte[] buf = new byte[PARSE_BATCH];
+        int carry = 0;
+        int[] values = new int[1024];
+        int n = 0;
+        boolean eof = false;
+        while (!eof && n < limit) {
+            int r = CompressedInput.readFully(in, buf, carry, buf.length - carry);
+            eof = r < buf.length - carry;
+            int filled = carry + r;
+            int end = eof ? filled : lastLineBreak(buf, filled) + 1;
+            if (end == 0) {
+                // Satu baris lebih panjang dari buffer
+                buf = Arrays.copyOf(buf, buf.length * 2);
+                carry = filled;
+                continue;
+            }
+            for (int[] chunk : parseBatch(buf, end, parts)) {
+                int take = (int) Math.min(chunk.length, limit - n);
+                if (n + take > values.length) values = Arrays.copyOf(values, Math.max(n + take, n * 2));
+                System.arraycopy(chunk, 0, values, n, take);
+                n += take;
+            }
+            carry = filled - end;
+            System.arraycopy(buf, end, buf, 0, carry);
+        }
+        return Arrays.copyOf(values, n);
+    }
+
+    private static int[][] parseBatch(byte[] buf, int end, int parts) {
+        int[] bounds = new int[parts + 1];
+        for (int i = 1; i < parts; i++) {
+            int b = Math.max(bounds[i - 1], (int) ((long) end * i / parts));
+            while (b < end && buf[b] != '\n' && buf[b] != '\r') b++;
+            bounds[i] = Math.min(end, b + 1);
+        }
+        bounds[parts] = end;
+        Charset charset = Charset.defaultCharset();
+        return IntStream.range(0, parts).parallel()
+                .mapToObj(i -> parseLines(new String(buf, bounds[i], Math.max(0, bounds[i + 1] - bounds[i]), charset)))
+                .toArray(int[][]::new);
+    }
+
+    private static int[] parseLines(String text) {
+        int[] out = new int[64];
+        int n = 0;
+        int start = 0;
+        for (int i = 0; i <= text.length(); i++) {
+            if (i == text.length() || text.charAt(i) == '\n' || text.charAt(i) == '\r') {
+                if (i > start) {
+                    int v = TaskLengthReader.parseLength(text.substring(start, i));
+                    if (v > 0) {
+                        if (n == out.length) out = Arrays.copyOf(out, n * 2);
+                        out[n++] = v;
+                    }
+                }
+                start = i + 1;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    private static int lastLineBreak(byte[] buf, int length) {
+        for (int i = length - 1; i >= 0; i--) {
+            if (buf[i] == '\n' || buf[i] == '\r') return i;
+        }
+        return -1;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public int size() {
+        return lengths.length;
+    }
+
+    public int getLength(int i) {
+        return lengths[i];
+    }
+
+    public WorkloadProfile getProfile() {
+        return profile;
+    }
+
+    /** View read-only sebagai {@code List<Integer>} untuk kode yang masih memakai list. */
+    public List<Integer> asList() {
+        return listView(lengths);
+    }
+
+    /** View read-only atas array panjang tugas; nilai baru di-box saat dibaca. */
+    static List<Integer> listView(final int[] values) {
+        return new AbstractList<Integer>() {
+            @Override
+            public Integer get(int index) {
+                return values[index];
+            }
+
+            @Override
+            public int size() {
+                return values.length;
+            }
+        };
+    }
+
+    /** Iterator primitif atas panjang tugas, tanpa boxing. */
+    public PrimitiveIterator.OfInt iterator() {
+        return Arrays.stream(lengths).iterator();
+    }
+}
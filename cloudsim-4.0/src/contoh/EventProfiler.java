@@ -0,0 +1,186 @@
+package contoh;
+
+import org.cloudbus.cloudsim.core.CloudSimTags;
+import org.cloudbus.cloudsim.core.SimEntity;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.*;
+
+/**
+ * Penghitung event CloudSim per entitas dan per tag, untuk satu run. Setiap event dihitung;
+ * waktu proses hanya diukur pada satu dari {@code sampleEvery} event (dengan
+ * {@code System.nanoTime()}) lalu dimasukkan ke histogram log2, supaya overhead tetap kecil.
+ *
+ * Pencatatan dilakukan oleh {@link ReusableDatacenter#run()} dan
+ * {@link ReusableDatacenterBroker#run()} selama profiler {@link #start() aktif}; entitas internal
+ * CloudSim (CIS, shutdown) tidak ikut terhitung. Loop event CloudSim berjalan di satu thread,
+ * jadi counter biasa (tanpa sinkronisasi) sudah cukup.
+ */
+public class EventProfiler {
+
+    public static final String CSV_HEADER =
+            "scenario,taskCount,run,entity,tag,tagName,count,eventsPerSec,sampled,meanNs,p50Ns,p99Ns,maxNs\n";
+
+    private static final int BUCKETS = 64;
+    // Tag negatif (END_OF_SIMULATION = -1, ABRUPT_END_OF_SIMULATION = -2) disimpan dengan offset ini
+    private static final int TAG_OFFSET = 2;
+    private static final Set<String> NOT_TAGS = new HashSet<>(Arrays.asList("TRUE", "FALSE", "DEFAULT_BAUD_RATE"));
+    private static final Map<Integer, String> TAG_NAMES = tagNames();
+
+    private static EventProfiler active;
+
+    private final int sampleMask;
+    private final Map<String, EntityStats> entities = new LinkedHashMap<>();
+    private EntityStats[] byId = new EntityStats[16];
+    private long events = 0;
+    private long startNanos;
+    private long endNanos;
+
+    /** @param sampleEvery dibulatkan ke pangkat dua terdekat ke atas */
+    public EventProfiler(int sampleEvery) {
+        int n = Integer.highestOneBit(Math.max(1, sampleEvery - 1)) << 1;
+        this.sampleMask = (sampleEvery <= 1) ? 0 : n - 1;
+    }
+
+    public static EventProfiler getActive() {
+        return active;
+    }
+
+    public void start() {
+        startNanos = System.nanoTime();
+        active = this;
+    }
+
+    public void stop() {
+        endNanos = System.nanoTime();
+        if (active == this) active = null;
+    }
+
+    /** Dipanggil sebelum event diproses; -1 jika event ini tidak di-sample waktunya. */
+    long sampleStart() {
+        return ((events++ & sampleMask) == 0) ? System.nanoTime() : -1L;
+    }
+
+    void record(SimEntity entity, int tag, long sampleStart) {
+        long nanos = (sampleStart >= 0) ? System.nanoTime() - sampleStart : -1L;
+        entityStats(entity).tag(tag).add(nanos);
+    }
+
+    private EntityStats entityStats(SimEntity entity) {
+        int id = entity.getId();
+        if (id >= byId.length) byId = Arrays.copyOf(byId, Math.max(id + 1, byId.length * 2));
+        EntityStats stats = byId[id];
+        if (stats == null || !stats.name.equals(entity.getName())) {
+            stats = entities.computeIfAbsent(entity.getName(), EntityStats::new);
+            byId[id] = stats;
+        }
+        return stats;
+    }
+
+    public long getEventCount() {
+        return events;
+    }
+
+    /** Baris CSV ({@link #CSV_HEADER}): satu per (entitas, tag), ditambah satu baris total "ALL". */
+    public String toCsvRows(String scenario, int taskCount, int run) {
+        double seconds = Math.max(1, endNanos - startNanos) / 1e9;
+        StringBuilder sb = new StringBuilder();
+        TagStats total = new TagStats();
+        for (EntityStats e : entities.values()) {
+            for (int i = 0; i < e.tags.length; i++) {
+                TagStats t = e.tags[i];
+                if (t == null) continue;
+                int tag = i - TAG_OFFSET;
+                appendRow(sb, scenario, taskCount, run, e.name, String.valueOf(tag), tagName(tag), t, seconds);
+                total.merge(t);
+            }
+        }
+        appendRow(sb, scenario, taskCount, run, "ALL", "ALL", "ALL", total, seconds);
+        return sb.toString();
+    }
+
+    private static void appendRow(StringBuilder sb, String scenario, int taskCount, int run, String entity,
+            String tag, String tagName, TagStats t, double seconds) {
+        sb.append(String.format(Locale.US, "%s,%d,%d,%s,%s,%s,%d,%.1f,%d,%.0f,%d,%d,%d%n",
+                scenario, taskCount, run, entity, tag, tagName, t.count, t.count / seconds, t.sampled,
+                t.sampled > 0 ? (double) t.sumNanos / t.sampled : 0.0, t.quantile(0.5), t.quantile(0.99), t.maxNanos));
+    }
+
+    static String tagName(int tag) {
+        String name = TAG_NAMES.get(tag);
+        return name != null ? name : "TAG_" + tag;
+    }
+
+    /** Nama konstanta int publik di CloudSimTags dan ExperimentTags, untuk label tag di CSV. */
+    private static Map<Integer, String> tagNames() {
+        Map<Integer, String> names = new HashMap<>();
+        for (Class<?> cls : new Class<?>[] {CloudSimTags.class, ExperimentTags.class}) {
+            for (Field f : cls.getDeclaredFields()) {
+                int mod = f.getModifiers();
+                if (f.getType() != int.class || !Modifier.isStatic(mod) || !Modifier.isPublic(mod)) continue;
+                // Bukan tag event: nilai boolean dan konstanta konfigurasi yang kebetulan sama dengan tag
+                if (NOT_TAGS.contains(f.getName())) continue;
+                try {
+                    names.putIfAbsent(f.getInt(null), f.getName());
+                } catch (IllegalAccessException e) {
+                    // konstanta yang tidak bisa dibaca cukup ditampilkan sebagai TAG_n
+                }
+            }
+        }
+        return names;
+    }
+
+    private static final class EntityStats {
+        final String name;
+        TagStats[] tags = new TagStats[64];
+
+        EntityStats(String name) {
+            this.name = name;
+        }
+
+        TagStats tag(int tag) {
+            int i = Math.max(0, tag + TAG_OFFSET);
+            if (i >= tags.length) tags = Arrays.copyOf(tags, Math.max(i + 1, tags.length * 2));
+            TagStats t = tags[i];
+            if (t == null) tags[i] = t = new TagStats();
+            return t;
+        }
+    }
+
+    private static final class TagStats {
+        long count;
+        long sampled;
+        long sumNanos;
+        long maxNanos;
+        final long[] buckets = new long[BUCKETS];
+
+        void add(long nanos) {
+            count++;
+            if (nanos < 0) return;
+            sampled++;
+            sumNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+            buckets[64 - Long.numberOfLeadingZeros(nanos)]++;
+        }
+
+        void merge(TagStats o) {
+            count += o.count;
+            sampled += o.sampled;
+            sumNanos += o.sumNanos;
+            maxNanos = Math.max(maxNanos, o.maxNanos);
+            for (int b = 0; b < BUCKETS; b++) buckets[b] += o.buckets[b];
+        }
+
+        /** Batas atas bucket log2 yang memuat kuantil q (presisi faktor dua). */
+        long quantile(double q) {
+            if (sampled == 0) return 0;
+            long rank = (long) Math.ceil(q * sampled);
+            long seen = 0;
+            for (int b = 0; b < BUCKETS; b++) {
+                seen += buckets[b];
+                if (seen >= rank) return Math.min(maxNanos, b == 0 ? 0 : (1L << b) - 1);
+            }
+            return maxNanos;
+        }
+    }
+}
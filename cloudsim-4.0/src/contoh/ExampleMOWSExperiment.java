@@ -41,6 +41,14 @@ public class ExampleMOWSExperiment {
     
     // Konstanta: Jumlah pengulangan per skenario (10 kali)
     static final int NUM_RUNS = 10; 
+
+    // Replikasi adaptif: ulangi run (MIN_RUNS..MAX_RUNS) sampai CI 95% setiap kolom di CI_COLUMNS
+    // lebih sempit dari CI_TARGET x rata-ratanya. Jika false, selalu NUM_RUNS.
+    static final boolean ADAPTIVE_RUNS = false;
+    static final int MIN_RUNS = 3;
+    static final int MAX_RUNS = 30;
+    static final double CI_TARGET = 0.05;
+    static final int[] CI_COLUMNS = {9, 8}; // makespan, throughput (indeks kolom CSV detail)
     
     // --- PENGATURAN DATASET (Diatur untuk SDSC) ---
     static final int DATASET_MODE = 2; // MODE SDSC AKTIF
@@ -51,97 +59,479 @@ public class ExampleMOWSExperiment {
 
     // Jika DATASET_MODE = 2 (Diaktifkan)
     static final String SDSC_FILE = "./datasets/SDSC/SDSC7395.txt"; 
+
+    // "none" = seluruh trace SDSC sekali; "reservoir" atau "stratified" = subset bertingkat dari trace
+    // untuk setiap jumlah di TASK_COUNTS (lihat TraceSampler), agar kurvanya sebanding dengan dataset acak
+    static final String SDSC_SAMPLING = "none";
+    static TraceSampler.NestedSample sdscSample;
+
+    // Jika DATASET_MODE = 3: tugas dibangkitkan di memori untuk setiap jumlah di TASK_COUNTS (boleh sampai 10^8).
+    // "simple" (uniform 10.000-50.000), "stratified" (proporsi kelas SDSC), atau "sdsc" (dicocokkan ke profil SDSC_FILE)
+    static final String SYNTHETIC_KIND = "stratified";
     
     // Random seed for reproducibility
     static final long SEED = 12345L;
-    static final Random RAND = new Random(SEED);
+    static final ReplayableRandom RAND = new ReplayableRandom(SEED);
     
+    // Bobot & normalisasi MOWS (defaults() = nilai asli; hasil MOWSTuner bisa dipasang di sini)
+    static final MOWSParameters MOWS_PARAMS = MOWSParameters.defaults();
+
+    // Sesuaikan maxTaskLength MOWS dengan profil dataset (WorkloadProfile) yang sedang dipakai
+    static final boolean AUTO_CALIBRATE_MOWS = false;
+    static MOWSParameters activeMowsParams = MOWS_PARAMS;
+
+    // Diisi ExperimentDaemon per permintaan: dataset & parameter MOWS menggantikan konfigurasi di atas
+    static int[] lengthsOverride;
+    static MOWSParameters mowsParamsOverride;
+
+    // Kebijakan yang dibandingkan per skenario (tambahkan GA, PSO, ACO untuk membandingkan metaheuristik)
+    static final SchedulingPolicy[] POLICIES = {SchedulingPolicy.MOWS, SchedulingPolicy.ROUND_ROBIN};
+
     // ROUND-ROBIN: Indeks VM berikutnya yang akan dipilih
     static int nextVmIndex = 0; 
 
+    // Pakai ulang datacenter & broker antar run (reset CloudSim, bukan membuat entitas baru)
+    static final boolean REUSE_SIMULATION = true;
+    static SimulationSession session;
+
+    // Kirim cloudlet per datacenter dalam satu event & terima hasilnya per batch
+    static final boolean BATCH_SUBMISSION = true;
+
+    // Baca dataset bertahap: hanya STREAM_WINDOW cloudlet yang hidup bersamaan (butuh BATCH_SUBMISSION).
+    // Window yang lebih kecil dari jumlah tugas membuat tugas masuk bertahap, bukan semuanya di t=0.
+    static final boolean STREAMING_SOURCE = false;
+    static final int STREAM_WINDOW = 20000;
+
+    // Simpan tugas di kolom primitif (CompactCloudletStore) dan buat objek Cloudlet hanya per window.
+    // Penjadwalan tetap dilakukan di awal seperti mode list; COMPACT_OFF_HEAP memindahkan kolom ke luar heap.
+    static final boolean COMPACT_STORE = false;
+    static final boolean COMPACT_OFF_HEAP = false;
+
+    // Baca dataset sebagai log SWF dan kirim cloudlet pada waktu submit-nya (dataset satu kolom = semua tiba di t=0).
+    // Dengan CLOUDLET_SCHEDULER "TimeShared" waktu tunggu tetap 0; pakai "SpaceShared" agar antrean terlihat.
+    static final boolean TRACE_ARRIVALS = false;
+    static final int TRACE_LOOKAHEAD = 1000;
+
+    // Pada mode TRACE_ARRIVALS, jalankan MOWS online (VM dipilih saat tugas tiba berdasarkan beban VM)
+    static final boolean ONLINE_MOWS = false;
+
+    // Pakai ulang hasil run yang masukannya identik (dataset, topologi, kebijakan + parameter, state RAND/Round-Robin,
+    // bytecode kelas) dari outputs/cache/results; hanya sel yang baru atau berubah yang disimulasikan
+    static final boolean RESULT_CACHE = true;
+    static ResultCache resultCache;
+    // Diset oleh MacroBenchmark: setiap run tetap disimulasikan walau hasilnya sudah ada di cache
+    static boolean bypassResultCache;
+    static final Map<Integer, String> datasetDigests = new HashMap<>();
+
+    // Catat setiap run yang selesai di outputs/<mode>/sweep_journal.tsv; menjalankan ulang driver dengan
+    // spec yang sama melanjutkan sweep dari run terakhir yang tercatat
+    static final boolean SWEEP_JOURNAL = true;
+    static SweepJournal journal;
+
+    // Catat wall time, CPU, dan alokasi per fase setiap run ke mows_rr_experiment_phases.csv (dan event JFR contoh.Phase)
+    static final boolean PHASE_TIMING = true;
+    static PhaseTimer runTimer;
+    static final StringBuilder phasesCsv = new StringBuilder(PhaseTimer.CSV_HEADER);
+    // Baris fase run terakhir (dibaca MacroBenchmark; runCell tidak menyimpan phasesCsv)
+    static String lastRunPhases = "";
+
+    // Hitung event CloudSim per entitas & tag selama simulasi (waktu di-sample 1 dari EVENT_SAMPLE_EVERY event),
+    // ditulis ke mows_rr_experiment_events.csv
+    static final boolean PROFILE_EVENTS = false;
+    static final int EVENT_SAMPLE_EVERY = 16;
+    static EventProfiler eventProfiler;
+    static final StringBuilder eventsCsv = new StringBuilder(EventProfiler.CSV_HEADER);
+
+    // Progres sweep lewat MBean contoh:type=SweepProgress dan satu baris console setiap PROGRESS_INTERVAL_SEC detik
+    static final boolean PROGRESS_REPORT = true;
+    static final int PROGRESS_INTERVAL_SEC = 30;
+
+    // Tambahkan baris detil setiap sweep ke outputs/<mode>/results.store (kolom biner, lihat ResultStore)
+    static final boolean RESULT_STORE = true;
+
+    // Tulis (cloudletId, vmId, length, submit, start, finish, cpuTime) setiap cloudlet ke
+    // outputs/<mode>/traces/<skenario>_<tasks>_<run>.cltrace (lihat CloudletTraceReader); melewati result cache
+    static final boolean CLOUDLET_TRACE = false;
+
+    // Log simulasi asinkron ke outputs/<mode>/simulation_log.bin (baca dengan AsyncSimLog <file>): event entitas
+    // (DEBUG) dan baris Log CloudSim (INFO) lewat ring buffer, bukan printLine sinkron ke stdout
+    static final boolean ASYNC_LOG = false;
+    static final AsyncSimLog.Level ASYNC_LOG_LEVEL = AsyncSimLog.Level.DEBUG;
+    static final String[] ASYNC_LOG_ENTITIES = {}; // prefix nama entitas, kosong = semua
+    static final int ASYNC_LOG_CAPACITY = 1 << 16;
+    static AsyncSimLog simLog;
+
+    // Jika diisi (CSV detil/ringkasan atau results.store), hasil sweep dibandingkan dengan baseline ini lewat
+    // RegressionGate; laporan ditulis ke outputs/<mode>/regression_report.csv
+    static final String REGRESSION_BASELINE = "";
+
+    static final String DETAIL_CSV_HEADER = "scenario,taskCount,run,totalCpuTime,totalWaitTime,avgStartTime,avgExecutionTime,avgFinishTime,throughput,makespan,imbalanceDegree,resourceUtilization,totalEnergy\n";
+    static final String SUMMARY_CSV_HEADER = "scenario,taskCount,avgTotalCpuTime,avgTotalWaitTime,avgAvgStartTime,avgAvgExecutionTime,avgAvgFinishTime,avgThroughput,avgMakespan,avgImbalanceDegree,avgResourceUtilization,avgTotalEnergy\n";
+
+    // Nama skenario & data SDSC yang sudah dibaca; diisi prepareSweep()
+    static String scenarioMode;
+    static List<Integer> sdscLengths;
+
     public static void main(String[] args) {
         try {
             // Header untuk Output Detil (10 percobaan)
-            String csvOut = "scenario,taskCount,run,totalCpuTime,totalWaitTime,avgStartTime,avgExecutionTime,avgFinishTime,throughput,makespan,imbalanceDegree,resourceUtilization,totalEnergy\n";
+            String csvOut = DETAIL_CSV_HEADER;
 
             // Header untuk Tabel Hasil Akhir (Rata-Rata)
-            String finalTable = "scenario,taskCount,avgTotalCpuTime,avgTotalWaitTime,avgAvgStartTime,avgAvgExecutionTime,avgAvgFinishTime,avgThroughput,avgMakespan,avgImbalanceDegree,avgResourceUtilization,avgTotalEnergy\n";
+            String finalTable = SUMMARY_CSV_HEADER;
 
             // Tentukan set tugas yang akan diproses
-            List<Integer> tasksToProcess = new ArrayList<>();
-            List<Integer> initialLengths = null;
-            String scenarioMode;
-
-            if (DATASET_MODE == 2) {
-                // --- MODE SDSC: Baca data SDSC sekali ---
-                initialLengths = readSDSCData();
-                if (initialLengths.isEmpty()) {
-                     System.err.println("Gagal memuat data SDSC. Eksperimen dibatalkan.");
-                     return;
+            List<Integer> tasksToProcess = prepareSweep();
+            if (tasksToProcess == null) return;
+
+            String baseDir = outputDir();
+            String spec = (SWEEP_JOURNAL || RESULT_STORE) ? sweepSpec(scenarioMode, tasksToProcess) : null;
+
+            if (SWEEP_JOURNAL) {
+                journal = SweepJournal.open(new java.io.File(baseDir, "sweep_journal.tsv"), spec);
+                if (journal.getRecoveredRuns() > 0) {
+                    System.out.println("Melanjutkan sweep: " + journal.getRecoveredRuns() + " run diambil dari journal.");
                 }
-                tasksToProcess.add(initialLengths.size()); 
-                scenarioMode = "SDSC";
-            } else {
-                // --- MODE STRUCTURED (Jika DATASET_MODE diubah ke 1) ---
-                for(int t : TASK_COUNTS) tasksToProcess.add(t);
-                scenarioMode = STRUCTURED_BASE_PATH.contains("Stratified") ? "Stratified" : "Simple";
+            }
+
+            if (ASYNC_LOG) {
+                simLog = new AsyncSimLog(java.nio.file.Paths.get(baseDir, "simulation_log.bin"), ASYNC_LOG_CAPACITY,
+                        ASYNC_LOG_LEVEL, ASYNC_LOG_ENTITIES);
+                simLog.start();
+            }
+
+            SweepProgress progress = null;
+            if (PROGRESS_REPORT) {
+                int cells = tasksToProcess.size() * POLICIES.length;
+                progress = new SweepProgress(cells, (long) cells * (ADAPTIVE_RUNS ? MAX_RUNS : NUM_RUNS), ADAPTIVE_RUNS);
+                progress.start(PROGRESS_INTERVAL_SEC);
             }
 
             for (int tasks : tasksToProcess) {
                 // Gunakan lengths yang sudah dibaca (SDSC) atau null (Structured)
-                List<Integer> currentLengths = (DATASET_MODE == 2) ? initialLengths : null;
+                List<Integer> currentLengths = cellLengths(tasks);
+
+                // --- MOWS, Baseline (Round-Robin), dan kebijakan lain di POLICIES ---
+                for (SchedulingPolicy policy : POLICIES) {
+                    String results = runMultipleExperiments(tasks, policy, currentLengths);
+                    csvOut += results;
+                    finalTable += calculateAndAppendAverage(tasks, policy.getSummaryPrefix() + scenarioMode, results);
+                    SweepProgress.cellFinished();
+                }
 
-                // --- MOWS ---
-                String mowsResults = runMultipleExperiments(tasks, true, currentLengths);
-                csvOut += mowsResults;
-                finalTable += calculateAndAppendAverage(tasks, "MOWS_" + scenarioMode, mowsResults);
+                System.out.printf("Finished %s experiments for tasks=%d (%s runs each)%n", scenarioMode, tasks,
+                        ADAPTIVE_RUNS ? MIN_RUNS + ".." + MAX_RUNS : String.valueOf(NUM_RUNS));
+            }
 
-                // --- Baseline (Round-Robin) ---
-                String baselineResults = runMultipleExperiments(tasks, false, currentLengths);
-                csvOut += baselineResults;
-                finalTable += calculateAndAppendAverage(tasks, "Baseline_RR_" + scenarioMode, baselineResults);
+            // Tulis file CSV detil dan ringkasan
+            writeResultCsvs(baseDir, spec, csvOut, finalTable);
 
-                System.out.printf("Finished %s experiments for tasks=%d (%d runs each)%n", scenarioMode, tasks, NUM_RUNS);
+            if (PHASE_TIMING) {
+                String phasesFile = baseDir + "/mows_rr_experiment_phases.csv";
+                try (FileWriter fw = new FileWriter(phasesFile)) {
+                    fw.write(phasesCsv.toString());
+                }
+                System.out.println("Phase timing CSV saved at: " + phasesFile);
             }
 
-            // Tulis file CSV detil dan ringkasan
-            String baseDir = System.getProperty("user.dir") + "/outputs/" + scenarioMode.toLowerCase();
-            
-            // 👇 PERBAIKAN ERROR: Menggunakan java.io.File secara eksplisit
-            new java.io.File(baseDir).mkdirs(); 
-            
-            String detailFile = baseDir + "/mows_rr_experiment_details.csv";
-            try (FileWriter fw = new FileWriter(detailFile)) {
-                fw.write(csvOut);
+            if (PROFILE_EVENTS) {
+                String eventsFile = baseDir + "/mows_rr_experiment_events.csv";
+                try (FileWriter fw = new FileWriter(eventsFile)) {
+                    fw.write(eventsCsv.toString());
+                }
+                System.out.println("Event profile CSV saved at: " + eventsFile);
             }
-            System.out.println("Detailed CSV saved at: " + detailFile);
 
-            String summaryFile = baseDir + "/mows_rr_experiment_summary.csv";
-            try (FileWriter fw = new FileWriter(summaryFile)) {
-                fw.write(finalTable);
+            if (!REGRESSION_BASELINE.isEmpty()) {
+                checkRegression(baseDir);
             }
-            System.out.println("Summary CSV (Rata-Rata) saved at: " + summaryFile);
 
+            if (resultCache != null) {
+                System.out.printf("Result cache: %d run dipakai ulang, %d disimulasikan%n", resultCache.getHits(), resultCache.getMisses());
+            }
+            if (progress != null) {
+                progress.stop();
+            }
             System.out.println("All experiments completed.");
         } catch (Exception e) {
             e.printStackTrace();
+        } finally {
+            closeQuietly(journal);
+            closeQuietly(simLog);
+        }
+    }
+
+    private static void checkRegression(String baseDir) throws IOException {
+        String reportFile = baseDir + "/regression_report.csv";
+        int status;
+        try (PrintStream report = new PrintStream(new FileOutputStream(reportFile), false, "UTF-8")) {
+            // Fase kandidat ditemukan sendiri di sebelah CSV detil; baseline memakai phases di sebelah file baseline jika ada
+            status = RegressionGate.run(new String[] {REGRESSION_BASELINE, baseDir + "/mows_rr_experiment_details.csv"}, report);
+        }
+        System.out.println("Regression report saved at: " + reportFile + (status == 0 ? " (lolos)" : " (ADA REGRESI)"));
+    }
+
+    /**
+     * Menentukan jumlah tugas per sel dan nama skenario sesuai DATASET_MODE, sekaligus membaca
+     * data SDSC (dan sampelnya) sekali. Mengembalikan null jika dataset SDSC gagal dimuat.
+     */
+    static List<Integer> prepareSweep() throws IOException {
+        List<Integer> tasksToProcess = new ArrayList<>();
+
+        if (DATASET_MODE == 2) {
+            // --- MODE SDSC: Baca data SDSC sekali ---
+            runTimer = PHASE_TIMING ? new PhaseTimer("SDSC", 0, 0) : null;
+            phase("readDataset");
+            if (TRACE_ARRIVALS) {
+                // Log dibaca SwfReader saat simulasi (bisa SWF 18 kolom); di sini cukup dihitung jumlah job-nya
+                if (!"none".equals(SDSC_SAMPLING)) {
+                    throw new IllegalStateException("TRACE_ARRIVALS memakai seluruh trace; set SDSC_SAMPLING = \"none\"");
+                }
+                int jobs = countTraceJobs();
+                finishTimer();
+                if (jobs == 0) {
+                    System.err.println("Gagal memuat trace SDSC. Eksperimen dibatalkan.");
+                    return null;
+                }
+                tasksToProcess.add(jobs);
+                scenarioMode = "SDSC";
+                return tasksToProcess;
+            }
+            sdscLengths = readSDSCData();
+            if (sdscLengths.isEmpty()) {
+                 System.err.println("Gagal memuat data SDSC. Eksperimen dibatalkan.");
+                 return null;
+            }
+            if ("none".equals(SDSC_SAMPLING)) {
+                tasksToProcess.add(sdscLengths.size());
+            } else {
+                phase("sampleDataset");
+                sdscSample = sampleSDSC();
+                for(int t : TASK_COUNTS) tasksToProcess.add(t);
+            }
+            finishTimer();
+            scenarioMode = "SDSC";
+        } else if (DATASET_MODE == 3) {
+            // --- MODE SINTETIS: dibangkitkan per jumlah tugas, tanpa file ---
+            for(int t : TASK_COUNTS) tasksToProcess.add(t);
+            scenarioMode = "Synthetic";
+        } else {
+            // --- MODE STRUCTURED (Jika DATASET_MODE diubah ke 1) ---
+            for(int t : TASK_COUNTS) tasksToProcess.add(t);
+            scenarioMode = STRUCTURED_BASE_PATH.contains("Stratified") ? "Stratified" : "Simple";
+        }
+        return tasksToProcess;
+    }
+
+    /** Panjang tugas yang diteruskan ke run untuk sel ini (null = dibaca per run sesuai DATASET_MODE). */
+    static List<Integer> cellLengths(int tasks) {
+        if (sdscSample != null) {
+            return Dataset.listView(sdscSample.subset(tasks));
+        }
+        return (DATASET_MODE == 2) ? sdscLengths : null;
+    }
+
+    static String outputDir() {
+        String baseDir = System.getProperty("user.dir") + "/outputs/" + scenarioMode.toLowerCase();
+        
+        // 👇 PERBAIKAN ERROR: Menggunakan java.io.File secara eksplisit
+        new java.io.File(baseDir).mkdirs(); 
+        return baseDir;
+    }
+
+    /**
+     * Menulis CSV detil & ringkasan, lalu menambahkan baris detil ke result store dengan label
+     * {@code mode@spec}. Sweep yang sama (mis. diulang dari journal) hanya disimpan sekali.
+     */
+    static void writeResultCsvs(String baseDir, String spec, String csvOut, String finalTable) throws IOException {
+        String detailFile = baseDir + "/mows_rr_experiment_details.csv";
+        try (FileWriter fw = new FileWriter(detailFile)) {
+            fw.write(csvOut);
+        }
+        System.out.println("Detailed CSV saved at: " + detailFile);
+
+        String summaryFile = baseDir + "/mows_rr_experiment_summary.csv";
+        try (FileWriter fw = new FileWriter(summaryFile)) {
+            fw.write(finalTable);
+        }
+        System.out.println("Summary CSV (Rata-Rata) saved at: " + summaryFile);
+
+        if (RESULT_STORE) {
+            try (ResultStore store = ResultStore.open(new java.io.File(baseDir, "results.store"))) {
+                String label = scenarioMode + "@" + spec;
+                if (store.getSweeps().contains(label)) {
+                    System.out.printf("Result store: sweep ini sudah tersimpan (%d total) di %s%n", store.size(), store.getDirectory());
+                } else {
+                    int added = store.append(label, csvOut);
+                    System.out.printf("Result store: %d baris ditambahkan (%d total) di %s%n", added, store.size(), store.getDirectory());
+                }
+            }
         }
     }
 
     // --- Metode Pembantu untuk Pengulangan Eksperimen ---
 
-    private static String runMultipleExperiments(int taskCount, boolean useMOWS, List<Integer> preLoadedLengths) throws Exception {
+    private static String runMultipleExperiments(int taskCount, SchedulingPolicy policy, List<Integer> preLoadedLengths) throws Exception {
         StringBuilder results = new StringBuilder();
         nextVmIndex = 0; 
+        ReplicationStats stats = new ReplicationStats(CI_COLUMNS.length);
+        int maxRuns = ADAPTIVE_RUNS ? MAX_RUNS : NUM_RUNS;
+
+        // Run yang sudah ada di journal dipakai apa adanya, lalu state sesudahnya dipulihkan
+        List<SweepJournal.Run> journaled = (journal != null) ? journal.getRuns(taskCount, policy.name()) : Collections.<SweepJournal.Run>emptyList();
+        boolean complete = false;
+        int run = 1;
+        for (SweepJournal.Run recorded : journaled) {
+            if (complete || run > maxRuns) break;
+            results.append(recorded.row).append("\n");
+            RAND.setState(recorded.randomState);
+            nextVmIndex = recorded.nextVmIndex;
+            complete = addReplication(stats, recorded.row, run);
+            SweepProgress.runReplayed();
+            run++;
+        }
         
-        for (int run = 1; run <= NUM_RUNS; run++) {
+        for (; !complete && run <= maxRuns; run++) {
             CloudSim.terminateSimulation(); 
-            String runRes = runExperiment(taskCount, useMOWS, run, preLoadedLengths);
+            SweepProgress.runStarted(policy.getScenarioName(), taskCount, run);
+            int cacheHits = (resultCache != null) ? resultCache.getHits() : 0;
+            String runRes = runExperiment(taskCount, policy, run, preLoadedLengths);
+            if (resultCache != null && resultCache.getHits() > cacheHits) {
+                SweepProgress.runReplayed();
+            } else {
+                SweepProgress.runFinished();
+            }
             results.append(runRes).append("\n");
+            if (journal != null) {
+                journal.appendRun(taskCount, policy.name(), runRes, RAND.getState(), nextVmIndex);
+            }
+            complete = addReplication(stats, runRes, run);
+        }
+        if (ADAPTIVE_RUNS) {
+            System.out.printf("%s tasks=%d: %d run (%s)%n", policy.getScenarioName(), taskCount, stats.getCount(), stats);
         }
         return results.toString();
     }
 
+    /** Menambahkan satu run ke statistik replikasi; true jika replikasi adaptif sudah cukup. */
+    private static boolean addReplication(ReplicationStats stats, String row, int run) {
+        if (!ADAPTIVE_RUNS) return false;
+        String[] parts = row.split(",");
+        double[] values = new double[CI_COLUMNS.length];
+        for (int i = 0; i < values.length; i++) values[i] = Double.parseDouble(parts[CI_COLUMNS[i]]);
+        stats.add(values);
+        return run >= MIN_RUNS && stats.isConverged(CI_TARGET);
+    }
+
+    /**
+     * Satu sel untuk {@link ExperimentDaemon}: {@code runs} run atas {@code lengths} dengan RAND di-seed
+     * ulang, setiap baris run diteruskan ke {@code rowSink} begitu selesai. Mengembalikan baris rata-rata.
+     * Topologi ({@link SimulationSession}), cache dataset dan JIT tetap hangat antar pemanggilan.
+     */
+    static synchronized String runCell(int[] lengths, SchedulingPolicy policy, int runs, long seed, MOWSParameters params,
+            java.util.function.Consumer<String> rowSink) throws Exception {
+        lengthsOverride = lengths;
+        mowsParamsOverride = params;
+        try {
+            RAND.setSeed(seed);
+            nextVmIndex = 0;
+            StringBuilder results = new StringBuilder();
+            for (int run = 1; run <= runs; run++) {
+                CloudSim.terminateSimulation();
+                String row = runExperiment(lengths.length, policy, run, null);
+                results.append(row).append("\n");
+                rowSink.accept(row);
+            }
+            // Daemon tidak menulis CSV fase/event, jangan biarkan buffer-nya tumbuh terus
+            phasesCsv.setLength(PhaseTimer.CSV_HEADER.length());
+            eventsCsv.setLength(EventProfiler.CSV_HEADER.length());
+            return calculateAndAppendAverage(lengths.length, policy.getSummaryPrefix() + "Daemon", results.toString()).trim();
+        } finally {
+            lengthsOverride = null;
+            mowsParamsOverride = null;
+        }
+    }
+
+    // --- Sweep terdistribusi (SweepCoordinator / SweepWorker) ---
+
+    /**
+     * Merencanakan semua run sweep secara berurutan tanpa mensimulasikannya: hanya dataset dan penjadwal
+     * yang dijalankan, karena hanya itu yang memajukan RAND dan indeks Round-Robin. State awal tiap run
+     * dicatat supaya run bisa dikerjakan di proses mana pun dengan hasil sama seperti sweep serial.
+     */
+    static List<PlannedRun> planRuns(List<Integer> tasksToProcess) throws Exception {
+        if (STREAMING_SOURCE || TRACE_ARRIVALS || ADAPTIVE_RUNS) {
+            throw new IllegalStateException("Sweep terdistribusi hanya untuk mode list/compact dengan NUM_RUNS tetap");
+        }
+        List<PlannedRun> plan = new ArrayList<>();
+        for (int tasks : tasksToProcess) {
+            List<Integer> lengths = cellLengths(tasks);
+            String digest = datasetDigest(tasks);
+            for (SchedulingPolicy policy : POLICIES) {
+                nextVmIndex = 0;
+                for (int run = 1; run <= NUM_RUNS; run++) {
+                    plan.add(new PlannedRun(plan.size(), tasks, policy, run, RAND.getState(), nextVmIndex, digest));
+                    scheduleOnly(tasks, policy, lengths);
+                }
+            }
+        }
+        return plan;
+    }
+
+    /** Bagian run yang memakai RAND / nextVmIndex, dengan urutan pemakaian yang sama seperti simulateExperiment. */
+    private static void scheduleOnly(int taskCount, SchedulingPolicy policy, List<Integer> preLoadedLengths) throws Exception {
+        activeMowsParams = AUTO_CALIBRATE_MOWS ? MOWS_PARAMS.calibratedTo(profileFor(taskCount)) : MOWS_PARAMS;
+        List<Vm> vmList = createVmList(0, NUM_DATACENTER);
+        if (COMPACT_STORE) {
+            CompactCloudletStore store;
+            PrimitiveIterator.OfInt lengths = openTaskLengths(taskCount);
+            try {
+                store = CompactCloudletStore.fromLengths(lengths, false, taskCount);
+            } finally {
+                closeQuietly(lengths);
+            }
+            assignCloudlets(policy, store, vmList);
+        } else {
+            List<Integer> lengths = getTaskLengths(taskCount, preLoadedLengths);
+            assignCloudlets(policy, createCloudletList(0, vmList, 1, lengths), vmList);
+        }
+    }
+
+    /** Menjalankan satu run hasil {@link #planRuns} di proses ini; dataset lokal harus sama dengan milik coordinator. */
+    static synchronized String runPlanned(PlannedRun planned) throws Exception {
+        String digest = datasetDigest(planned.taskCount);
+        if (!digest.equals(planned.datasetDigest)) {
+            throw new IllegalStateException("Dataset tasks=" + planned.taskCount + " berbeda dengan milik coordinator");
+        }
+        RAND.setState(planned.randomState);
+        nextVmIndex = planned.nextVmIndex;
+        CloudSim.terminateSimulation();
+        return runExperiment(planned.taskCount, planned.policy, planned.run, cellLengths(planned.taskCount));
+    }
+
+    /** Id spec sweep milik proses ini; coordinator & worker harus sama. */
+    static String sweepSpecId(List<Integer> tasksToProcess) throws IOException {
+        return sweepSpec(scenarioMode, tasksToProcess);
+    }
+
+    /** Menyusun baris hasil run (urutan sama dengan plan) menjadi CSV detil & ringkasan standar. */
+    static void writePlannedResults(List<PlannedRun> plan, String[] rows) throws IOException {
+        StringBuilder csvOut = new StringBuilder(DETAIL_CSV_HEADER);
+        StringBuilder finalTable = new StringBuilder(SUMMARY_CSV_HEADER);
+        StringBuilder results = new StringBuilder();
+        Set<Integer> tasksToProcess = new LinkedHashSet<>();
+        for (PlannedRun planned : plan) {
+            tasksToProcess.add(planned.taskCount);
+            results.append(rows[planned.index]).append("\n");
+            if (planned.run == NUM_RUNS) {
+                csvOut.append(results);
+                finalTable.append(calculateAndAppendAverage(planned.taskCount, planned.policy.getSummaryPrefix() + scenarioMode, results.toString()));
+                results.setLength(0);
+            }
+        }
+        writeResultCsvs(outputDir(), sweepSpec(scenarioMode, new ArrayList<>(tasksToProcess)), csvOut.toString(), finalTable.toString());
+    }
+
     private static String calculateAndAppendAverage(int taskCount, String scenario, String runResults) {
         final int METRIC_COUNT = 10; 
         double[] totalMetrics = new double[METRIC_COUNT];
@@ -181,171 +571,382 @@ public class ExampleMOWSExperiment {
 
     // --- Metode Inti CloudSim ---
 
-    private static String runExperiment(int taskCount, boolean useMOWS, int run, List<Integer> preLoadedLengths) throws Exception {
-        int numUser = 1;
-        Calendar calendar = Calendar.getInstance();
-        boolean traceFlag = false;
-        CloudSim.init(numUser, calendar, traceFlag);
+    private static String runExperiment(int taskCount, SchedulingPolicy policy, int run, List<Integer> preLoadedLengths) throws Exception {
+        runTimer = PHASE_TIMING ? new PhaseTimer(policy.getScenarioName(), taskCount, run) : null;
+        if (simLog != null) simLog.beginRun(policy.getScenarioName(), taskCount, run);
+        try {
+            return cachedExperiment(taskCount, policy, run, preLoadedLengths);
+        } finally {
+            finishTimer();
+        }
+    }
 
-        List<Datacenter> datacenters = new ArrayList<>();
-        for (int d = 0; d < NUM_DATACENTER; d++) {
-            datacenters.add(createDatacenter("Datacenter_" + d));
+    /** Memulai fase berikutnya dari run yang sedang berjalan (tanpa efek jika PHASE_TIMING mati). */
+    private static void phase(String name) {
+        if (runTimer != null) runTimer.next(name);
+    }
+
+    private static void startEventProfiler() {
+        if (!PROFILE_EVENTS) return;
+        eventProfiler = new EventProfiler(EVENT_SAMPLE_EVERY);
+        eventProfiler.start();
+    }
+
+    private static void stopEventProfiler(String scenario, int taskCount, int run) {
+        if (eventProfiler == null) return;
+        eventProfiler.stop();
+        eventsCsv.append(eventProfiler.toCsvRows(scenario, taskCount, run));
+        eventProfiler = null;
+    }
+
+    private static void finishTimer() {
+        if (runTimer == null) return;
+        runTimer.finish();
+        lastRunPhases = runTimer.getCsvRows();
+        phasesCsv.append(lastRunPhases);
+        runTimer = null;
+    }
+
+    private static String cachedExperiment(int taskCount, SchedulingPolicy policy, int run, List<Integer> preLoadedLengths) throws Exception {
+        phase("calibrate");
+        MOWSParameters baseParams = (mowsParamsOverride != null) ? mowsParamsOverride : MOWS_PARAMS;
+        activeMowsParams = AUTO_CALIBRATE_MOWS ? baseParams.calibratedTo(profileFor(taskCount)) : baseParams;
+        // Trace per cloudlet hanya ada jika run benar-benar disimulasikan
+        if (!RESULT_CACHE || CLOUDLET_TRACE || bypassResultCache) {
+            return simulateExperiment(taskCount, policy, run, preLoadedLengths);
         }
 
-        DatacenterBroker broker = createBroker();
+        phase("cacheLookup");
+
+        if (resultCache == null) {
+            resultCache = new ResultCache(new java.io.File(System.getProperty("user.dir") + "/outputs/cache/results"));
+        }
+        String key = resultKey(taskCount, policy);
+        String prefix = policy.getScenarioName() + "," + taskCount + "," + run + ",";
+        ResultCache.Entry cached = resultCache.lookup(key);
+        if (cached != null) {
+            RAND.setState(cached.randomState);
+            nextVmIndex = cached.nextVmIndex;
+            return prefix + cached.metrics;
+        }
+
+        String row = simulateExperiment(taskCount, policy, run, preLoadedLengths);
+        phase("cacheStore");
+        resultCache.store(key, new ResultCache.Entry(row.substring(prefix.length()), RAND.getState(), nextVmIndex));
+        return row;
+    }
+
+    /**
+     * Key cache untuk satu run. Round-Robin tidak memakai RAND, jadi key-nya memakai indeks VM awal
+     * (run berurutan bergeser sebanyak taskCount mod jumlah VM); kebijakan lain memakai state RAND awal.
+     * Semua keacakan run harus berasal dari RAND (MOWS online juga: broker di-seed dari RAND setiap run),
+     * kalau tidak replikasi berikutnya mendapat key yang sama dan hasil run pertama dipakai ulang.
+     */
+    private static String resultKey(int taskCount, SchedulingPolicy policy) throws IOException {
+        ResultCache.KeyBuilder key = ResultCache.key()
+                .add(datasetDigest(taskCount))
+                .add(taskCount);
+        addSetup(key)
+                .add(policy.name())
+                .add(activeMowsParams.toCsvRow());
+        if (policy.isMetaheuristic()) {
+            MetaheuristicScheduler scheduler = policy.newScheduler();
+            key.add(scheduler.toString()).addClass(scheduler.getClass()).addClass(MetaheuristicScheduler.class).addClass(LoadAssignment.class);
+        }
+        if (policy == SchedulingPolicy.ROUND_ROBIN) {
+            key.add(nextVmIndex);
+        } else {
+            key.add(RAND.getState());
+        }
+        return key.build();
+    }
+
+    /** Topologi, mode driver, dan bytecode kelas simulator: bagian key yang sama untuk semua sel. */
+    private static ResultCache.KeyBuilder addSetup(ResultCache.KeyBuilder key) throws IOException {
+        key.add(String.format(Locale.US, "dc=%d hosts=%d vms=%d power=%d host=%d/%d/%d/%d/%d/%.3f vm=%d/%d/%d/%d/%d/%s cloudlet=%d/%d %s",
+                        NUM_DATACENTER, HOSTS_PER_DATACENTER, VMS_PER_HOST, POWER_PER_HOST,
+                        HOST_RAM, HOST_STORAGE, HOST_BW, HOST_PE, HOST_PE_MIPS, HOST_COST,
+                        VM_RAM, VM_STORAGE, VM_BW, VM_MIPS, VM_PES, VMM,
+                        CLOUDLET_FILESIZE, CLOUDLET_OUTPUTSIZE, CLOUDLET_SCHEDULER))
+                .add(String.format("reuse=%b batch=%b stream=%b/%d compact=%b/%b trace=%b/%d online=%b",
+                        REUSE_SIMULATION, BATCH_SUBMISSION, STREAMING_SOURCE, STREAM_WINDOW, COMPACT_STORE, COMPACT_OFF_HEAP,
+                        TRACE_ARRIVALS, TRACE_LOOKAHEAD, ONLINE_MOWS));
+        for (Class<?> cls : new Class<?>[] {ExampleMOWSExperiment.class, MOWSSelector.class, MetricsCollector.class,
+                ReusableDatacenter.class, ReusableDatacenterBroker.class, BatchDatacenter.class, BatchDatacenterBroker.class,
+                StreamingDatacenterBroker.class, ArrivalDatacenterBroker.class, OnlineMOWSBroker.class, CloudSim.class}) {
+            key.addClass(cls);
+        }
+        return key;
+    }
+
+    /**
+     * Id spec sweep untuk journal: semua yang menentukan isi sweep (dataset per jumlah tugas, kebijakan,
+     * jumlah run, seed, parameter MOWS, dan setup simulasi). Spec berbeda = journal baru.
+     */
+    private static String sweepSpec(String scenarioMode, List<Integer> tasksToProcess) throws IOException {
+        ResultCache.KeyBuilder key = ResultCache.key().add("sweep").add(scenarioMode).add(SEED)
+                .add(Arrays.toString(POLICIES)).add(MOWS_PARAMS.toCsvRow()).add(String.valueOf(AUTO_CALIBRATE_MOWS))
+                .add(ADAPTIVE_RUNS ? "adaptive " + MIN_RUNS + ".." + MAX_RUNS + " " + CI_TARGET + " " + Arrays.toString(CI_COLUMNS) : "runs " + NUM_RUNS);
+        for (int tasks : tasksToProcess) {
+            key.add(tasks).add(datasetDigest(tasks));
+        }
+        for (SchedulingPolicy policy : POLICIES) {
+            if (policy.isMetaheuristic()) key.add(policy.newScheduler().toString()).addClass(policy.newScheduler().getClass());
+        }
+        return addSetup(key).build();
+    }
+
+    /** Digest isi dataset untuk taskCount ini, dihitung sekali per proses. */
+    private static String datasetDigest(int taskCount) throws IOException {
+        if (lengthsOverride != null) {
+            return ResultCache.key().addInts(Arrays.stream(lengthsOverride).iterator()).build();
+        }
+        String digest = datasetDigests.get(taskCount);
+        if (digest != null) return digest;
+
+        ResultCache.KeyBuilder key = ResultCache.key();
+        if (DATASET_MODE == 1 || (TRACE_ARRIVALS && sdscSample == null)) {
+            // Mode structured & trace tidak dibaca lewat openTaskLengths, jadi yang di-hash adalah file-nya
+            String file = (DATASET_MODE == 2) ? SDSC_FILE : STRUCTURED_BASE_PATH + taskCount + STRUCTURED_FILE_EXT;
+            if (new java.io.File(file).isFile()) {
+                key.addFile(file);
+            } else {
+                key.add("generated:" + structuredGenerator().getName()).add(SEED);
+            }
+        } else {
+            PrimitiveIterator.OfInt lengths = openTaskLengths(taskCount);
+            try {
+                key.addInts(lengths);
+            } finally {
+                closeQuietly(lengths);
+            }
+        }
+        digest = key.build();
+        datasetDigests.put(taskCount, digest);
+        return digest;
+    }
+
+    private static String simulateExperiment(int taskCount, SchedulingPolicy policy, int run, List<Integer> preLoadedLengths) throws Exception {
+        phase("setup");
+        List<Datacenter> datacenters;
+        DatacenterBroker broker;
+        if (REUSE_SIMULATION) {
+            session = getSession();
+            session.reset();
+            datacenters = session.getDatacenters();
+            broker = session.getBroker();
+        } else {
+            int numUser = 1;
+            Calendar calendar = Calendar.getInstance();
+            boolean traceFlag = false;
+            CloudSim.init(numUser, calendar, traceFlag);
+
+            datacenters = new ArrayList<>();
+            for (int d = 0; d < NUM_DATACENTER; d++) {
+                datacenters.add(createDatacenter("Datacenter_" + d));
+            }
+            broker = createBroker();
+        }
         int brokerId = broker.getId();
 
+        List<Vm> vmList = createVmList(brokerId, datacenters.size());
+        broker.submitVmList(vmList);
+
+        MetricsCollector collector = new MetricsCollector();
+        CloudletTraceWriter trace = CLOUDLET_TRACE ? openCloudletTrace(policy, taskCount, run) : null;
+        collector.setTrace(trace);
+        try {
+            if (COMPACT_STORE) {
+                phase("load");
+                CompactCloudletStore store;
+                PrimitiveIterator.OfInt lengths = openTaskLengths(taskCount);
+                try {
+                    store = CompactCloudletStore.fromLengths(lengths, COMPACT_OFF_HEAP, taskCount);
+                } finally {
+                    closeQuietly(lengths);
+                }
+
+                phase("schedule");
+                assignCloudlets(policy, store, vmList);
+
+                // Hasil ditulis balik ke store oleh source; metrik dihitung saat cloudlet kembali, dengan urutan
+                // penjumlahan yang sama seperti mode list (CSV detil identik sampai digit terakhir)
+                phase("simulate");
+                startEventProfiler();
+                CloudletSource source = new CompactStoreCloudletSource(store, brokerId, 1, CLOUDLET_FILESIZE, CLOUDLET_OUTPUTSIZE);
+                ((StreamingDatacenterBroker) broker).setSource(source, STREAM_WINDOW, collector);
+                CloudSim.startSimulation();
+                CloudSim.stopSimulation();
+            } else if (TRACE_ARRIVALS) {
+                // Pembacaan & penjadwalan terjadi di dalam simulasi, jadi masuk fase "simulate"
+                phase("simulate");
+                startEventProfiler();
+                if (ONLINE_MOWS && policy == SchedulingPolicy.MOWS) {
+                    ((OnlineMOWSBroker) broker).setParameters(activeMowsParams);
+                    ((OnlineMOWSBroker) broker).setSeed(RAND.nextLong());
+                }
+                TraceCloudletSource source = new TraceCloudletSource(openTrace(taskCount), taskCount, brokerId, vmList, policy);
+                ((ArrivalDatacenterBroker) broker).setSource(source, TRACE_LOOKAHEAD, collector);
+                try {
+                    CloudSim.startSimulation();
+                    CloudSim.stopSimulation();
+                } finally {
+                    source.close();
+                }
+                if (ONLINE_MOWS && policy == SchedulingPolicy.MOWS) {
+                    OnlineMOWSBroker online = (OnlineMOWSBroker) broker;
+                    System.out.printf(Locale.US, "%s tasks=%d run=%d: %d keputusan online, rata-rata %.0f ns per keputusan%n",
+                            policy.getScenarioName(), taskCount, run, online.getDecisionCount(), online.getAverageDecisionNanos());
+                }
+            } else if (STREAMING_SOURCE) {
+                // Cloudlet dibuat & dijadwalkan per window saat simulasi berjalan, lalu dilepas setelah dihitung
+                phase("simulate");
+                startEventProfiler();
+                DatasetCloudletSource source = new DatasetCloudletSource(openTaskLengths(taskCount), brokerId, vmList, policy);
+                ((StreamingDatacenterBroker) broker).setSource(source, STREAM_WINDOW, collector);
+                try {
+                    CloudSim.startSimulation();
+                    CloudSim.stopSimulation();
+                } finally {
+                    source.close();
+                }
+            } else {
+                phase("load");
+                List<Integer> lengths = getTaskLengths(taskCount, preLoadedLengths); 
+                List<Cloudlet> cloudletList = createCloudletList(brokerId, vmList, 1, lengths);
+
+                phase("schedule");
+                assignCloudlets(policy, cloudletList, vmList);
+
+                phase("simulate");
+                startEventProfiler();
+                broker.submitCloudletList(cloudletList);
+
+                CloudSim.startSimulation();
+                List<Cloudlet> newList = broker.getCloudletReceivedList();
+                CloudSim.stopSimulation();
+
+                // 8. collect metrics
+                phase("metrics");
+                for (Cloudlet cl : newList) {
+                    collector.fold(cl);
+                }
+            }
+
+        } finally {
+            // Blok terakhir & footer tetap ditulis walau simulasi gagal
+            if (trace != null) trace.close();
+        }
+
+        String scenario = policy.getScenarioName();
+        stopEventProfiler(scenario, taskCount, run);
+        String row = collector.toCsvRow(scenario, taskCount, run, vmList.size(),
+                NUM_DATACENTER * HOSTS_PER_DATACENTER, POWER_PER_HOST);
+
+        return row;
+    }
+
+    /** Trace per cloudlet untuk run ini di outputs/<mode>/traces. */
+    private static CloudletTraceWriter openCloudletTrace(SchedulingPolicy policy, int taskCount, int run) throws IOException {
+        String mode = (scenarioMode != null) ? scenarioMode.toLowerCase() : "daemon";
+        java.nio.file.Path file = java.nio.file.Paths.get(System.getProperty("user.dir"), "outputs", mode, "traces",
+                policy.getScenarioName() + "_" + taskCount + "_" + run + ".cltrace");
+        return new CloudletTraceWriter(file);
+    }
+
+    private static List<Vm> createVmList(int brokerId, int datacenterCount) {
         List<Vm> vmList = new ArrayList<>();
         int vmIdCounter = 0;
-        for (Datacenter dc : datacenters) {
+        for (int d = 0; d < datacenterCount; d++) {
             int vmCountForDC = HOSTS_PER_DATACENTER * VMS_PER_HOST;
             for (int i = 0; i < vmCountForDC; i++) {
-                Vm vm = new Vm(vmIdCounter++, brokerId, VM_MIPS, VM_PES, VM_RAM, VM_BW, VM_STORAGE, VMM, new CloudletSchedulerTimeShared());
+                Vm vm = new Vm(vmIdCounter++, brokerId, VM_MIPS, VM_PES, VM_RAM, VM_BW, VM_STORAGE, VMM, createCloudletScheduler());
                 vmList.add(vm);
             }
         }
-        broker.submitVmList(vmList);
+        return vmList;
+    }
 
-        List<Integer> lengths = getTaskLengths(taskCount, preLoadedLengths); 
-        List<Cloudlet> cloudletList = createCloudletList(brokerId, vmList, 1, lengths);
+    // --- Metode Implementasi Scheduler ---
 
-        if (useMOWS) {
-            scheduleWithMOWS(cloudletList, vmList);
+    /** Menjalankan penjadwal sesuai kebijakan; metaheuristik memakai seed dari RAND agar tetap reprodusibel. */
+    private static void assignCloudlets(SchedulingPolicy policy, List<Cloudlet> cloudlets, List<Vm> vms) {
+        if (policy == SchedulingPolicy.MOWS) {
+            scheduleWithMOWS(cloudlets, vms);
+        } else if (policy == SchedulingPolicy.ROUND_ROBIN) {
+            roundRobinAssignCloudlets(cloudlets, vms);
         } else {
-            roundRobinAssignCloudlets(cloudletList, vmList);
-        }
-
-        broker.submitCloudletList(cloudletList);
-
-        CloudSim.startSimulation();
-        List<Cloudlet> newList = broker.getCloudletReceivedList();
-        CloudSim.stopSimulation();
-
-        // 8. collect metrics
-        double totalCpuTime = 0.0;
-        double totalWaitTime = 0.0;
-        double sumStart = 0.0;
-        double sumExec = 0.0;
-        double sumFinish = 0.0;
-        double makespan = 0.0;
-        Map<Integer, Double> vmExecSums = new HashMap<>(); 
-
-        for (Cloudlet cl : newList) {
-            if (cl.getStatus() == Cloudlet.SUCCESS) {
-                double exec = cl.getActualCPUTime();
-                double start = cl.getExecStartTime();
-                double finish = cl.getFinishTime();
-                double submitTime = cl.getSubmissionTime(); 
-                double wait = Math.max(0.0, start - submitTime);
-
-                totalCpuTime += exec;
-                totalWaitTime += wait;
-                sumStart += start;
-                sumExec += exec;
-                sumFinish += finish;
-                makespan = Math.max(makespan, finish);
-
-                int vmId = cl.getVmId();
-                vmExecSums.put(vmId, vmExecSums.getOrDefault(vmId, 0.0) + exec);
-            }
-        }
-
-        int completed = newList.size();
-        double avgStart = completed>0 ? sumStart / completed : 0;
-        double avgExec = completed>0 ? sumExec / completed : 0;
-        double avgFinish = completed>0 ? sumFinish / completed : 0;
-        double throughput = makespan>0 ? ((double)completed / makespan) : 0.0;
-
-        double maxExec = 0.0, minExec = Double.POSITIVE_INFINITY, sumPerVM = 0.0;
-        for (double v : vmExecSums.values()) {
-            maxExec = Math.max(maxExec, v);
-            minExec = Math.min(minExec, v);
-            sumPerVM += v;
-        }
-        int vmCount = vmList.size();
-        double avgPerVM = vmCount>0 ? sumPerVM / vmCount : 0;
-        if (vmExecSums.size() == 0) {
-            minExec = 0.0;
-        } else if (minExec==Double.POSITIVE_INFINITY) minExec = 0.0;
-        double imbalanceDegree = avgPerVM>0 ? (maxExec - minExec) / avgPerVM : 0.0;
-
-        double resourceUtilization = (vmCount>0 && makespan>0) ? (totalCpuTime / (vmCount * makespan)) : 0.0;
-
-        int totalHosts = NUM_DATACENTER * HOSTS_PER_DATACENTER;
-        double totalEnergy = POWER_PER_HOST * totalHosts * makespan; 
-
-        String scenario = useMOWS ? "MOWS" : "Baseline_RoundRobin"; 
-        String row = String.format(Locale.US,
-                "%s,%d,%d,%.10f,%.10f,%.10f,%.10f,%.10f,%.10f,%.10f,%.10f,%.10f,%.10f",
-                scenario, taskCount, run, 
-                totalCpuTime, totalWaitTime, avgStart, avgExec, avgFinish, throughput, makespan,
-                imbalanceDegree, resourceUtilization, totalEnergy
-        );
+            long[] lengths = new long[cloudlets.size()];
+            for (int i = 0; i < lengths.length; i++) lengths[i] = cloudlets.get(i).getCloudletLength();
+            int[] vmIndex = policy.newScheduler().schedule(lengths, vmMips(vms), RAND.nextLong());
+            for (int i = 0; i < vmIndex.length; i++) cloudlets.get(i).setVmId(vms.get(vmIndex[i]).getId());
+        }
+    }
 
-        return row;
+    private static void assignCloudlets(SchedulingPolicy policy, CompactCloudletStore store, List<Vm> vms) {
+        if (policy == SchedulingPolicy.MOWS) {
+            scheduleWithMOWS(store, vms);
+        } else if (policy == SchedulingPolicy.ROUND_ROBIN) {
+            roundRobinAssignCloudlets(store, vms);
+        } else {
+            long[] lengths = new long[store.size()];
+            for (int i = 0; i < lengths.length; i++) lengths[i] = store.getLength(i);
+            int[] vmIndex = policy.newScheduler().schedule(lengths, vmMips(vms), RAND.nextLong());
+            for (int i = 0; i < vmIndex.length; i++) store.setVmId(i, vms.get(vmIndex[i]).getId());
+        }
     }
 
-    // --- Metode Implementasi Scheduler ---
+    private static double[] vmMips(List<Vm> vms) {
+        double[] mips = new double[vms.size()];
+        for (int v = 0; v < mips.length; v++) mips[v] = vms.get(v).getMips() * vms.get(v).getNumberOfPes();
+        return mips;
+    }
 
     private static void roundRobinAssignCloudlets(List<Cloudlet> cloudlets, List<Vm> vms) {
-        int numVms = vms.size();
-        if (numVms == 0) return;
-        
+        if (vms.isEmpty()) return;
+
         for (Cloudlet cl : cloudlets) {
-            Vm vm = vms.get(nextVmIndex);
-            cl.setVmId(vm.getId());
-            nextVmIndex = (nextVmIndex + 1) % numVms;
+            cl.setVmId(nextRoundRobinVm(vms));
         }
     }
-    
-    private static void scheduleWithMOWS(List<Cloudlet> cloudlets, List<Vm> vms) {
-        double maxTaskLength = 20000.0;
-        double maxVmMips = 6000.0;
-        double maxCommSize = 2000.0;
-        double maxVmBw = 5000.0;
 
-        double WPer = 0.7;
-        double WSec = 0.3;
-
-        for (Cloudlet cl : cloudlets) {
-            double bestDD = Double.MAX_VALUE;
-            Vm bestVm = null;
+    private static void roundRobinAssignCloudlets(CompactCloudletStore store, List<Vm> vms) {
+        if (vms.isEmpty()) return;
 
-            double taskCompNorm = Math.min(1.0, cl.getCloudletLength() / maxTaskLength);
-            double taskCommNorm = Math.min(1.0, (double)CLOUDLET_FILESIZE / maxCommSize); 
-
-            double taskSecDemand = RAND.nextDouble(); 
-
-            for (Vm vm : vms) {
-                double vmMipsNorm = Math.min(1.0, (double)vm.getMips() / maxVmMips);
-                double vmBwNorm = Math.min(1.0, (double)vm.getBw() / maxVmBw);
-                double vmSecurity = RAND.nextDouble(); 
-
-                double CD = Math.max(0.0, taskCompNorm - vmMipsNorm);
-                double TD = Math.max(0.0, taskCommNorm - vmBwNorm);
-                double SD = Math.abs(taskSecDemand - vmSecurity);
+        for (int i = 0; i < store.size(); i++) {
+            store.setVmId(i, nextRoundRobinVm(vms));
+        }
+    }
 
-                double dd = WPer * (CD + TD) + WSec * SD;
+    private static int nextRoundRobinVm(List<Vm> vms) {
+        Vm vm = vms.get(nextVmIndex);
+        nextVmIndex = (nextVmIndex + 1) % vms.size();
+        return vm.getId();
+    }
 
-                if (dd < bestDD) {
-                    bestDD = dd;
-                    bestVm = vm;
-                }
-            }
+    private static void scheduleWithMOWS(List<Cloudlet> cloudlets, List<Vm> vms) {
+        MOWSSelector selector = new MOWSSelector(activeMowsParams, vms, RAND);
+        for (Cloudlet cl : cloudlets) {
+            cl.setVmId(selector.select(cl.getCloudletLength(), CLOUDLET_FILESIZE));
+        }
+    }
 
-            if (bestVm != null) {
-                cl.setVmId(bestVm.getId());
-            } else {
-                cl.setVmId(vms.get(0).getId());
-            }
+    private static void scheduleWithMOWS(CompactCloudletStore store, List<Vm> vms) {
+        MOWSSelector selector = new MOWSSelector(activeMowsParams, vms, RAND);
+        for (int i = 0; i < store.size(); i++) {
+            store.setVmId(i, selector.select(store.getLength(i), CLOUDLET_FILESIZE));
         }
     }
     
     // --- Metode Implementasi Pembacaan Dataset Baru ---
 
     private static List<Integer> getTaskLengths(int taskCount, List<Integer> preLoadedLengths) {
-        if (DATASET_MODE == 2) {
+        if (lengthsOverride != null) {
+            return Dataset.listView(lengthsOverride);
+        } else if (DATASET_MODE == 2) {
             return preLoadedLengths;
+        } else if (DATASET_MODE == 3) {
+            return Dataset.listView(syntheticGenerator().generate(taskCount, SEED));
         } else {
             return readStructuredData(taskCount);
         }
@@ -354,7 +955,7 @@ public class ExampleMOWSExperiment {
     private static List<Integer> readStructuredData(int expectedCount) {
         String filename = STRUCTURED_BASE_PATH + expectedCount + STRUCTURED_FILE_EXT;
         List<Integer> lens = new ArrayList<>();
-        try (BufferedReader br = new BufferedReader(new FileReader(filename))) {
+        try (BufferedReader br = new BufferedReader(CompressedInput.openReader(filename))) {
             String line;
             while ((line = br.readLine()) != null && lens.size() < expectedCount) {
                 line = line.trim();
@@ -364,62 +965,301 @@ public class ExampleMOWSExperiment {
                     lens.add(v);
                 } catch (NumberFormatException e) {}
             }
-            while (lens.size() < expectedCount) {
-                lens.add(5000 + RAND.nextInt(15001)); 
+            if (lens.size() < expectedCount) {
+                System.err.println("WARNING: " + filename + " hanya berisi " + lens.size() + " dari " + expectedCount
+                        + " tugas; sisanya dibangkitkan dengan generator " + structuredGenerator().getName() + ".");
+                padWithGenerated(lens, expectedCount);
             }
             System.out.println("Loaded dataset file: " + filename + " with " + lens.size() + " lengths.");
             return lens;
         } catch (IOException e) {
-            for (int i = 0; i < expectedCount; i++) {
-                lens.add(5000 + RAND.nextInt(15001)); 
-            }
-            System.out.println("Dataset file not found (" + filename + "). Using random lengths as fallback.");
+            System.err.println("WARNING: Dataset file not found (" + filename + "). Using " + structuredGenerator().getName()
+                    + " generated lengths as fallback.");
+            lens.clear();
+            padWithGenerated(lens, expectedCount);
             return lens;
         }
     }
 
+    /** Melengkapi list sampai {@code expectedCount} dengan tugas sintetis yang distribusinya sesuai dataset. */
+    private static void padWithGenerated(List<Integer> lens, int expectedCount) {
+        int missing = expectedCount - lens.size();
+        PrimitiveIterator.OfInt generated = structuredGenerator().iterator(missing, SEED + lens.size());
+        while (generated.hasNext()) lens.add(generated.nextInt());
+    }
+
+    /** Generator yang meniru file STRUCTURED_BASE_PATH (RandStratified atau RandSimple). */
+    private static WorkloadGenerator structuredGenerator() {
+        return STRUCTURED_BASE_PATH.contains("Stratified") ? WorkloadGenerator.stratified() : WorkloadGenerator.simple();
+    }
+
+    private static WorkloadGenerator syntheticGenerator() {
+        switch (SYNTHETIC_KIND) {
+            case "simple": return WorkloadGenerator.simple();
+            case "sdsc":
+                try {
+                    return WorkloadGenerator.fitted(WorkloadProfile.forFile(SDSC_FILE, Long.MAX_VALUE));
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Profil SDSC untuk generator tidak bisa dibaca", e);
+                }
+            default: return WorkloadGenerator.stratified();
+        }
+    }
+
     /**
      * Membaca file SDSC. Disederhanakan untuk mengasumsikan setiap baris berisi
      * panjang tugas tunggal (MI), karena format file yang diberikan.
+     * Data dan profilnya di-cache oleh {@link Dataset}, jadi pemanggilan berikutnya tidak membaca ulang file.
      */
     private static List<Integer> readSDSCData() {
         String filename = SDSC_FILE;
-        List<Integer> lens = new ArrayList<>();
-        int successfulTasks = 0;
-        
-        try (BufferedReader br = new BufferedReader(new FileReader(filename))) {
-            String line;
-            while ((line = br.readLine()) != null) {
-                line = line.trim();
-                // Lewati baris komentar/header SDSC (biasanya dimulai dengan ';')
-                if (line.isEmpty() || line.startsWith(";")) continue; 
-                
-                try {
-                    // LANGKAH PENTING: Coba parse seluruh baris sebagai nilai panjang tugas.
-                    // Jika angkanya besar, gunakan Long.
-                    long length = (long)Double.parseDouble(line); // Pakai Double.parseDouble dulu untuk menangani nilai 0.96, dll.
-                    
-                    if (length > 0) {
-                        // Batasi agar tidak crash jika panjang tugas melebihi batas Integer
-                        if (length > Integer.MAX_VALUE) { 
-                           length = Integer.MAX_VALUE;
-                        }
-                        lens.add((int) length); 
-                        successfulTasks++;
-                    }
-                } catch (NumberFormatException e) {
-                    // Abaikan baris yang bukan angka
-                    // System.out.println("DEBUG: Skipping line: " + line + " (Not a number)");
-                }
-            }
-            System.out.println("Loaded SDSC dataset file: " + filename + " with " + successfulTasks + " tasks.");
-            return lens;
+        try {
+            Dataset dataset = Dataset.load(filename, Long.MAX_VALUE);
+            System.out.println("Loaded SDSC dataset file: " + filename + " with " + dataset.size() + " tasks.");
+            return dataset.asList();
         } catch (IOException e) {
             System.out.println("SDSC Dataset file not found (" + filename + "). Returning empty list.");
-            return lens;
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * Jumlah job di SDSC_FILE yang akan menjadi cloudlet pada mode TRACE_ARRIVALS, dengan filter yang
+     * sama seperti {@link TraceCloudletSource}. 0 jika file tidak bisa dibaca.
+     */
+    private static int countTraceJobs() {
+        String filename = SDSC_FILE;
+        try (SwfReader jobs = SwfReader.open(filename)) {
+            int count = 0;
+            while (jobs.hasNext()) {
+                if (jobs.next().getLength(VM_MIPS) > 0) count++;
+            }
+            System.out.println("Loaded SDSC trace file: " + filename + " with " + count + " jobs ("
+                    + jobs.getSkipped() + " baris dilewati).");
+            return count;
+        } catch (IOException | UncheckedIOException e) {
+            System.out.println("SDSC trace file not found (" + filename + "). Returning 0 jobs.");
+            return 0;
         }
     }
+
+    /** Subset bertingkat SDSC untuk semua TASK_COUNTS, diambil dalam satu pass atas file. */
+    private static TraceSampler.NestedSample sampleSDSC() throws IOException {
+        TraceSampler.Method method = "stratified".equals(SDSC_SAMPLING)
+                ? TraceSampler.Method.STRATIFIED : TraceSampler.Method.RESERVOIR;
+        int maxCount = Arrays.stream(TASK_COUNTS).max().getAsInt();
+        try (TaskLengthReader reader = TaskLengthReader.open(SDSC_FILE, Long.MAX_VALUE)) {
+            TraceSampler.NestedSample sample = TraceSampler.sample(reader, maxCount, method, SEED);
+            if (maxCount > sample.getSourceSize()) {
+                System.err.println("Peringatan: SDSC hanya berisi " + sample.getSourceSize()
+                        + " tugas; subset yang lebih besar diisi dengan pengambilan ulang.");
+            }
+            return sample;
+        }
+    }
+
+    /** Profil dataset untuk skenario ini, dari cache/sidecar jika tersedia. */
+    private static WorkloadProfile profileFor(int taskCount) throws IOException {
+        if (lengthsOverride != null) {
+            return WorkloadProfile.scan(Arrays.stream(lengthsOverride).iterator());
+        }
+        if (DATASET_MODE == 2 && sdscSample != null) {
+            return WorkloadProfile.scan(Arrays.stream(sdscSample.subset(taskCount)).iterator());
+        }
+        if (DATASET_MODE == 2 && TRACE_ARRIVALS) {
+            // Log SWF tidak bisa dibaca TaskLengthReader; profil dihitung dari panjang job seperti TraceCloudletSource
+            java.util.stream.IntStream.Builder lengths = java.util.stream.IntStream.builder();
+            try (SwfReader jobs = SwfReader.open(SDSC_FILE)) {
+                while (jobs.hasNext()) {
+                    long length = jobs.next().getLength(VM_MIPS);
+                    if (length > 0) lengths.add((int) Math.min(length, Integer.MAX_VALUE));
+                }
+            }
+            return WorkloadProfile.scan(lengths.build().iterator());
+        }
+        if (DATASET_MODE == 2) {
+            return WorkloadProfile.forFile(SDSC_FILE, Long.MAX_VALUE);
+        }
+        if (DATASET_MODE == 3) {
+            return WorkloadProfile.scan(syntheticGenerator().iterator(taskCount, SEED));
+        }
+        return WorkloadProfile.forFile(STRUCTURED_BASE_PATH + taskCount + STRUCTURED_FILE_EXT, taskCount);
+    }
     
+    /** Membuka dataset yang sesuai DATASET_MODE sebagai stream panjang tugas (file atau generator). */
+    private static PrimitiveIterator.OfInt openTaskLengths(int taskCount) throws IOException {
+        if (lengthsOverride != null) {
+            return Arrays.stream(lengthsOverride).iterator();
+        }
+        if (DATASET_MODE == 2 && sdscSample != null) {
+            return Arrays.stream(sdscSample.subset(taskCount)).iterator();
+        }
+        if (DATASET_MODE == 2) {
+            return TaskLengthReader.open(SDSC_FILE, Long.MAX_VALUE);
+        }
+        if (DATASET_MODE == 3) {
+            return syntheticGenerator().iterator(taskCount, SEED);
+        }
+        String filename = STRUCTURED_BASE_PATH + taskCount + STRUCTURED_FILE_EXT;
+        TaskLengthReader reader = new java.io.File(filename).isFile() ? TaskLengthReader.open(filename, taskCount) : null;
+        return new PaddedLengths(filename, reader, taskCount);
+    }
+
+    /**
+     * Versi stream dari {@link #readStructuredData}: panjang tugas dari file terstruktur, lalu dilengkapi
+     * generator yang sama dengan {@link #padWithGenerated} jika file kurang atau tidak ada.
+     */
+    private static class PaddedLengths implements PrimitiveIterator.OfInt, Closeable {
+        private final String filename;
+        private final TaskLengthReader file; // null jika file tidak ada
+        private final int expectedCount;
+        private PrimitiveIterator.OfInt generated;
+        private int produced = 0;
+
+        PaddedLengths(String filename, TaskLengthReader file, int expectedCount) {
+            this.filename = filename;
+            this.file = file;
+            this.expectedCount = expectedCount;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (produced >= expectedCount) return false;
+            if (generated == null && file != null && file.hasNext()) return true;
+            if (generated == null) {
+                System.err.println("WARNING: " + filename + " hanya berisi " + produced + " dari " + expectedCount
+                        + " tugas; sisanya dibangkitkan dengan generator " + structuredGenerator().getName() + ".");
+                generated = structuredGenerator().iterator(expectedCount - produced, SEED + produced);
+            }
+            return generated.hasNext();
+        }
+
+        @Override
+        public int nextInt() {
+            if (!hasNext()) throw new NoSuchElementException();
+            produced++;
+            return (generated == null) ? file.nextInt() : generated.nextInt();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (file != null) file.close();
+        }
+    }
+
+    /**
+     * Sumber cloudlet untuk mode streaming: membuat cloudlet dari stream panjang tugas lalu
+     * menjadwalkannya per window dengan scheduler yang sama (MOWS atau Round-Robin).
+     */
+    private static class DatasetCloudletSource implements CloudletSource, Closeable {
+        private final PrimitiveIterator.OfInt lengths;
+        private final int brokerId;
+        private final List<Vm> vmList;
+        private final SchedulingPolicy policy;
+        private final UtilizationModelFull utilModel = new UtilizationModelFull();
+        private int nextId = 0;
+
+        DatasetCloudletSource(PrimitiveIterator.OfInt lengths, int brokerId, List<Vm> vmList, SchedulingPolicy policy) {
+            this.lengths = lengths;
+            this.brokerId = brokerId;
+            this.vmList = vmList;
+            this.policy = policy;
+        }
+
+        @Override
+        public List<Cloudlet> next(int max) {
+            List<Cloudlet> window = new ArrayList<>(Math.min(max, 4096));
+            while (window.size() < max && lengths.hasNext()) {
+                Cloudlet cloudlet = new Cloudlet(nextId++, lengths.nextInt(), 1, CLOUDLET_FILESIZE, CLOUDLET_OUTPUTSIZE, utilModel, utilModel, utilModel);
+                cloudlet.setUserId(brokerId);
+                window.add(cloudlet);
+            }
+            assignCloudlets(policy, window, vmList);
+            return window;
+        }
+
+        @Override
+        public void close() throws IOException {
+            closeQuietly(lengths);
+        }
+    }
+
+    private static void closeQuietly(Object resource) {
+        if (!(resource instanceof Closeable)) return;
+        try {
+            ((Closeable) resource).close();
+        } catch (IOException e) {
+            System.err.println("Gagal menutup dataset: " + e.getMessage());
+        }
+    }
+
+    /** Membuka file dataset yang sesuai DATASET_MODE sebagai log SWF. */
+    private static SwfReader openTrace(int taskCount) throws IOException {
+        if (lengthsOverride != null) {
+            throw new IllegalStateException("TRACE_ARRIVALS tidak bisa dipakai dari ExperimentDaemon");
+        }
+        if (DATASET_MODE == 3) {
+            throw new IllegalStateException("TRACE_ARRIVALS membutuhkan file dataset, bukan DATASET_MODE 3");
+        }
+        if (sdscSample != null) {
+            throw new IllegalStateException("TRACE_ARRIVALS memakai seluruh trace; set SDSC_SAMPLING = \"none\"");
+        }
+        if (DATASET_MODE == 2) {
+            return SwfReader.open(SDSC_FILE);
+        }
+        return SwfReader.open(STRUCTURED_BASE_PATH + taskCount + STRUCTURED_FILE_EXT);
+    }
+
+    /**
+     * Sumber cloudlet untuk mode TRACE_ARRIVALS: setiap job SWF menjadi {@link TraceCloudlet}
+     * dengan waktu kedatangan relatif terhadap job pertama, dijadwalkan per window seperti
+     * {@link DatasetCloudletSource}.
+     */
+    private static class TraceCloudletSource implements CloudletSource, Closeable {
+        private final SwfReader jobs;
+        private final long limit;
+        private final int brokerId;
+        private final List<Vm> vmList;
+        private final SchedulingPolicy policy;
+        private final UtilizationModelFull utilModel = new UtilizationModelFull();
+        private double firstSubmit = Double.NaN;
+        private int nextId = 0;
+
+        TraceCloudletSource(SwfReader jobs, long limit, int brokerId, List<Vm> vmList, SchedulingPolicy policy) {
+            this.jobs = jobs;
+            this.limit = (DATASET_MODE == 2) ? Long.MAX_VALUE : limit;
+            this.brokerId = brokerId;
+            this.vmList = vmList;
+            this.policy = policy;
+        }
+
+        @Override
+        public List<Cloudlet> next(int max) {
+            List<Cloudlet> window = new ArrayList<>(Math.min(max, 4096));
+            while (window.size() < max && nextId < limit && jobs.hasNext()) {
+                SwfJob job = jobs.next();
+                long length = job.getLength(VM_MIPS);
+                if (length <= 0) continue;
+                if (Double.isNaN(firstSubmit)) firstSubmit = job.getSubmitTime();
+
+                double arrival = Math.max(0.0, job.getSubmitTime() - firstSubmit);
+                TraceCloudlet cloudlet = new TraceCloudlet(nextId++, length, 1, CLOUDLET_FILESIZE, CLOUDLET_OUTPUTSIZE, utilModel, arrival, job.getUserId());
+                cloudlet.setUserId(brokerId);
+                window.add(cloudlet);
+            }
+            // Dengan ONLINE_MOWS vmId dibiarkan -1 dan dipilih broker saat tugas tiba
+            if (!(ONLINE_MOWS && policy == SchedulingPolicy.MOWS)) {
+                assignCloudlets(policy, window, vmList);
+            }
+            return window;
+        }
+
+        @Override
+        public void close() throws IOException {
+            jobs.close();
+        }
+    }
+
     private static List<Cloudlet> createCloudletList(int brokerId, List<Vm> vmList, int pesNumber, List<Integer> lengths) {
         List<Cloudlet> cloudletList = new ArrayList<>();
         UtilizationModelFull utilModel = new UtilizationModelFull();
@@ -436,7 +1276,22 @@ public class ExampleMOWSExperiment {
     
     // --- Metode Pembuatan Objek CloudSim ---
 
-    private static Datacenter createDatacenter(String name) throws Exception {
+    /**
+     * Membuat topologi (datacenter + broker) sekali saja; run berikutnya cukup memanggil
+     * {@link SimulationSession#reset()}.
+     */
+    private static SimulationSession getSession() throws Exception {
+        if (session != null) return session;
+
+        SimulationSession s = new SimulationSession(1, Calendar.getInstance(), false);
+        for (int d = 0; d < NUM_DATACENTER; d++) {
+            s.addDatacenter(createDatacenter("Datacenter_" + d));
+        }
+        s.setBroker(createBroker());
+        return s;
+    }
+
+    private static ReusableDatacenter createDatacenter(String name) throws Exception {
         List<Host> hostList = new ArrayList<>();
         for (int i = 0; i < HOSTS_PER_DATACENTER; i++) {
             List<Pe> peList = new ArrayList<>();
@@ -446,10 +1301,23 @@ public class ExampleMOWSExperiment {
             hostList.add(host);
         }
         DatacenterCharacteristics characteristics = new DatacenterCharacteristics("x86", "Linux", VMM, hostList, 10.0, HOST_COST, 0.05, 0.1, 0.1);
-        return new Datacenter(name, characteristics, new VmAllocationPolicySimple(hostList), new LinkedList<Storage>(), 0);
+        if (BATCH_SUBMISSION || STREAMING_SOURCE || COMPACT_STORE || TRACE_ARRIVALS) {
+            return new BatchDatacenter(name, characteristics, new VmAllocationPolicySimple(hostList), new LinkedList<Storage>(), 0);
+        }
+        return new ReusableDatacenter(name, characteristics, new VmAllocationPolicySimple(hostList), new LinkedList<Storage>(), 0);
+    }
+
+    private static ReusableDatacenterBroker createBroker() throws Exception {
+        String name = "Broker_" + UUID.randomUUID().toString().substring(0,5);
+        if (TRACE_ARRIVALS) return ONLINE_MOWS ? new OnlineMOWSBroker(name, SEED) : new ArrivalDatacenterBroker(name);
+        if (STREAMING_SOURCE || COMPACT_STORE) return new StreamingDatacenterBroker(name);
+        return BATCH_SUBMISSION ? new BatchDatacenterBroker(name) : new ReusableDatacenterBroker(name);
     }
 
-    private static DatacenterBroker createBroker() throws Exception {
-        return new DatacenterBroker("Broker_" + UUID.randomUUID().toString().substring(0,5));
+    private static CloudletScheduler createCloudletScheduler() {
+        if ("SpaceShared".equals(CLOUDLET_SCHEDULER)) {
+            return new CloudletSchedulerSpaceShared();
+        }
+        return new CloudletSchedulerTimeShared();
     }
 }
\ No newline at end of file
@@ -0,0 +1,157 @@
+package contoh;
+
+import org.cloudbus.cloudsim.Log;
+import java.io.*;
+import java.net.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Proses eksperimen yang tetap hidup: JVM, kelas CloudSim, dataset yang sudah di-parse
+ * ({@link Dataset}), topologi ({@link SimulationSession}) dan hasil JIT dipakai ulang antar
+ * permintaan, sehingga sel kecil selesai dalam milidetik.
+ *
+ * Protokol teks per baris lewat TCP di loopback (default port 7395):
+ * <pre>
+ *   run dataset=./datasets/SDSC/SDSC7395.txt tasks=1000 policy=MOWS runs=3 [seed=12345]
+ *       [sample=prefix|reservoir|stratified] [wPer=0.5 wSec=0.5 wLoad=0.0]
+ *   -&gt; row &lt;baris CSV detail&gt;   (satu per run, dikirim begitu run selesai)
+ *   -&gt; avg &lt;baris CSV ringkasan&gt;
+ *   -&gt; done &lt;ms&gt;                 atau  error &lt;pesan&gt;
+ *   ping -&gt; pong | datasets -&gt; daftar dataset di cache | quit | shutdown
+ * </pre>
+ * Sel dijalankan bergantian (state CloudSim statis); koneksi lain menunggu.
+ */
+public class ExperimentDaemon {
+
+    static final int DEFAULT_PORT = 7395;
+
+    private final ServerSocket server;
+    private final Set<String> loadedDatasets = Collections.synchronizedSet(new TreeSet<String>());
+    private volatile boolean running = true;
+
+    public ExperimentDaemon(int port) throws IOException {
+        this.server = new ServerSocket(port, 16, InetAddress.getLoopbackAddress());
+    }
+
+    public static void main(String[] args) throws Exception {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        // Hasil dikirim lewat socket; log CloudSim per event hanya memperlambat sel kecil
+        Log.disable();
+        ExperimentDaemon daemon = new ExperimentDaemon(port);
+        System.out.println("ExperimentDaemon listening on " + daemon.server.getLocalSocketAddress());
+        daemon.serve();
+    }
+
+    public void serve() throws IOException {
+        while (running) {
+            final Socket client;
+            try {
+                client = server.accept();
+            } catch (SocketException e) {
+                if (!running) break;
+                throw e;
+            }
+            Thread t = new Thread(() -> handle(client), "daemon-client-" + client.getPort());
+            t.setDaemon(true);
+            t.start();
+        }
+    }
+
+    private void handle(Socket client) {
+        try (Socket s = client;
+             BufferedReader in = new BufferedReader(new InputStreamReader(s.getInputStream(), StandardCharsets.UTF_8));
+             PrintWriter out = new PrintWriter(new OutputStreamWriter(s.getOutputStream(), StandardCharsets.UTF_8), true)) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty()) continue;
+                String command = line.split("\\s+", 2)[0];
+                switch (command) {
+                    case "ping":
+                        out.println("pong");
+                        break;
+                    case "datasets":
+                        out.println("datasets " + String.join(" ", loadedDatasets));
+                        break;
+                    case "run":
+                        runCommand(line, out);
+                        break;
+                    case "quit":
+                        return;
+                    case "shutdown":
+                        out.println("bye");
+                        running = false;
+                        server.close();
+                        return;
+                    default:
+                        out.println("error perintah tidak dikenal: " + command);
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Koneksi daemon terputus: " + e.getMessage());
+        }
+    }
+
+    private void runCommand(String line, PrintWriter out) {
+        long start = System.nanoTime();
+        try {
+            Map<String, String> spec = parseSpec(line);
+            String path = require(spec, "dataset");
+            Dataset dataset = Dataset.load(path, Long.MAX_VALUE);
+            loadedDatasets.add(path);
+
+            int tasks = Integer.parseInt(spec.getOrDefault("tasks", String.valueOf(dataset.size())));
+            SchedulingPolicy policy = SchedulingPolicy.valueOf(spec.getOrDefault("policy", "MOWS"));
+            int runs = Integer.parseInt(spec.getOrDefault("runs", "1"));
+            long seed = Long.parseLong(spec.getOrDefault("seed", String.valueOf(ExampleMOWSExperiment.SEED)));
+            int[] lengths = select(dataset, tasks, spec.getOrDefault("sample", "prefix"), seed);
+            MOWSParameters params = mowsParameters(spec);
+
+            String avg = ExampleMOWSExperiment.runCell(lengths, policy, runs, seed, params, row -> out.println("row " + row));
+            out.println("avg " + avg);
+            out.printf(Locale.US, "done %.1f%n", (System.nanoTime() - start) / 1e6);
+        } catch (Exception e) {
+            out.println("error " + e);
+        }
+    }
+
+    /** Subset tugas sesuai spec; sampling memakai {@link TraceSampler} supaya sama dengan sweep SDSC. */
+    private static int[] select(Dataset dataset, int tasks, String sample, long seed) {
+        if ("prefix".equals(sample)) {
+            if (tasks > dataset.size()) throw new IllegalArgumentException("tasks > ukuran dataset (" + dataset.size() + ")");
+            int[] lengths = new int[tasks];
+            for (int i = 0; i < tasks; i++) lengths[i] = dataset.getLength(i);
+            return lengths;
+        }
+        TraceSampler.Method method = TraceSampler.Method.valueOf(sample.toUpperCase(Locale.ROOT));
+        return TraceSampler.sample(dataset.iterator(), tasks, method, seed).subset(tasks);
+    }
+
+    private static MOWSParameters mowsParameters(Map<String, String> spec) {
+        if (!spec.containsKey("wPer") && !spec.containsKey("wSec") && !spec.containsKey("wLoad")) return null;
+        MOWSParameters d = ExampleMOWSExperiment.MOWS_PARAMS;
+        return new MOWSParameters(
+                Double.parseDouble(spec.getOrDefault("wPer", String.valueOf(d.getWPer()))),
+                Double.parseDouble(spec.getOrDefault("wSec", String.valueOf(d.getWSec()))),
+                Double.parseDouble(spec.getOrDefault("wLoad", String.valueOf(d.getWLoad()))),
+                d.getMaxTaskLength(), d.getMaxVmMips(), d.getMaxCommSize(), d.getMaxVmBw());
+    }
+
+    static Map<String, String> parseSpec(String line) {
+        Map<String, String> spec = new HashMap<>();
+        String[] tokens = line.trim().split("\\s+");
+        for (int i = 1; i < tokens.length; i++) {
+            int eq = tokens[i].indexOf('=');
+            if (eq <= 0) throw new IllegalArgumentException("argumen harus key=value: " + tokens[i]);
+            spec.put(tokens[i].substring(0, eq), tokens[i].substring(eq + 1));
+        }
+        return spec;
+    }
+
+    private static String require(Map<String, String> spec, String key) {
+        String value = spec.get(key);
+        if (value == null) throw new IllegalArgumentException("'" + key + "' wajib diisi");
+        return value;
+    }
+}
@@ -0,0 +1,22 @@
+package contoh;
+
+/**
+ * Tag event tambahan untuk entitas di package ini. Nilainya sengaja jauh di atas
+ * rentang {@link org.cloudbus.cloudsim.core.CloudSimTags} supaya tidak bentrok.
+ */
+public final class ExperimentTags {
+
+    private static final int BASE = 9000;
+
+    /** Broker -> Datacenter: satu event berisi {@code List<Cloudlet>} untuk satu datacenter. */
+    public static final int CLOUDLET_BATCH_SUBMIT = BASE + 1;
+
+    /** Datacenter -> Broker: satu event berisi semua cloudlet yang selesai pada waktu yang sama. */
+    public static final int CLOUDLET_BATCH_RETURN = BASE + 2;
+
+    /** Broker -> dirinya sendiri: ada cloudlet trace yang waktu kedatangannya sudah tiba. */
+    public static final int CLOUDLET_ARRIVAL = BASE + 3;
+
+    private ExperimentTags() {
+    }
+}
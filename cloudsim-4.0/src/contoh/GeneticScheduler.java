@@ -0,0 +1,94 @@
+package contoh;
+
+import java.util.*;
+import java.util.stream.IntStream;
+
+/**
+ * Algoritma genetika untuk penjadwalan tugas: kromosom = VM per tugas, seleksi turnamen,
+ * crossover dua titik, mutasi pindah-acak ditambah satu langkah rebalancing, dan elitisme.
+ * Anak dibuat dari salinan induk pertama lalu segmen crossover diterapkan sebagai
+ * {@link LoadAssignment#move} sehingga biaya evaluasinya sebanding dengan panjang segmen.
+ */
+public class GeneticScheduler extends MetaheuristicScheduler {
+
+    private final int populationSize;
+    private final int generations;
+    private final double mutationRate;
+    private final int elites;
+
+    public GeneticScheduler() {
+        this(32, 200, 0.002, 2);
+    }
+
+    public GeneticScheduler(int populationSize, int generations, double mutationRate, int elites) {
+        this.populationSize = Math.max(2, populationSize);
+        this.generations = generations;
+        this.mutationRate = mutationRate;
+        this.elites = Math.min(elites, this.populationSize - 1);
+    }
+
+    @Override
+    public int[] schedule(long[] lengths, double[] vmMips, long seed) {
+        int n = lengths.length, vms = vmMips.length;
+        if (n == 0) return new int[0];
+
+        final LoadAssignment[] initial = new LoadAssignment[populationSize];
+        initial[0] = new LoadAssignment(lengths, vmMips, greedy(lengths, vmMips));
+        IntStream.range(1, populationSize).parallel().forEach(i ->
+                initial[i] = new LoadAssignment(lengths, vmMips, randomAssignment(n, vms, rng(seed, i))));
+        LoadAssignment[] population = initial;
+        double[] fitness = new double[populationSize];
+        for (int i = 0; i < populationSize; i++) fitness[i] = population[i].fitness();
+
+        LoadAssignment[] next = new LoadAssignment[populationSize];
+        for (int i = 0; i < populationSize; i++) next[i] = population[i].copy();
+
+        for (int g = 0; g < generations; g++) {
+            final int gen = g;
+            final LoadAssignment[] current = population;
+            final LoadAssignment[] children = next;
+            Integer[] order = sortedByFitness(fitness);
+
+            // Elit disalin apa adanya, sisanya dibuat paralel
+            for (int e = 0; e < elites; e++) children[e].copyFrom(current[order[e]]);
+            IntStream.range(elites, populationSize).parallel().forEach(i -> {
+                SplittableRandom r = rng(seed, (long) (gen + 1) * populationSize + i);
+                LoadAssignment a = current[tournament(fitness, r)];
+                LoadAssignment b = current[tournament(fitness, r)];
+                LoadAssignment child = children[i];
+                child.copyFrom(a);
+
+                int x = r.nextInt(n), y = r.nextInt(n);
+                for (int t = Math.min(x, y); t < Math.max(x, y); t++) child.move(t, b.vmOf(t));
+
+                int mutations = (int) Math.round(mutationRate * n);
+                for (int m = 0; m < mutations; m++) child.move(r.nextInt(n), r.nextInt(vms));
+                rebalanceStep(child, r);
+            });
+
+            LoadAssignment[] swap = population;
+            population = children;
+            next = swap;
+            for (int i = 0; i < populationSize; i++) fitness[i] = population[i].fitness();
+        }
+
+        return population[sortedByFitness(fitness)[0]].toArray();
+    }
+
+    private static int tournament(double[] fitness, SplittableRandom r) {
+        int a = r.nextInt(fitness.length), b = r.nextInt(fitness.length);
+        return fitness[a] <= fitness[b] ? a : b;
+    }
+
+    private static Integer[] sortedByFitness(double[] fitness) {
+        Integer[] order = new Integer[fitness.length];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+        Arrays.sort(order, Comparator.comparingDouble(i -> fitness[i]));
+        return order;
+    }
+
+    @Override
+    public String toString() {
+        return "GA(population=" + populationSize + ",generations=" + generations + ",mutation=" + mutationRate + ",elites=" + elites + ")";
+    }
+}
@@ -0,0 +1,42 @@
+package contoh;
+
+import org.cloudbus.cloudsim.core.SimEntity;
+import org.cloudbus.cloudsim.core.SimEvent;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Loop event {@code SimEntity.run()} yang dipakai bersama {@link ReusableDatacenter} dan
+ * {@link ReusableDatacenterBroker} selama {@link EventProfiler}, {@link SweepProgress} atau
+ * {@link AsyncSimLog} aktif. Hook per event berikutnya cukup ditambahkan di sini.
+ */
+final class InstrumentedEventLoop {
+
+    private InstrumentedEventLoop() {
+    }
+
+    /** True jika ada pencatat aktif; jika tidak, entitas cukup memanggil {@code super.run()}. */
+    static boolean isActive() {
+        return EventProfiler.getActive() != null || SweepProgress.getActive() != null || AsyncSimLog.getActive() != null;
+    }
+
+    /**
+     * Memproses {@code buffered} (event yang sudah diambil CloudSim, boleh null) lalu event berikutnya
+     * sampai antrean entitas kosong atau {@code runnable} false. Pemanggil membersihkan event buffer sesudahnya.
+     */
+    static void run(SimEntity entity, SimEvent buffered, BooleanSupplier runnable) {
+        EventProfiler profiler = EventProfiler.getActive();
+        SweepProgress progress = SweepProgress.getActive();
+        AsyncSimLog log = AsyncSimLog.getActive();
+        SimEvent ev = (buffered != null) ? buffered : entity.getNextEvent();
+        while (ev != null) {
+            int tag = ev.getTag();
+            if (log != null) log.event(entity, ev);
+            long start = (profiler != null) ? profiler.sampleStart() : -1L;
+            entity.processEvent(ev);
+            if (profiler != null) profiler.record(entity, tag, start);
+            if (progress != null) progress.onEvent();
+            if (!runnable.getAsBoolean()) break;
+            ev = entity.getNextEvent();
+        }
+    }
+}
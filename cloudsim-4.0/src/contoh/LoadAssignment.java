@@ -0,0 +1,129 @@
+package contoh;
+
+import java.util.Arrays;
+
+/**
+ * Penugasan tugas ke VM beserta vektor beban per VM (detik kerja = total MI / MIPS) yang
+ * diperbarui inkremental: memindah atau menukar satu tugas hanya mengubah beban dua VM,
+ * jadi fitness kandidat baru tidak perlu dihitung ulang dari seluruh tugas.
+ *
+ * Untuk VM satu PE dengan CloudletSchedulerTimeShared dan semua tugas tiba di t=0, beban
+ * maksimum sama dengan makespan simulasi (lihat {@link AnalyticMOWSEvaluator}).
+ */
+final class LoadAssignment {
+
+    private final long[] lengths;
+    private final double[] mips;
+    private final int[] vmOf;
+    private final double[] load;
+    private double sumSquares;
+
+    /** Menghitung beban awal dari penugasan {@code vmOf} (disalin). */
+    LoadAssignment(long[] lengths, double[] mips, int[] vmOf) {
+        this.lengths = lengths;
+        this.mips = mips;
+        this.vmOf = vmOf.clone();
+        this.load = new double[mips.length];
+        for (int i = 0; i < lengths.length; i++) {
+            load[vmOf[i]] += lengths[i] / mips[vmOf[i]];
+        }
+        for (double l : load) sumSquares += l * l;
+    }
+
+    private LoadAssignment(LoadAssignment o) {
+        this.lengths = o.lengths;
+        this.mips = o.mips;
+        this.vmOf = o.vmOf.clone();
+        this.load = o.load.clone();
+        this.sumSquares = o.sumSquares;
+    }
+
+    LoadAssignment copy() {
+        return new LoadAssignment(this);
+    }
+
+    /** Menyalin state {@code o} ke objek ini tanpa alokasi baru (ukuran harus sama). */
+    void copyFrom(LoadAssignment o) {
+        System.arraycopy(o.vmOf, 0, vmOf, 0, vmOf.length);
+        System.arraycopy(o.load, 0, load, 0, load.length);
+        sumSquares = o.sumSquares;
+    }
+
+    int tasks() {
+        return vmOf.length;
+    }
+
+    int vms() {
+        return load.length;
+    }
+
+    int vmOf(int task) {
+        return vmOf[task];
+    }
+
+    double load(int vm) {
+        return load[vm];
+    }
+
+    long length(int task) {
+        return lengths[task];
+    }
+
+    /** Memindah satu tugas ke VM lain: O(1). */
+    void move(int task, int vm) {
+        int from = vmOf[task];
+        if (from == vm) return;
+        double oldFrom = load[from], oldTo = load[vm];
+        double newFrom = oldFrom - lengths[task] / mips[from];
+        double newTo = oldTo + lengths[task] / mips[vm];
+        if (newFrom < 0) newFrom = 0; // sisa pembulatan
+        load[from] = newFrom;
+        load[vm] = newTo;
+        sumSquares += newFrom * newFrom - oldFrom * oldFrom + newTo * newTo - oldTo * oldTo;
+        vmOf[task] = vm;
+    }
+
+    /** Menukar VM dua tugas: O(1). */
+    void swap(int a, int b) {
+        int va = vmOf[a], vb = vmOf[b];
+        if (va == vb) return;
+        move(a, vb);
+        move(b, va);
+    }
+
+    /** Beban maksimum (makespan). O(jumlah VM), bukan O(jumlah tugas). */
+    double makespan() {
+        double max = 0.0;
+        for (double l : load) max = Math.max(max, l);
+        return max;
+    }
+
+    int mostLoadedVm() {
+        int best = 0;
+        for (int v = 1; v < load.length; v++) if (load[v] > load[best]) best = v;
+        return best;
+    }
+
+    int leastLoadedVm() {
+        int best = 0;
+        for (int v = 1; v < load.length; v++) if (load[v] < load[best]) best = v;
+        return best;
+    }
+
+    /**
+     * Fitness yang diminimalkan: makespan, dengan jumlah kuadrat beban sebagai pemecah seri
+     * (makespan sering sama untuk banyak kandidat karena hanya ditentukan satu VM).
+     */
+    double fitness() {
+        return makespan() + 1e-3 * Math.sqrt(Math.max(0.0, sumSquares) / load.length);
+    }
+
+    int[] toArray() {
+        return vmOf.clone();
+    }
+
+    @Override
+    public String toString() {
+        return "LoadAssignment[makespan=" + makespan() + ", loads=" + Arrays.toString(load) + "]";
+    }
+}
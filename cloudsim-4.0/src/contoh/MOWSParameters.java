@@ -0,0 +1,96 @@
+package contoh;
+
+import java.util.Locale;
+
+/**
+ * Bobot dan konstanta normalisasi MOWS yang sebelumnya ditulis langsung di
+ * {@code scheduleWithMOWS}. {@link #defaults()} sama persis dengan nilai lama sehingga
+ * hasil eksperimen tidak berubah selama parameter tidak diganti.
+ *
+ * {@code wLoad} adalah bobot tambahan untuk beban VM (perkiraan waktu selesai relatif
+ * terhadap VM lain). Nilai 0 berarti MOWS asli yang tidak melihat beban.
+ */
+public final class MOWSParameters {
+
+    public static final String CSV_HEADER = "wPer,wSec,wLoad,maxTaskLength,maxVmMips,maxCommSize,maxVmBw";
+
+    private final double wPer;
+    private final double wSec;
+    private final double wLoad;
+    private final double maxTaskLength;
+    private final double maxVmMips;
+    private final double maxCommSize;
+    private final double maxVmBw;
+
+    public MOWSParameters(double wPer, double wSec, double wLoad, double maxTaskLength,
+            double maxVmMips, double maxCommSize, double maxVmBw) {
+        if (maxTaskLength <= 0 || maxVmMips <= 0 || maxCommSize <= 0 || maxVmBw <= 0) {
+            throw new IllegalArgumentException("Konstanta normalisasi harus > 0");
+        }
+        this.wPer = wPer;
+        this.wSec = wSec;
+        this.wLoad = wLoad;
+        this.maxTaskLength = maxTaskLength;
+        this.maxVmMips = maxVmMips;
+        this.maxCommSize = maxCommSize;
+        this.maxVmBw = maxVmBw;
+    }
+
+    public static MOWSParameters defaults() {
+        return new MOWSParameters(0.7, 0.3, 0.0, 20000.0, 6000.0, 2000.0, 5000.0);
+    }
+
+    public MOWSParameters withLoadWeight(double loadWeight) {
+        return new MOWSParameters(wPer, wSec, loadWeight, maxTaskLength, maxVmMips, maxCommSize, maxVmBw);
+    }
+
+    /**
+     * Mengganti maxTaskLength sesuai dataset: nilai maksimum jika distribusinya tidak berekor
+     * berat, atau kuantil 99% jika berekor berat (supaya satu tugas raksasa tidak membuat
+     * hampir semua tugas lain bernilai ~0). Konstanta VM & komunikasi tidak berubah.
+     */
+    public MOWSParameters calibratedTo(WorkloadProfile profile) {
+        if (profile.getCount() == 0) return this;
+        double length = profile.isHeavyTailed() ? profile.quantile(0.99) : profile.getMax();
+        return new MOWSParameters(wPer, wSec, wLoad, Math.max(1.0, length), maxVmMips, maxCommSize, maxVmBw);
+    }
+
+    public double getWPer() {
+        return wPer;
+    }
+
+    public double getWSec() {
+        return wSec;
+    }
+
+    public double getWLoad() {
+        return wLoad;
+    }
+
+    public double getMaxTaskLength() {
+        return maxTaskLength;
+    }
+
+    public double getMaxVmMips() {
+        return maxVmMips;
+    }
+
+    public double getMaxCommSize() {
+        return maxCommSize;
+    }
+
+    public double getMaxVmBw() {
+        return maxVmBw;
+    }
+
+    /** Satu baris CSV sesuai {@link #CSV_HEADER}. */
+    public String toCsvRow() {
+        return String.format(Locale.US, "%.4f,%.4f,%.4f,%.1f,%.1f,%.1f,%.1f",
+                wPer, wSec, wLoad, maxTaskLength, maxVmMips, maxCommSize, maxVmBw);
+    }
+
+    @Override
+    public String toString() {
+        return "MOWSParameters[" + toCsvRow() + "]";
+    }
+}
@@ -0,0 +1,112 @@
+package contoh;
+
+import org.cloudbus.cloudsim.Vm;
+import java.util.*;
+
+/**
+ * Pemilihan VM MOWS untuk satu pass penjadwalan (satu list/window cloudlet). Urutan
+ * pengambilan bilangan acak sama dengan implementasi awal: satu untuk kebutuhan keamanan
+ * tugas, lalu satu per VM untuk tingkat keamanan VM.
+ *
+ * Jika {@code wLoad > 0}, selector mencatat MI yang sudah diberikan ke tiap VM selama pass
+ * ini dan menambahkan perkiraan waktu selesai (dinormalisasi antar VM) ke skor.
+ */
+class MOWSSelector {
+
+    private final MOWSParameters params;
+    private final ReplayableRandom rng;
+    private final int[] vmIds;
+    private final double[] mips;
+    private final double[] mipsNorm;
+    private final double[] bwNorm;
+    private final double[] assignedMi;
+    private final double[] estimate;
+
+    MOWSSelector(MOWSParameters params, List<Vm> vms, ReplayableRandom rng) {
+        this(params, ids(vms), mips(vms), bw(vms), rng);
+    }
+
+    MOWSSelector(MOWSParameters params, int[] vmIds, double[] vmMips, double[] vmBw, ReplayableRandom rng) {
+        this.params = params;
+        this.rng = rng;
+        this.vmIds = vmIds;
+        this.mips = vmMips;
+        int n = vmIds.length;
+        this.mipsNorm = new double[n];
+        this.bwNorm = new double[n];
+        for (int v = 0; v < n; v++) {
+            mipsNorm[v] = Math.min(1.0, vmMips[v] / params.getMaxVmMips());
+            bwNorm[v] = Math.min(1.0, vmBw[v] / params.getMaxVmBw());
+        }
+        this.assignedMi = new double[n];
+        this.estimate = new double[n];
+    }
+
+    /** Mengembalikan indeks VM (posisi dalam list) untuk tugas berikutnya. */
+    int selectIndex(long cloudletLength, long fileSize) {
+        int n = vmIds.length;
+        double taskCompNorm = Math.min(1.0, cloudletLength / params.getMaxTaskLength());
+        double taskCommNorm = Math.min(1.0, (double) fileSize / params.getMaxCommSize());
+        double taskSecDemand = rng.nextDouble();
+
+        double wLoad = params.getWLoad();
+        double minEst = 0.0, spread = 0.0;
+        if (wLoad != 0.0) {
+            minEst = Double.MAX_VALUE;
+            double maxEst = 0.0;
+            for (int v = 0; v < n; v++) {
+                double est = (assignedMi[v] + cloudletLength) / mips[v];
+                estimate[v] = est;
+                minEst = Math.min(minEst, est);
+                maxEst = Math.max(maxEst, est);
+            }
+            spread = maxEst - minEst;
+        }
+
+        double bestDD = Double.MAX_VALUE;
+        int best = -1;
+        for (int v = 0; v < n; v++) {
+            double vmSecurity = rng.nextDouble();
+
+            double CD = Math.max(0.0, taskCompNorm - mipsNorm[v]);
+            double TD = Math.max(0.0, taskCommNorm - bwNorm[v]);
+            double SD = Math.abs(taskSecDemand - vmSecurity);
+
+            double dd = params.getWPer() * (CD + TD) + params.getWSec() * SD;
+            if (wLoad != 0.0 && spread > 0.0) {
+                dd += wLoad * (estimate[v] - minEst) / spread;
+            }
+
+            if (dd < bestDD) {
+                bestDD = dd;
+                best = v;
+            }
+        }
+
+        if (best < 0) best = 0;
+        assignedMi[best] += cloudletLength;
+        return best;
+    }
+
+    int select(long cloudletLength, long fileSize) {
+        return vmIds[selectIndex(cloudletLength, fileSize)];
+    }
+
+    private static int[] ids(List<Vm> vms) {
+        int[] a = new int[vms.size()];
+        for (int i = 0; i < a.length; i++) a[i] = vms.get(i).getId();
+        return a;
+    }
+
+    private static double[] mips(List<Vm> vms) {
+        double[] a = new double[vms.size()];
+        for (int i = 0; i < a.length; i++) a[i] = vms.get(i).getMips();
+        return a;
+    }
+
+    private static double[] bw(List<Vm> vms) {
+        double[] a = new double[vms.size()];
+        for (int i = 0; i < a.length; i++) a[i] = vms.get(i).getBw();
+        return a;
+    }
+}
@@ -0,0 +1,195 @@
+package contoh;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Mencari bobot dan konstanta normalisasi MOWS secara paralel dengan successive halving:
+ * semua konfigurasi dinilai pada subsampel kecil dataset, sepertiga terbaik (peringkat
+ * Pareto pada makespan & imbalance) lanjut ke subsampel tiga kali lebih besar, dan seterusnya
+ * sampai dataset penuh. Front Pareto dari putaran terakhir ditulis ke CSV.
+ *
+ * Penilaian memakai {@link AnalyticMOWSEvaluator} karena CloudSim memakai state global dan
+ * tidak bisa dijalankan paralel dalam satu JVM; konfigurasi terpilih sebaiknya dicek ulang
+ * dengan {@link ExampleMOWSExperiment} (pasang di MOWS_PARAMS).
+ *
+ * Pemakaian: {@code MOWSTuner [dataset] [random|grid] [jumlahKonfigurasi] [outputCsv]}
+ */
+public class MOWSTuner {
+
+    static final int ETA = 3;
+    static final int MIN_SAMPLE = 200;
+    // Jumlah konfigurasi yang dinilai pada dataset penuh (kandidat front Pareto)
+    static final int FINAL_CONFIGS = 9;
+
+    public static void main(String[] args) throws Exception {
+        String dataset = args.length > 0 ? args[0] : ExampleMOWSExperiment.SDSC_FILE;
+        String search = args.length > 1 ? args[1] : "random";
+        int configs = args.length > 2 ? Integer.parseInt(args[2]) : 81;
+        String output = args.length > 3 ? args[3] : System.getProperty("user.dir") + "/outputs/tuning/mows_pareto.csv";
+
+        int[] lengths = readLengths(dataset);
+        if (lengths.length == 0) {
+            System.err.println("Dataset kosong: " + dataset);
+            return;
+        }
+
+        int vmCount = ExampleMOWSExperiment.NUM_DATACENTER * ExampleMOWSExperiment.HOSTS_PER_DATACENTER * ExampleMOWSExperiment.VMS_PER_HOST;
+        double[] mips = new double[vmCount];
+        double[] bw = new double[vmCount];
+        Arrays.fill(mips, ExampleMOWSExperiment.VM_MIPS);
+        Arrays.fill(bw, ExampleMOWSExperiment.VM_BW);
+        AnalyticMOWSEvaluator evaluator = new AnalyticMOWSEvaluator(lengths, mips, bw, ExampleMOWSExperiment.CLOUDLET_FILESIZE);
+
+        List<MOWSParameters> candidates = "grid".equals(search) ? gridCandidates() : randomCandidates(configs, ExampleMOWSExperiment.SEED);
+        int threads = Runtime.getRuntime().availableProcessors();
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            long t0 = System.nanoTime();
+            List<AnalyticMOWSEvaluator.Result> front = successiveHalving(evaluator, candidates, pool);
+            writeFront(front, output);
+            System.out.printf(Locale.US, "Tuned %d configurations on %d tasks with %d threads in %.1f s; Pareto front (%d) saved at: %s%n",
+                    candidates.size(), lengths.length, threads, (System.nanoTime() - t0) / 1e9, front.size(), output);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /** Mengembalikan front Pareto dari konfigurasi yang bertahan sampai dataset penuh. */
+    static List<AnalyticMOWSEvaluator.Result> successiveHalving(AnalyticMOWSEvaluator evaluator,
+            List<MOWSParameters> candidates, ExecutorService pool) throws InterruptedException, ExecutionException {
+        int full = evaluator.datasetSize();
+        int rounds = 0;
+        for (int k = candidates.size(); k > FINAL_CONFIGS; k = (k + ETA - 1) / ETA) rounds++;
+
+        List<MOWSParameters> survivors = new ArrayList<>(candidates);
+        List<AnalyticMOWSEvaluator.Result> results = null;
+        for (int r = rounds; r >= 0; r--) {
+            int sample = (int) Math.max(Math.min(full, MIN_SAMPLE), full / Math.pow(ETA, r));
+            results = evaluateAll(evaluator, survivors, sample, pool);
+            System.out.printf("  round: %d configurations on %d tasks%n", survivors.size(), sample);
+            if (r == 0) break;
+
+            int keep = Math.max(Math.min(FINAL_CONFIGS, survivors.size()), (survivors.size() + ETA - 1) / ETA);
+            survivors = new ArrayList<>();
+            for (AnalyticMOWSEvaluator.Result res : rank(results).subList(0, keep)) {
+                survivors.add(res.params);
+            }
+        }
+        return paretoFront(results);
+    }
+
+    static List<AnalyticMOWSEvaluator.Result> evaluateAll(final AnalyticMOWSEvaluator evaluator,
+            List<MOWSParameters> configs, final int sample, ExecutorService pool) throws InterruptedException, ExecutionException {
+        List<Future<AnalyticMOWSEvaluator.Result>> futures = new ArrayList<>(configs.size());
+        for (final MOWSParameters p : configs) {
+            futures.add(pool.submit(() -> evaluator.evaluate(p, sample, ExampleMOWSExperiment.SEED)));
+        }
+        List<AnalyticMOWSEvaluator.Result> results = new ArrayList<>(configs.size());
+        for (Future<AnalyticMOWSEvaluator.Result> f : futures) {
+            results.add(f.get());
+        }
+        return results;
+    }
+
+    /** Urut menurut peringkat Pareto (non-dominated sorting), lalu jumlah objektif yang dinormalisasi. */
+    static List<AnalyticMOWSEvaluator.Result> rank(List<AnalyticMOWSEvaluator.Result> results) {
+        double minMakespan = Double.MAX_VALUE, minImbalance = Double.MAX_VALUE;
+        for (AnalyticMOWSEvaluator.Result r : results) {
+            minMakespan = Math.min(minMakespan, r.makespan);
+            minImbalance = Math.min(minImbalance, r.imbalanceDegree);
+        }
+        final Map<AnalyticMOWSEvaluator.Result, Integer> level = new IdentityHashMap<>();
+        List<AnalyticMOWSEvaluator.Result> remaining = new ArrayList<>(results);
+        for (int l = 0; !remaining.isEmpty(); l++) {
+            List<AnalyticMOWSEvaluator.Result> front = paretoFront(remaining);
+            for (AnalyticMOWSEvaluator.Result r : front) level.put(r, l);
+            remaining.removeAll(front);
+        }
+
+        final double mm = Math.max(minMakespan, 1e-9), mi = Math.max(minImbalance, 1e-9);
+        List<AnalyticMOWSEvaluator.Result> sorted = new ArrayList<>(results);
+        sorted.sort(Comparator.<AnalyticMOWSEvaluator.Result>comparingInt(level::get)
+                .thenComparingDouble(r -> r.makespan / mm + r.imbalanceDegree / mi));
+        return sorted;
+    }
+
+    static List<AnalyticMOWSEvaluator.Result> paretoFront(List<AnalyticMOWSEvaluator.Result> results) {
+        List<AnalyticMOWSEvaluator.Result> front = new ArrayList<>();
+        for (AnalyticMOWSEvaluator.Result a : results) {
+            boolean dominated = false;
+            for (AnalyticMOWSEvaluator.Result b : results) {
+                if (b != a && b.dominates(a)) {
+                    dominated = true;
+                    break;
+                }
+            }
+            if (!dominated) front.add(a);
+        }
+        front.sort(Comparator.comparingDouble(r -> r.makespan));
+        return front;
+    }
+
+    // --- Ruang pencarian ---
+
+    /** wSec dan wLoad dalam [0,1] (wPer = 1 - wSec), konstanta normalisasi log-uniform di sekitar nilai asli. */
+    static List<MOWSParameters> randomCandidates(int count, long seed) {
+        Random rng = new Random(seed);
+        MOWSParameters d = MOWSParameters.defaults();
+        List<MOWSParameters> list = new ArrayList<>(count + 1);
+        list.add(d);
+        for (int i = 1; i < count; i++) {
+            double wSec = rng.nextDouble();
+            list.add(new MOWSParameters(1.0 - wSec, wSec, rng.nextDouble(),
+                    logUniform(rng, 1e3, 1e7),
+                    d.getMaxVmMips() * logUniform(rng, 0.25, 4),
+                    d.getMaxCommSize() * logUniform(rng, 0.25, 4),
+                    d.getMaxVmBw() * logUniform(rng, 0.25, 4)));
+        }
+        return list;
+    }
+
+    static List<MOWSParameters> gridCandidates() {
+        MOWSParameters d = MOWSParameters.defaults();
+        List<MOWSParameters> list = new ArrayList<>();
+        for (double wSec : new double[]{0.0, 0.15, 0.3, 0.5, 0.75, 1.0}) {
+            for (double wLoad : new double[]{0.0, 0.1, 0.3, 0.7, 1.0}) {
+                for (double maxLen : new double[]{2e4, 2e5, 2e6, 2e7}) {
+                    list.add(new MOWSParameters(1.0 - wSec, wSec, wLoad, maxLen, d.getMaxVmMips(), d.getMaxCommSize(), d.getMaxVmBw()));
+                }
+            }
+        }
+        return list;
+    }
+
+    private static double logUniform(Random rng, double lo, double hi) {
+        return Math.exp(Math.log(lo) + rng.nextDouble() * (Math.log(hi) - Math.log(lo)));
+    }
+
+    // --- I/O ---
+
+    private static int[] readLengths(String filename) throws IOException {
+        try (TaskLengthReader reader = TaskLengthReader.open(filename, Long.MAX_VALUE)) {
+            int[] a = new int[1024];
+            int n = 0;
+            while (reader.hasNext()) {
+                if (n == a.length) a = Arrays.copyOf(a, n * 2);
+                a[n++] = reader.nextInt();
+            }
+            return Arrays.copyOf(a, n);
+        }
+    }
+
+    private static void writeFront(List<AnalyticMOWSEvaluator.Result> front, String output) throws IOException {
+        File parent = new File(output).getAbsoluteFile().getParentFile();
+        if (parent != null) parent.mkdirs();
+        try (PrintWriter pw = new PrintWriter(new FileWriter(output))) {
+            pw.println(MOWSParameters.CSV_HEADER + ",sampleSize,makespan,imbalanceDegree,avgFinishTime");
+            for (AnalyticMOWSEvaluator.Result r : front) {
+                pw.printf(Locale.US, "%s,%d,%.10f,%.10f,%.10f%n", r.params.toCsvRow(), r.sampleSize,
+                        r.makespan, r.imbalanceDegree, r.avgFinishTime);
+            }
+        }
+    }
+}
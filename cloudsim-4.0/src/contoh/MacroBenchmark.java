@@ -0,0 +1,400 @@
+package contoh;
+
+import org.cloudbus.cloudsim.Log;
+import java.io.*;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * Macrobenchmark end-to-end atas workload yang dikirim bersama repo. Setiap run menjalankan pipeline
+ * lengkap driver (baca dataset → topologi → penjadwalan → simulasi → pengumpulan metrik, lewat
+ * {@link ExampleMOWSExperiment#runCell}) dan mencatat:
+ * <ul>
+ *   <li>{@code loadMs} (parse file, sampling/padding) dan {@code wallMs} (seluruh pipeline);</li>
+ *   <li>{@code simulateMs} (fase {@code simulate} dari {@link PhaseTimer}), jumlah event CloudSim, dan
+ *       {@code eventsPerSec} = event / simulateMs, tanpa waktu topologi, penjadwalan dan metrik;</li>
+ *   <li>puncak heap (jumlah puncak tiap pool heap) dan puncak RSS ({@code VmHWM}, di-reset lewat
+ *       {@code /proc/self/clear_refs} jika kernel mengizinkan);</li>
+ *   <li>jumlah GC dan total waktu jeda GC selama run.</li>
+ * </ul>
+ * Result cache dilewati, jadi setiap run benar-benar disimulasikan. Hasil ditulis sebagai CSV per
+ * repetisi ke {@code outputs/benchmark/macro_<commit>.csv}; dua file dari commit berbeda dibandingkan
+ * dengan {@code compare} (uji yang sama dengan {@link RegressionGate}).
+ *
+ * Pemakaian:
+ * <pre>
+ *   MacroBenchmark [--workloads SDSC,SDSC_SAMPLED,RANDOM_STRATIFIED,RANDOM_SIMPLE,SYNTHETIC] [--tasks 1000,5000,10000]
+ *       [--synthetic-tasks 10000,20000] [--policies MOWS,ROUND_ROBIN] [--warmup 1] [--repeat 3] [--out file]
+ *   MacroBenchmark compare &lt;baseline.csv&gt; &lt;kandidat.csv&gt; [--tolerance 0.10] [--alpha 0.05]
+ * </pre>
+ */
+public class MacroBenchmark {
+
+    /**
+     * Workload yang dikirim: SDSC penuh ({@code sdsc} dan konfigurasi default driver), SDSC yang disampling
+     * ke TASK_COUNTS, kedua dataset acak ({@code RandomStratified}, {@code Randomsimple}), dan generator
+     * sintetis untuk ukuran di atas file yang ada.
+     */
+    public enum Workload { SDSC, SDSC_SAMPLED, RANDOM_STRATIFIED, RANDOM_SIMPLE, SYNTHETIC }
+
+    static final String CSV_HEADER = "commit,java,workload,policy,taskCount,repetition,loadMs,wallMs,simulateMs,events,eventsPerSec,"
+            + "peakHeapMB,peakRssMB,gcCount,gcPauseMs\n";
+
+    static final String STRATIFIED_BASE_PATH = "./datasets/randomStratified/RandStratified";
+    static final String SIMPLE_BASE_PATH = "./datasets/randomSimple/RandSimple";
+
+    static final Workload[] DEFAULT_WORKLOADS = {Workload.SDSC, Workload.SDSC_SAMPLED, Workload.RANDOM_STRATIFIED, Workload.RANDOM_SIMPLE};
+    static final int[] DEFAULT_TASK_COUNTS = {1000, 5000, 10000};
+    static final int[] DEFAULT_SYNTHETIC_TASK_COUNTS = {10000, 20000};
+
+    /** Metrik yang dibandingkan antar commit: nama kolom dan apakah nilai lebih besar lebih baik. */
+    static final String[][] METRICS = {
+        {"wallMs", "false"}, {"eventsPerSec", "true"}, {"peakHeapMB", "false"}, {"peakRssMB", "false"}, {"gcPauseMs", "false"}
+    };
+
+    private static final double MB = 1024.0 * 1024.0;
+    private static final Path PROC_STATUS = Paths.get("/proc/self/status");
+    private static final Path PROC_CLEAR_REFS = Paths.get("/proc/self/clear_refs");
+
+    private Workload[] workloads = DEFAULT_WORKLOADS;
+    private int[] taskCounts = DEFAULT_TASK_COUNTS;
+    private int[] syntheticTaskCounts = DEFAULT_SYNTHETIC_TASK_COUNTS;
+    private SchedulingPolicy[] policies = {SchedulingPolicy.MOWS, SchedulingPolicy.ROUND_ROBIN};
+    private int warmup = 1;
+    private int repeat = 3;
+
+    private final String commit = gitCommit();
+    private final String javaVersion = System.getProperty("java.version");
+    private boolean rssResettable = true;
+
+    /** Satu repetisi yang sudah diukur. */
+    static final class Measurement {
+        double loadMs;
+        double wallMs;
+        double simulateMs;
+        long events;
+        double eventsPerSec;
+        double peakHeapMB;
+        double peakRssMB;
+        long gcCount;
+        long gcPauseMs;
+    }
+
+    /** Menjalankan semua kombinasi workload × taskCount × kebijakan; baris CSV ditulis ke {@code out} begitu selesai. */
+    public void run(PrintWriter out) throws Exception {
+        out.print(CSV_HEADER);
+        out.flush();
+        SweepProgress progress = new SweepProgress(0, 0, false);
+        progress.start(0);
+        if (!ExampleMOWSExperiment.PHASE_TIMING) {
+            throw new IllegalStateException("MacroBenchmark membutuhkan PHASE_TIMING untuk mengukur fase simulate");
+        }
+        ExampleMOWSExperiment.bypassResultCache = true;
+        try {
+            for (Workload workload : workloads) {
+                for (int tasks : taskCountsFor(workload)) {
+                    for (SchedulingPolicy policy : policies) {
+                        for (int i = 0; i < warmup; i++) measure(workload, tasks, policy, progress);
+                        for (int rep = 1; rep <= repeat; rep++) {
+                            Measurement m = measure(workload, tasks, policy, progress);
+                            out.print(toCsvRow(workload, policy, tasks, rep, m));
+                            out.flush();
+                            System.out.printf(Locale.US, "%s %s tasks=%d rep=%d: %.1f ms, %.0f event/s, heap %.1f MB, RSS %.1f MB, GC %d ms%n",
+                                    workload, policy.getScenarioName(), tasks, rep, m.wallMs, m.eventsPerSec, m.peakHeapMB, m.peakRssMB, m.gcPauseMs);
+                        }
+                    }
+                }
+            }
+        } finally {
+            ExampleMOWSExperiment.bypassResultCache = false;
+            progress.stop();
+        }
+    }
+
+    private int[] taskCountsFor(Workload workload) throws IOException {
+        switch (workload) {
+            case SDSC: return new int[] {loadSdsc().length};
+            case SYNTHETIC: return syntheticTaskCounts;
+            default: return taskCounts;
+        }
+    }
+
+    private Measurement measure(Workload workload, int tasks, SchedulingPolicy policy, SweepProgress progress) throws Exception {
+        // Mulai dari heap yang bersih supaya puncak dan GC milik run ini saja
+        System.gc();
+        resetPeakHeap();
+        resetPeakRss();
+        long[] gcBefore = gcTotals();
+        long eventsBefore = progress.getEventsProcessed();
+
+        long start = System.nanoTime();
+        int[] lengths = load(workload, tasks);
+        long loaded = System.nanoTime();
+        ExampleMOWSExperiment.runCell(lengths, policy, 1, ExampleMOWSExperiment.SEED, null, row -> { });
+        long end = System.nanoTime();
+
+        long[] gcAfter = gcTotals();
+        Measurement m = new Measurement();
+        m.loadMs = (loaded - start) / 1e6;
+        m.wallMs = (end - start) / 1e6;
+        m.events = progress.getEventsProcessed() - eventsBefore;
+        m.simulateMs = phaseWallMs(ExampleMOWSExperiment.lastRunPhases, "simulate");
+        m.eventsPerSec = (m.simulateMs > 0.0) ? m.events / (m.simulateMs / 1e3) : 0.0;
+        m.peakHeapMB = peakHeap() / MB;
+        m.peakRssMB = peakRss() / MB;
+        m.gcCount = gcAfter[0] - gcBefore[0];
+        m.gcPauseMs = gcAfter[1] - gcBefore[1];
+        return m;
+    }
+
+    // --- Workload (tanpa cache Dataset, supaya setiap repetisi membayar pembacaan file) ---
+
+    static int[] load(Workload workload, int tasks) throws IOException {
+        switch (workload) {
+            case SDSC:
+                return loadSdsc();
+            case SDSC_SAMPLED:
+                return TraceSampler.sample(Arrays.stream(loadSdsc()).iterator(), tasks, TraceSampler.Method.RESERVOIR,
+                        ExampleMOWSExperiment.SEED).subset(tasks);
+            case RANDOM_STRATIFIED:
+                return loadStructured(STRATIFIED_BASE_PATH, tasks, WorkloadGenerator.stratified());
+            case RANDOM_SIMPLE:
+                return loadStructured(SIMPLE_BASE_PATH, tasks, WorkloadGenerator.simple());
+            default:
+                return WorkloadGenerator.stratified().generate(tasks, ExampleMOWSExperiment.SEED);
+        }
+    }
+
+    private static int[] loadSdsc() throws IOException {
+        try (InputStream in = CompressedInput.open(ExampleMOWSExperiment.SDSC_FILE)) {
+            return Dataset.parseLengths(in, Long.MAX_VALUE);
+        }
+    }
+
+    /** Seperti pembacaan dataset terstruktur di driver: file yang kurang diisi generator yang distribusinya sama. */
+    private static int[] loadStructured(String basePath, int tasks, WorkloadGenerator generator) throws IOException {
+        String path = basePath + tasks + ExampleMOWSExperiment.STRUCTURED_FILE_EXT;
+        int[] read = new int[0];
+        if (new File(path).isFile()) {
+            try (InputStream in = CompressedInput.open(path)) {
+                read = Dataset.parseLengths(in, tasks);
+            }
+        }
+        if (read.length == tasks) return read;
+        int[] lengths = Arrays.copyOf(read, tasks);
+        PrimitiveIterator.OfInt generated = generator.iterator(tasks - read.length, ExampleMOWSExperiment.SEED + read.length);
+        for (int i = read.length; i < tasks; i++) lengths[i] = generated.nextInt();
+        return lengths;
+    }
+
+    // --- Pengukuran JVM & proses ---
+
+    /** Total wallMs fase {@code phase} dari baris CSV {@link PhaseTimer} satu run. */
+    static double phaseWallMs(String phaseRows, String phase) {
+        double total = 0.0;
+        for (String line : phaseRows.split("\n")) {
+            String[] f = line.trim().split(",");
+            if (f.length >= 5 && phase.equals(f[3])) total += Double.parseDouble(f[4]);
+        }
+        return total;
+    }
+
+    private static void resetPeakHeap() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) pool.resetPeakUsage();
+        }
+    }
+
+    /** Jumlah puncak tiap pool heap (batas atas puncak heap sebenarnya, pool tidak memuncak bersamaan). */
+    private static long peakHeap() {
+        long total = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP && pool.getPeakUsage() != null) total += pool.getPeakUsage().getUsed();
+        }
+        return total;
+    }
+
+    /** Menulis "5" ke clear_refs me-reset VmHWM ke RSS saat ini (Linux 4.0+); jika gagal, puncaknya kumulatif. */
+    private void resetPeakRss() {
+        if (!rssResettable) return;
+        try {
+            Files.write(PROC_CLEAR_REFS, "5".getBytes(StandardCharsets.US_ASCII));
+        } catch (IOException | UnsupportedOperationException e) {
+            rssResettable = false;
+            if (Files.isReadable(PROC_STATUS)) {
+                System.err.println("Peringatan: VmHWM tidak bisa di-reset; peakRssMB adalah puncak sejak JVM mulai.");
+            }
+        }
+    }
+
+    /** VmHWM dari /proc/self/status dalam byte, -1 jika tidak tersedia (bukan Linux). */
+    private static long peakRss() {
+        try {
+            for (String line : Files.readAllLines(PROC_STATUS, StandardCharsets.US_ASCII)) {
+                if (line.startsWith("VmHWM:")) {
+                    return Long.parseLong(line.substring(6).trim().split("\\s+")[0]) * 1024L;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // bukan Linux
+        }
+        return -1L;
+    }
+
+    /**
+     * Total {jumlah, waktu ms} koleksi GC. Bean "Concurrent" (G1 di JDK 17+) mencatat siklus konkuren
+     * yang berjalan bersama aplikasi, bukan jeda, jadi tidak dihitung.
+     */
+    private static long[] gcTotals() {
+        long count = 0, time = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            if (gc.getName().contains("Concurrent")) continue;
+            count += Math.max(0, gc.getCollectionCount());
+            time += Math.max(0, gc.getCollectionTime());
+        }
+        return new long[] {count, time};
+    }
+
+    private String toCsvRow(Workload workload, SchedulingPolicy policy, int tasks, int rep, Measurement m) {
+        return String.format(Locale.US, "%s,%s,%s,%s,%d,%d,%.3f,%.3f,%.3f,%d,%.1f,%.3f,%.3f,%d,%d%n", commit, javaVersion, workload,
+                policy.getScenarioName(), tasks, rep, m.loadMs, m.wallMs, m.simulateMs, m.events, m.eventsPerSec, m.peakHeapMB, m.peakRssMB,
+                m.gcCount, m.gcPauseMs);
+    }
+
+    /** Commit HEAD (pendek) dengan akhiran "-dirty" jika ada perubahan; bisa ditimpa {@code -Dbench.commit}. */
+    static String gitCommit() {
+        String configured = System.getProperty("bench.commit");
+        if (configured != null && !configured.isEmpty()) return configured;
+        try {
+            Process head = new ProcessBuilder("git", "rev-parse", "--short", "HEAD").redirectErrorStream(true).start();
+            String hash;
+            try (BufferedReader r = new BufferedReader(new InputStreamReader(head.getInputStream(), StandardCharsets.UTF_8))) {
+                hash = r.readLine();
+            }
+            if (head.waitFor() != 0 || hash == null) return "unknown";
+            Process diff = new ProcessBuilder("git", "diff", "--quiet", "HEAD").redirectErrorStream(true).start();
+            return hash.trim() + (diff.waitFor() != 0 ? "-dirty" : "");
+        } catch (IOException e) {
+            return "unknown";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "unknown";
+        }
+    }
+
+    // --- Perbandingan antar commit ---
+
+    /** Sampel per sel {@code workload/skenario/taskCount -> metrik -> nilai per repetisi} dari CSV benchmark. */
+    static Map<String, Map<String, double[]>> loadCsv(Path path) throws IOException {
+        List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+        if (lines.isEmpty()) throw new IOException("CSV benchmark kosong: " + path);
+        List<String> header = Arrays.asList(lines.get(0).trim().split(","));
+        int[] columns = new int[METRICS.length];
+        for (int i = 0; i < METRICS.length; i++) {
+            columns[i] = header.indexOf(METRICS[i][0]);
+            if (columns[i] < 0) throw new IOException("Kolom " + METRICS[i][0] + " tidak ada di " + path);
+        }
+
+        Map<String, Map<String, List<Double>>> cells = new LinkedHashMap<>();
+        for (String line : lines.subList(1, lines.size())) {
+            if (line.trim().isEmpty()) continue;
+            String[] f = line.trim().split(",");
+            String cell = f[2] + "/" + f[3] + "/" + f[4];
+            Map<String, List<Double>> metrics = cells.computeIfAbsent(cell, k -> new LinkedHashMap<>());
+            for (int i = 0; i < METRICS.length; i++) {
+                double v = Double.parseDouble(f[columns[i]]);
+                if (v < 0) continue; // peakRssMB tidak tersedia
+                metrics.computeIfAbsent(METRICS[i][0], k -> new ArrayList<>()).add(v);
+            }
+        }
+
+        Map<String, Map<String, double[]>> result = new LinkedHashMap<>();
+        for (Map.Entry<String, Map<String, List<Double>>> cell : cells.entrySet()) {
+            Map<String, double[]> metrics = new LinkedHashMap<>();
+            for (Map.Entry<String, List<Double>> m : cell.getValue().entrySet()) {
+                metrics.put(m.getKey(), m.getValue().stream().mapToDouble(Double::doubleValue).toArray());
+            }
+            result.put(cell.getKey(), metrics);
+        }
+        return result;
+    }
+
+    /** Laporan CSV {@link RegressionGate} ke {@code out}; exit code 0 lolos, 1 regresi, 2 argumen salah. */
+    static int compare(String[] args, PrintStream out) throws IOException {
+        if (args.length < 3) {
+            System.err.println("Pemakaian: MacroBenchmark compare <baseline.csv> <kandidat.csv> [--tolerance t] [--alpha a]");
+            return 2;
+        }
+        RegressionGate gate = new RegressionGate();
+        double tolerance = 0.10;
+        for (int i = 3; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--tolerance": tolerance = Double.parseDouble(args[i + 1]); break;
+                case "--alpha": gate.alpha(Double.parseDouble(args[i + 1])); break;
+                default:
+                    System.err.println("Opsi tidak dikenal: " + args[i]);
+                    return 2;
+            }
+        }
+        List<RegressionGate.Finding> findings = gate.compare(loadCsv(Paths.get(args[1])), loadCsv(Paths.get(args[2])), METRICS, tolerance);
+        out.println(RegressionGate.REPORT_HEADER);
+        int failures = 0;
+        for (RegressionGate.Finding f : findings) {
+            out.println(f.toCsvRow());
+            if (f.verdict == RegressionGate.Verdict.REGRESSION || f.verdict == RegressionGate.Verdict.MISSING) failures++;
+        }
+        System.err.println(failures == 0 ? "MacroBenchmark: lolos (" + findings.size() + " pemeriksaan)"
+                : "MacroBenchmark: " + failures + " regresi dari " + findings.size() + " pemeriksaan");
+        return failures == 0 ? 0 : 1;
+    }
+
+    // --- CLI ---
+
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0 && "compare".equals(args[0])) {
+            System.exit(compare(args, System.out));
+        }
+        // Log CloudSim per event hanya mengukur kecepatan console
+        Log.disable();
+        MacroBenchmark bench = new MacroBenchmark();
+        String outFile = null;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--workloads":
+                    bench.workloads = Arrays.stream(value.split(",")).map(s -> Workload.valueOf(s.trim().toUpperCase(Locale.ROOT)))
+                            .toArray(Workload[]::new);
+                    break;
+                case "--tasks": bench.taskCounts = parseInts(value); break;
+                case "--synthetic-tasks": bench.syntheticTaskCounts = parseInts(value); break;
+                case "--policies":
+                    bench.policies = Arrays.stream(value.split(",")).map(s -> SchedulingPolicy.valueOf(s.trim().toUpperCase(Locale.ROOT)))
+                            .toArray(SchedulingPolicy[]::new);
+                    break;
+                case "--warmup": bench.warmup = Integer.parseInt(value); break;
+                case "--repeat": bench.repeat = Integer.parseInt(value); break;
+                case "--out": outFile = value; break;
+                default:
+                    System.err.println("Opsi tidak dikenal: " + args[i]);
+                    System.exit(2);
+            }
+        }
+        if (outFile == null) outFile = System.getProperty("user.dir") + "/outputs/benchmark/macro_" + bench.commit + ".csv";
+
+        File file = new File(outFile);
+        if (file.getAbsoluteFile().getParentFile() != null) file.getAbsoluteFile().getParentFile().mkdirs();
+        try (PrintWriter out = new PrintWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8))) {
+            bench.run(out);
+        }
+        System.out.println("Hasil benchmark: " + file.getPath());
+    }
+
+    private static int[] parseInts(String csv) {
+        return Arrays.stream(csv.split(",")).mapToInt(s -> Integer.parseInt(s.trim())).toArray();
+    }
+}
@@ -0,0 +1,76 @@
+package contoh;
+
+import java.util.SplittableRandom;
+
+/**
+ * Dasar penjadwal metaheuristik (GA, PSO, ACO) yang mencari penugasan tugas ke VM dengan
+ * makespan kecil memakai {@link LoadAssignment} sebagai evaluator fitness inkremental.
+ * Populasi dievaluasi paralel; setiap individu memakai RNG turunan dari (seed, iterasi,
+ * indeks) sehingga hasilnya sama berapa pun jumlah core.
+ */
+public abstract class MetaheuristicScheduler {
+
+    /**
+     * @param lengths panjang tugas (MI)
+     * @param vmMips kapasitas tiap VM
+     * @return indeks VM (posisi dalam {@code vmMips}) untuk setiap tugas
+     */
+    public abstract int[] schedule(long[] lengths, double[] vmMips, long seed);
+
+    /** Penugasan greedy: setiap tugas (urutan asli) ke VM yang paling cepat selesai. */
+    static int[] greedy(long[] lengths, double[] mips) {
+        int[] vmOf = new int[lengths.length];
+        double[] load = new double[mips.length];
+        for (int i = 0; i < lengths.length; i++) {
+            int best = 0;
+            double bestFinish = Double.MAX_VALUE;
+            for (int v = 0; v < mips.length; v++) {
+                double finish = load[v] + lengths[i] / mips[v];
+                if (finish < bestFinish) {
+                    bestFinish = finish;
+                    best = v;
+                }
+            }
+            vmOf[i] = best;
+            load[best] = bestFinish;
+        }
+        return vmOf;
+    }
+
+    static int[] randomAssignment(int tasks, int vms, SplittableRandom rng) {
+        int[] vmOf = new int[tasks];
+        for (int i = 0; i < tasks; i++) vmOf[i] = rng.nextInt(vms);
+        return vmOf;
+    }
+
+    /**
+     * Satu langkah perbaikan lokal: pindahkan tugas acak dari VM terberat ke VM teringan jika
+     * makespan tidak memburuk.
+     */
+    static void rebalanceStep(LoadAssignment a, SplittableRandom rng) {
+        int hi = a.mostLoadedVm(), lo = a.leastLoadedVm();
+        if (hi == lo) return;
+        int n = a.tasks();
+        // Cari tugas pertama di VM terberat mulai dari posisi acak: rata-rata n / jumlah VM langkah
+        int start = rng.nextInt(n);
+        for (int k = 0; k < n; k++) {
+            int t = start + k < n ? start + k : start + k - n;
+            if (a.vmOf(t) != hi) continue;
+            double before = a.fitness();
+            a.move(t, lo);
+            if (a.fitness() > before) a.move(t, hi);
+            return;
+        }
+    }
+
+    /** RNG deterministik untuk aliran (seed, stream). */
+    static SplittableRandom rng(long seed, long stream) {
+        return new SplittableRandom(mix64(seed + 0x9E3779B97F4A7C15L * (stream + 1)));
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return z ^ (z >>> 33);
+    }
+}
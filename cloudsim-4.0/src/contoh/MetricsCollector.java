@@ -0,0 +1,117 @@
+package contoh;
+
+import org.cloudbus.cloudsim.Cloudlet;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.*;
+
+/**
+ * Mengakumulasi metrik satu run secara inkremental (satu cloudlet per panggilan),
+ * sehingga cloudlet yang sudah dihitung tidak perlu disimpan sampai akhir simulasi.
+ * Rumus metrik sama dengan yang dipakai {@code ExampleMOWSExperiment.runExperiment}.
+ */
+public class MetricsCollector {
+
+    private int completed = 0;
+    private double totalCpuTime = 0.0;
+    private double totalWaitTime = 0.0;
+    private double sumStart = 0.0;
+    private double sumExec = 0.0;
+    private double sumFinish = 0.0;
+    private double makespan = 0.0;
+
+    // Total waktu eksekusi per VM, diindeks dengan vmId
+    private double[] vmExecSums = new double[64];
+    private boolean[] vmSeen = new boolean[64];
+    private int vmSeenCount = 0;
+
+    // Jika di-set, setiap cloudlet yang dihitung juga ditulis ke trace per cloudlet
+    private CloudletTraceWriter trace;
+
+    public void setTrace(CloudletTraceWriter trace) {
+        this.trace = trace;
+    }
+
+    public void fold(Cloudlet cl) {
+        if (trace != null) {
+            trace(cl.getCloudletId(), cl.getVmId(), cl.getCloudletLength(), cl.getStatus(),
+                    cl.getSubmissionTime(), cl.getExecStartTime(), cl.getFinishTime(), cl.getActualCPUTime());
+        }
+        fold(cl.getStatus(), cl.getVmId(), cl.getActualCPUTime(), cl.getExecStartTime(), cl.getFinishTime(), cl.getSubmissionTime());
+    }
+
+    /** Versi primitif dari {@link #fold(Cloudlet)}, untuk data yang tidak lagi berbentuk objek Cloudlet. */
+    public void fold(int status, int vmId, double exec, double start, double finish, double submitTime) {
+        completed++;
+        if (status != Cloudlet.SUCCESS) return;
+
+        double wait = Math.max(0.0, start - submitTime);
+        totalCpuTime += exec;
+        totalWaitTime += wait;
+        sumStart += start;
+        sumExec += exec;
+        sumFinish += finish;
+        makespan = Math.max(makespan, finish);
+
+        if (vmId >= vmExecSums.length) {
+            int size = Math.max(vmId + 1, vmExecSums.length * 2);
+            vmExecSums = Arrays.copyOf(vmExecSums, size);
+            vmSeen = Arrays.copyOf(vmSeen, size);
+        }
+        if (!vmSeen[vmId]) {
+            vmSeen[vmId] = true;
+            vmSeenCount++;
+        }
+        vmExecSums[vmId] += exec;
+    }
+
+    private void trace(int cloudletId, int vmId, long length, int status, double submit, double start, double finish, double cpuTime) {
+        try {
+            trace.write(cloudletId, vmId, length, status, submit, start, finish, cpuTime);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public int getCompleted() {
+        return completed;
+    }
+
+    public double getMakespan() {
+        return makespan;
+    }
+
+    /**
+     * Menghasilkan baris CSV detail (format kolom sama dengan header di main).
+     *
+     * @param vmCount jumlah VM pada run ini (dipakai untuk rata-rata per VM dan utilisasi)
+     */
+    public String toCsvRow(String scenario, int taskCount, int run, int vmCount, int totalHosts, double powerPerHost) {
+        double avgStart = completed>0 ? sumStart / completed : 0;
+        double avgExec = completed>0 ? sumExec / completed : 0;
+        double avgFinish = completed>0 ? sumFinish / completed : 0;
+        double throughput = makespan>0 ? ((double)completed / makespan) : 0.0;
+
+        double maxExec = 0.0, minExec = Double.POSITIVE_INFINITY, sumPerVM = 0.0;
+        for (int vmId = 0; vmId < vmExecSums.length; vmId++) {
+            if (!vmSeen[vmId]) continue;
+            double v = vmExecSums[vmId];
+            maxExec = Math.max(maxExec, v);
+            minExec = Math.min(minExec, v);
+            sumPerVM += v;
+        }
+        double avgPerVM = vmCount>0 ? sumPerVM / vmCount : 0;
+        if (vmSeenCount == 0 || minExec == Double.POSITIVE_INFINITY) minExec = 0.0;
+        double imbalanceDegree = avgPerVM>0 ? (maxExec - minExec) / avgPerVM : 0.0;
+
+        double resourceUtilization = (vmCount>0 && makespan>0) ? (totalCpuTime / (vmCount * makespan)) : 0.0;
+        double totalEnergy = powerPerHost * totalHosts * makespan;
+
+        return String.format(Locale.US,
+                "%s,%d,%d,%.10f,%.10f,%.10f,%.10f,%.10f,%.10f,%.10f,%.10f,%.10f,%.10f",
+                scenario, taskCount, run,
+                totalCpuTime, totalWaitTime, avgStart, avgExec, avgFinish, throughput, makespan,
+                imbalanceDegree, resourceUtilization, totalEnergy
+        );
+    }
+}
@@ -0,0 +1,191 @@
+package contoh;
+
+import org.cloudbus.cloudsim.*;
+import org.cloudbus.cloudsim.core.CloudSim;
+import java.util.*;
+
+/**
+ * Versi online dari MOWS: VM dipilih saat cloudlet tiba (lihat {@link ArrivalDatacenterBroker}),
+ * bukan dalam satu pass sebelum simulasi. Selain selisih kapasitas (CD, TD) dan keamanan (SD)
+ * seperti {@code scheduleWithMOWS}, skor memakai beban VM saat itu: panjang antrean dan sisa
+ * MI yang diperkirakan dari counter yang diperbarui inkremental saat cloudlet dikirim/kembali.
+ *
+ * Sisa MI per VM diturunkan secara lazy dengan laju MIPS VM sejak pembaruan terakhir (VM
+ * dengan satu PE memproses total MIPS-nya selama ada cloudlet, baik time- maupun space-shared),
+ * sehingga satu keputusan cukup O(jumlah VM) tanpa menelusuri cloudlet yang sedang berjalan.
+ *
+ * Hanya cloudlet dengan vmId -1 yang dijadwalkan di sini; cloudlet yang sudah punya VM dilewati.
+ */
+public class OnlineMOWSBroker extends ArrivalDatacenterBroker {
+
+    private MOWSParameters params;
+    private final Random rng;
+
+    // Counter per VM, diindeks dengan posisi VM di getVmsCreatedList()
+    private int vmCount = 0;
+    private int[] vmIds = new int[0];
+    private int[] indexByVmId = new int[0];
+    private double[] mips = new double[0];
+    private double[] mipsNorm = new double[0];
+    private double[] bwNorm = new double[0];
+    private double[] security = new double[0];
+    private int[] queueLength = new int[0];
+    private double[] remainingMi = new double[0];
+    private double[] lastUpdate = new double[0];
+    private double[] estimate = new double[0];
+
+    private long decisions = 0;
+    private long decisionNanos = 0;
+
+    /** Memakai bobot MOWS bawaan dengan bobot beban sama dengan bobot performa. */
+    public OnlineMOWSBroker(String name, long seed) throws Exception {
+        this(name, seed, MOWSParameters.defaults().withLoadWeight(MOWSParameters.defaults().getWPer()));
+    }
+
+    public OnlineMOWSBroker(String name, long seed, MOWSParameters params) throws Exception {
+        super(name);
+        this.params = params;
+        this.rng = new Random(seed);
+    }
+
+    /**
+     * Parameter MOWS untuk run berikutnya (broker dipakai ulang antar run). Bobot beban 0, yaitu MOWS
+     * offline asli, diganti bobot performa seperti konstruktor bawaan, karena tanpa beban versi online
+     * kehilangan satu-satunya informasi yang tidak dimiliki versi offline.
+     */
+    public void setParameters(MOWSParameters params) {
+        this.params = (params.getWLoad() > 0.0) ? params : params.withLoadWeight(params.getWPer());
+    }
+
+    /**
+     * Seed untuk run berikutnya. Driver memanggilnya setiap run dengan angka dari RAND, sehingga hasilnya
+     * sama dengan atau tanpa REUSE_SIMULATION dan state RAND (key result cache) ikut menentukannya.
+     */
+    public void setSeed(long seed) {
+        rng.setSeed(seed);
+    }
+
+    @Override
+    void resetForNextRun() {
+        super.resetForNextRun();
+        vmCount = 0;
+        decisions = 0;
+        decisionNanos = 0;
+    }
+
+    @Override
+    protected void onCloudletArrived(TraceCloudlet cloudlet) {
+        if (cloudlet.getVmId() != -1) return;
+        if (vmCount == 0) initCounters();
+        if (vmCount == 0) return; // tidak ada VM: biarkan broker membagi round-robin
+
+        long t0 = System.nanoTime();
+        int v = select(cloudlet.getCloudletLength(), cloudlet.getCloudletFileSize());
+        cloudlet.setVmId(vmIds[v]);
+        decay(v, CloudSim.clock());
+        queueLength[v]++;
+        remainingMi[v] += cloudlet.getCloudletLength();
+        decisionNanos += System.nanoTime() - t0;
+        decisions++;
+    }
+
+    @Override
+    protected void onCloudletsReturned(List<Cloudlet> finished) {
+        double now = CloudSim.clock();
+        for (Cloudlet cl : finished) {
+            int vmId = cl.getVmId();
+            if (vmId < 0 || vmId >= indexByVmId.length || indexByVmId[vmId] < 0) continue;
+            int v = indexByVmId[vmId];
+            decay(v, now);
+            if (--queueLength[v] <= 0) {
+                queueLength[v] = 0;
+                remainingMi[v] = 0.0;
+            }
+        }
+        super.onCloudletsReturned(finished);
+    }
+
+    public long getDecisionCount() {
+        return decisions;
+    }
+
+    /** Rata-rata waktu satu keputusan penjadwalan (ns), termasuk pembaruan counter. */
+    public double getAverageDecisionNanos() {
+        return decisions > 0 ? (double) decisionNanos / decisions : 0.0;
+    }
+
+    private int select(long length, long fileSize) {
+        double now = CloudSim.clock();
+        double taskCompNorm = Math.min(1.0, length / params.getMaxTaskLength());
+        double taskCommNorm = Math.min(1.0, fileSize / params.getMaxCommSize());
+        double taskSecDemand = rng.nextDouble();
+
+        // Perkiraan waktu selesai di tiap VM jika tugas ini ditambahkan
+        double minEst = Double.MAX_VALUE;
+        double maxEst = 0.0;
+        for (int v = 0; v < vmCount; v++) {
+            double remaining = Math.max(0.0, remainingMi[v] - mips[v] * (now - lastUpdate[v]));
+            double est = (remaining + length) / mips[v];
+            estimate[v] = est;
+            if (est < minEst) minEst = est;
+            if (est > maxEst) maxEst = est;
+        }
+        double spread = maxEst - minEst;
+
+        int best = 0;
+        double bestDD = Double.MAX_VALUE;
+        for (int v = 0; v < vmCount; v++) {
+            double CD = Math.max(0.0, taskCompNorm - mipsNorm[v]);
+            double TD = Math.max(0.0, taskCommNorm - bwNorm[v]);
+            double SD = Math.abs(taskSecDemand - security[v]);
+            double load = spread > 0.0 ? (estimate[v] - minEst) / spread : 0.0;
+
+            double dd = params.getWPer() * (CD + TD) + params.getWLoad() * load + params.getWSec() * SD;
+            if (dd < bestDD || (dd == bestDD && queueLength[v] < queueLength[best])) {
+                bestDD = dd;
+                best = v;
+            }
+        }
+        return best;
+    }
+
+    private void decay(int v, double now) {
+        double elapsed = now - lastUpdate[v];
+        if (elapsed > 0.0) {
+            remainingMi[v] = Math.max(0.0, remainingMi[v] - mips[v] * elapsed);
+        }
+        lastUpdate[v] = now;
+    }
+
+    private void initCounters() {
+        List<Vm> vms = getVmsCreatedList();
+        vmCount = vms.size();
+        vmIds = new int[vmCount];
+        mips = new double[vmCount];
+        mipsNorm = new double[vmCount];
+        bwNorm = new double[vmCount];
+        security = new double[vmCount];
+        queueLength = new int[vmCount];
+        remainingMi = new double[vmCount];
+        lastUpdate = new double[vmCount];
+        estimate = new double[vmCount];
+
+        int maxId = 0;
+        for (Vm vm : vms) maxId = Math.max(maxId, vm.getId());
+        indexByVmId = new int[maxId + 1];
+        Arrays.fill(indexByVmId, -1);
+
+        double now = CloudSim.clock();
+        for (int v = 0; v < vmCount; v++) {
+            Vm vm = vms.get(v);
+            vmIds[v] = vm.getId();
+            indexByVmId[vm.getId()] = v;
+            mips[v] = vm.getMips() * vm.getNumberOfPes();
+            mipsNorm[v] = Math.min(1.0, vm.getMips() / params.getMaxVmMips());
+            bwNorm[v] = Math.min(1.0, vm.getBw() / params.getMaxVmBw());
+            // Tingkat keamanan VM ditentukan sekali per run, bukan diundi ulang per tugas
+            security[v] = rng.nextDouble();
+            lastUpdate[v] = now;
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package contoh;
+
+import java.util.*;
+import java.util.stream.IntStream;
+
+/**
+ * PSO diskret untuk penjadwalan tugas: posisi partikel berupa bilangan real per tugas di
+ * [0, jumlahVM), VM = floor(posisi). Setelah posisi diperbarui, hanya tugas yang VM-nya
+ * berubah yang diterapkan ke {@link LoadAssignment} partikel.
+ */
+public class ParticleSwarmScheduler extends MetaheuristicScheduler {
+
+    private final int particles;
+    private final int iterations;
+    private final double inertia;
+    private final double cognitive;
+    private final double social;
+
+    public ParticleSwarmScheduler() {
+        this(24, 150, 0.7, 1.5, 1.5);
+    }
+
+    public ParticleSwarmScheduler(int particles, int iterations, double inertia, double cognitive, double social) {
+        this.particles = Math.max(1, particles);
+        this.iterations = iterations;
+        this.inertia = inertia;
+        this.cognitive = cognitive;
+        this.social = social;
+    }
+
+    @Override
+    public int[] schedule(long[] lengths, double[] vmMips, long seed) {
+        int n = lengths.length, vms = vmMips.length;
+        if (n == 0) return new int[0];
+
+        double[][] position = new double[particles][n];
+        double[][] velocity = new double[particles][n];
+        LoadAssignment[] current = new LoadAssignment[particles];
+        LoadAssignment[] personalBest = new LoadAssignment[particles];
+        double[][] personalBestPos = new double[particles][];
+        double[] personalBestFit = new double[particles];
+
+        int[] greedy = greedy(lengths, vmMips);
+        IntStream.range(0, particles).parallel().forEach(p -> {
+            SplittableRandom r = rng(seed, p);
+            int[] vmOf = p == 0 ? greedy : randomAssignment(n, vms, r);
+            for (int t = 0; t < n; t++) {
+                position[p][t] = vmOf[t] + r.nextDouble();
+                velocity[p][t] = (r.nextDouble() - 0.5) * vms * 0.1;
+            }
+            current[p] = new LoadAssignment(lengths, vmMips, vmOf);
+            personalBest[p] = current[p].copy();
+            personalBestPos[p] = position[p].clone();
+            personalBestFit[p] = current[p].fitness();
+        });
+
+        int globalBest = argMin(personalBestFit);
+        double[] globalPos = personalBestPos[globalBest].clone();
+        LoadAssignment globalAssignment = personalBest[globalBest].copy();
+        double globalFit = personalBestFit[globalBest];
+
+        double maxVelocity = Math.max(1.0, vms / 4.0);
+        for (int it = 0; it < iterations; it++) {
+            final int iter = it;
+            final double[] gPos = globalPos;
+            IntStream.range(0, particles).parallel().forEach(p -> {
+                SplittableRandom r = rng(seed, (long) (iter + 1) * particles + p);
+                double[] x = position[p], v = velocity[p], pb = personalBestPos[p];
+                LoadAssignment a = current[p];
+                for (int t = 0; t < n; t++) {
+                    double vt = inertia * v[t] + cognitive * r.nextDouble() * (pb[t] - x[t]) + social * r.nextDouble() * (gPos[t] - x[t]);
+                    vt = Math.max(-maxVelocity, Math.min(maxVelocity, vt));
+                    double xt = x[t] + vt;
+                    // Posisi memantul di batas supaya tidak menumpuk di VM pertama/terakhir
+                    if (xt < 0) { xt = -xt; vt = -vt; }
+                    if (xt >= vms) { xt = 2 * vms - xt - 1e-9; vt = -vt; }
+                    x[t] = Math.max(0, Math.min(vms - 1e-9, xt));
+                    v[t] = vt;
+                    a.move(t, (int) x[t]);
+                }
+                rebalanceStep(a, r);
+                // Sinkronkan posisi tugas yang dipindah oleh rebalancing
+                for (int t = 0; t < n; t++) {
+                    if ((int) x[t] != a.vmOf(t)) x[t] = a.vmOf(t) + 0.5;
+                }
+                double f = a.fitness();
+                if (f < personalBestFit[p]) {
+                    personalBestFit[p] = f;
+                    personalBest[p].copyFrom(a);
+                    System.arraycopy(x, 0, pb, 0, n);
+                }
+            });
+
+            int best = argMin(personalBestFit);
+            if (personalBestFit[best] < globalFit) {
+                globalFit = personalBestFit[best];
+                globalPos = personalBestPos[best].clone();
+                globalAssignment.copyFrom(personalBest[best]);
+            }
+        }
+        return globalAssignment.toArray();
+    }
+
+    private static int argMin(double[] a) {
+        int best = 0;
+        for (int i = 1; i < a.length; i++) if (a[i] < a[best]) best = i;
+        return best;
+    }
+
+    @Override
+    public String toString() {
+        return "PSO(particles=" + particles + ",iterations=" + iterations + ",w=" + inertia + ",c1=" + cognitive + ",c2=" + social + ")";
+    }
+}
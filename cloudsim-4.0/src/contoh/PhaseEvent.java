@@ -0,0 +1,96 @@
+package contoh;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Event JFR {@code contoh.Phase} untuk satu fase run, dipakai oleh {@link PhaseTimer}. Tipe event dibuat
+ * lewat {@code jdk.jfr.EventFactory} secara reflektif, jadi kelas ini tetap terkompilasi untuk Java 8
+ * (yang tidak punya paket {@code jdk.jfr}); tanpa JFR, {@link #start()} mengembalikan null.
+ */
+final class PhaseEvent {
+
+    private static final Object FACTORY;
+    private static final Method NEW_EVENT, BEGIN, END, SHOULD_COMMIT, SET, COMMIT;
+
+    static {
+        Object factory = null;
+        Method[] methods = new Method[6];
+        try {
+            Class<?> eventFactory = Class.forName("jdk.jfr.EventFactory");
+            Class<?> event = Class.forName("jdk.jfr.Event");
+            methods[0] = eventFactory.getMethod("newEvent");
+            methods[1] = event.getMethod("begin");
+            methods[2] = event.getMethod("end");
+            methods[3] = event.getMethod("shouldCommit");
+            methods[4] = event.getMethod("set", int.class, Object.class);
+            methods[5] = event.getMethod("commit");
+            factory = createFactory(eventFactory);
+        } catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+            factory = null; // JRE tanpa JFR (Java 8 lama) atau API berbeda: fase tetap dicatat ke CSV
+        }
+        FACTORY = factory;
+        NEW_EVENT = methods[0];
+        BEGIN = methods[1];
+        END = methods[2];
+        SHOULD_COMMIT = methods[3];
+        SET = methods[4];
+        COMMIT = methods[5];
+    }
+
+    private PhaseEvent() {
+    }
+
+    private static Object createFactory(Class<?> eventFactory) throws ReflectiveOperationException {
+        Constructor<?> annotation = Class.forName("jdk.jfr.AnnotationElement").getConstructor(Class.class, Object.class);
+        Constructor<?> field = Class.forName("jdk.jfr.ValueDescriptor").getConstructor(Class.class, String.class, List.class);
+
+        List<Object> eventAnnotations = Arrays.asList(
+                annotation.newInstance(jfr("Name"), "contoh.Phase"),
+                annotation.newInstance(jfr("Label"), "Experiment Phase"),
+                annotation.newInstance(jfr("Category"), new String[] {"CloudSim", "Experiment"}),
+                annotation.newInstance(jfr("StackTrace"), false));
+        Object nanos = annotation.newInstance(jfr("Timespan"), "NANOSECONDS");
+        // Urutan field sama dengan indeks Event.set(int, Object) di finish()
+        List<Object> fields = Arrays.asList(
+                field.newInstance(String.class, "scenario", Arrays.asList(annotation.newInstance(jfr("Label"), "Scenario"))),
+                field.newInstance(int.class, "taskCount", Arrays.asList(annotation.newInstance(jfr("Label"), "Task Count"))),
+                field.newInstance(int.class, "run", Arrays.asList(annotation.newInstance(jfr("Label"), "Run"))),
+                field.newInstance(String.class, "phase", Arrays.asList(annotation.newInstance(jfr("Label"), "Phase"))),
+                field.newInstance(long.class, "threadCpuTime", Arrays.asList(annotation.newInstance(jfr("Label"), "Thread CPU Time"), nanos)),
+                field.newInstance(long.class, "processCpuTime", Arrays.asList(annotation.newInstance(jfr("Label"), "Process CPU Time"), nanos)),
+                field.newInstance(long.class, "allocated", Arrays.asList(annotation.newInstance(jfr("Label"), "Allocated"),
+                        annotation.newInstance(jfr("DataAmount"), "BYTES"))));
+        return eventFactory.getMethod("create", List.class, List.class).invoke(null, eventAnnotations, fields);
+    }
+
+    private static Class<?> jfr(String annotation) throws ClassNotFoundException {
+        return Class.forName("jdk.jfr." + annotation);
+    }
+
+    /** Event yang sudah di-{@code begin}, atau null jika JFR tidak tersedia. */
+    static Object start() {
+        if (FACTORY == null) return null;
+        try {
+            Object event = NEW_EVENT.invoke(FACTORY);
+            BEGIN.invoke(event);
+            return event;
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+
+    static void finish(Object event, String scenario, int taskCount, int run, String phase, long threadCpu, long processCpu, long allocated) {
+        try {
+            END.invoke(event);
+            if (!(Boolean) SHOULD_COMMIT.invoke(event)) return;
+            Object[] values = {scenario, taskCount, run, phase, threadCpu, processCpu, allocated};
+            for (int i = 0; i < values.length; i++) SET.invoke(event, i, values[i]);
+            COMMIT.invoke(event);
+        } catch (ReflectiveOperationException e) {
+            // Event yang gagal dikirim tidak boleh menggagalkan run
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package contoh;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Locale;
+
+/**
+ * Mencatat waktu per fase dari satu run: wall time, CPU thread pemanggil, CPU seluruh proses
+ * (ikut menghitung thread paralel, mis. metaheuristik), dan byte yang dialokasikan thread
+ * pemanggil. Setiap fase juga dikirim sebagai event JFR {@code contoh.Phase} jika JFR tersedia,
+ * sehingga terlihat di rekaman {@code -XX:StartFlightRecording} bersama event JVM lainnya.
+ *
+ * <pre>
+ *   PhaseTimer timer = new PhaseTimer("MOWS", 7152, 1);
+ *   try (PhaseTimer.Phase p = timer.start("schedule")) { ... }
+ *   // atau berurutan tanpa blok: timer.next("load"); ... timer.next("simulate"); ... timer.finish();
+ *   phasesCsv.append(timer.getCsvRows());
+ * </pre>
+ */
+public class PhaseTimer {
+
+    public static final String CSV_HEADER = "scenario,taskCount,run,phase,wallMs,threadCpuMs,processCpuMs,allocatedMB\n";
+
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    private static final com.sun.management.ThreadMXBean ALLOC_THREADS = allocationBean();
+    private static final com.sun.management.OperatingSystemMXBean OS = osBean();
+
+    static {
+        if (THREADS.isCurrentThreadCpuTimeSupported() && !THREADS.isThreadCpuTimeEnabled()) {
+            THREADS.setThreadCpuTimeEnabled(true);
+        }
+    }
+
+    private final String scenario;
+    private final int taskCount;
+    private final int run;
+    private final StringBuilder rows = new StringBuilder();
+    private Phase current;
+
+    public PhaseTimer(String scenario, int taskCount, int run) {
+        this.scenario = scenario;
+        this.taskCount = taskCount;
+        this.run = run;
+    }
+
+    public Phase start(String name) {
+        return new Phase(name);
+    }
+
+    /** Menutup fase yang sedang berjalan (jika ada) lalu memulai fase berikutnya. */
+    public void next(String name) {
+        finish();
+        current = new Phase(name);
+    }
+
+    /** Menutup fase yang dimulai dengan {@link #next(String)}. */
+    public void finish() {
+        if (current != null) {
+            current.close();
+            current = null;
+        }
+    }
+
+    /** Baris CSV ({@link #CSV_HEADER}) untuk semua fase yang sudah selesai. */
+    public String getCsvRows() {
+        return rows.toString();
+    }
+
+    private static long threadCpu() {
+        return THREADS.isCurrentThreadCpuTimeSupported() ? THREADS.getCurrentThreadCpuTime() : 0L;
+    }
+
+    private static long processCpu() {
+        return OS != null ? OS.getProcessCpuTime() : 0L;
+    }
+
+    private static long allocated() {
+        return ALLOC_THREADS != null ? ALLOC_THREADS.getThreadAllocatedBytes(Thread.currentThread().getId()) : 0L;
+    }
+
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        if (!(THREADS instanceof com.sun.management.ThreadMXBean)) return null;
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) THREADS;
+        if (!bean.isThreadAllocatedMemorySupported()) return null;
+        if (!bean.isThreadAllocatedMemoryEnabled()) bean.setThreadAllocatedMemoryEnabled(true);
+        return bean;
+    }
+
+    private static com.sun.management.OperatingSystemMXBean osBean() {
+        Object bean = ManagementFactory.getOperatingSystemMXBean();
+        return (bean instanceof com.sun.management.OperatingSystemMXBean) ? (com.sun.management.OperatingSystemMXBean) bean : null;
+    }
+
+    /** Satu fase yang sedang berjalan; ditutup dengan try-with-resources. */
+    public final class Phase implements AutoCloseable {
+        private final String name;
+        private final long wallStart = System.nanoTime();
+        private final long threadCpuStart = threadCpu();
+        private final long processCpuStart = processCpu();
+        private final long allocatedStart = allocated();
+        private final Object event;
+        private boolean closed = false;
+
+        private Phase(String name) {
+            this.name = name;
+            this.event = PhaseEvent.start();
+        }
+
+        @Override
+        public void close() {
+            if (closed) return;
+            closed = true;
+            long wall = System.nanoTime() - wallStart;
+            long threadCpuNanos = threadCpu() - threadCpuStart;
+            long processCpuNanos = processCpu() - processCpuStart;
+            long bytes = allocated() - allocatedStart;
+            rows.append(String.format(Locale.US, "%s,%d,%d,%s,%.3f,%.3f,%.3f,%.3f%n", scenario, taskCount, run, name,
+                    wall / 1e6, threadCpuNanos / 1e6, processCpuNanos / 1e6, bytes / (1024.0 * 1024.0)));
+            if (event != null) {
+                PhaseEvent.finish(event, scenario, taskCount, run, name, threadCpuNanos, processCpuNanos, bytes);
+            }
+        }
+    }
+}
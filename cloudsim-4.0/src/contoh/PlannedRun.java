@@ -0,0 +1,44 @@
+package contoh;
+
+/**
+ * Satu run sweep yang bisa dikerjakan di proses mana pun: sel (taskCount, kebijakan, run), state
+ * RAND dan indeks Round-Robin di awal run, serta digest dataset yang dipakai coordinator.
+ * Dibuat oleh {@link ExampleMOWSExperiment#planRuns}; {@code index} adalah urutan run pada sweep serial.
+ */
+public final class PlannedRun {
+
+    final int index;
+    final int taskCount;
+    final SchedulingPolicy policy;
+    final int run;
+    final long randomState;
+    final int nextVmIndex;
+    final String datasetDigest;
+
+    PlannedRun(int index, int taskCount, SchedulingPolicy policy, int run, long randomState, int nextVmIndex, String datasetDigest) {
+        this.index = index;
+        this.taskCount = taskCount;
+        this.policy = policy;
+        this.run = run;
+        this.randomState = randomState;
+        this.nextVmIndex = nextVmIndex;
+        this.datasetDigest = datasetDigest;
+    }
+
+    /** Bentuk satu baris untuk protokol coordinator/worker (dipisah spasi). */
+    String toLine() {
+        return index + " " + taskCount + " " + policy.name() + " " + run + " " + randomState + " " + nextVmIndex + " " + datasetDigest;
+    }
+
+    static PlannedRun parse(String line) {
+        String[] f = line.trim().split(" ");
+        if (f.length != 7) throw new IllegalArgumentException("Spec run tidak valid: " + line);
+        return new PlannedRun(Integer.parseInt(f[0]), Integer.parseInt(f[1]), SchedulingPolicy.valueOf(f[2]),
+                Integer.parseInt(f[3]), Long.parseLong(f[4]), Integer.parseInt(f[5]), f[6]);
+    }
+
+    @Override
+    public String toString() {
+        return policy.getScenarioName() + " tasks=" + taskCount + " run=" + run;
+    }
+}
@@ -0,0 +1,386 @@
+package contoh;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * Membandingkan hasil sweep kandidat dengan baseline yang disimpan, per sel (skenario, taskCount):
+ * <ul>
+ *   <li>kualitas simulasi: makespan, throughput, totalEnergy, imbalanceDegree dari CSV detil
+ *       (per run), CSV ringkasan (hanya rata-rata), atau direktori {@link ResultStore} (sweep terakhir);</li>
+ *   <li>kecepatan simulator: total wallMs dan allocatedMB per run dari
+ *       {@code mows_rr_experiment_phases.csv} (hanya run yang benar-benar disimulasikan).</li>
+ * </ul>
+ * Sebuah metrik dianggap regresi jika kandidat lebih buruk dari toleransi relatif <i>dan</i> bedanya
+ * signifikan (Welch t-test atau bootstrap, dua sisi, {@code alpha}). Jika salah satu sisi hanya punya
+ * rata-rata (CSV ringkasan) atau satu run, uji tidak mungkin dan keputusan hanya memakai toleransi.
+ *
+ * Pemakaian:
+ * <pre>
+ *   RegressionGate &lt;baseline&gt; &lt;kandidat&gt; [--alpha 0.05] [--tolerance 0.01] [--speed-tolerance 0.10]
+ *       [--test welch|bootstrap] [--baseline-phases f] [--candidate-phases f]
+ * </pre>
+ * Laporan CSV ditulis ke stdout; exit code 1 jika ada regresi atau sel baseline yang hilang. Sel kecepatan
+ * tanpa run kandidat yang disimulasikan (semua diambil dari journal/result cache) dilaporkan
+ * {@link Verdict#NOT_MEASURED} dan tidak dihitung gagal.
+ */
+public class RegressionGate {
+
+    public enum Test { WELCH, BOOTSTRAP }
+
+    public enum Verdict { OK, IMPROVED, REGRESSION, MISSING, NOT_MEASURED }
+
+    /** Metrik yang diperiksa: nama kolom dan apakah nilai lebih besar lebih baik. */
+    static final String[][] QUALITY_METRICS = {
+        {"makespan", "false"}, {"throughput", "true"}, {"totalEnergy", "false"}, {"imbalanceDegree", "false"}
+    };
+    static final String[][] SPEED_METRICS = {{"wallMs", "false"}, {"allocatedMB", "false"}};
+
+    static final int BOOTSTRAP_SAMPLES = 10000;
+    static final long BOOTSTRAP_SEED = 12345L;
+
+    private double alpha = 0.05;
+    private double tolerance = 0.01;
+    private double speedTolerance = 0.10;
+    private Test test = Test.WELCH;
+
+    public RegressionGate alpha(double alpha) {
+        this.alpha = alpha;
+        return this;
+    }
+
+    public RegressionGate tolerance(double tolerance) {
+        this.tolerance = tolerance;
+        return this;
+    }
+
+    public RegressionGate speedTolerance(double speedTolerance) {
+        this.speedTolerance = speedTolerance;
+        return this;
+    }
+
+    public RegressionGate test(Test test) {
+        this.test = test;
+        return this;
+    }
+
+    /** Hasil perbandingan satu metrik di satu sel. */
+    public static final class Finding {
+        public final String cell;
+        public final String metric;
+        public final int baselineRuns;
+        public final int candidateRuns;
+        public final double baselineMean;
+        public final double candidateMean;
+        public final double relativeChange;
+        public final double pValue;
+        public final Verdict verdict;
+
+        Finding(String cell, String metric, int baselineRuns, int candidateRuns, double baselineMean, double candidateMean,
+                double relativeChange, double pValue, Verdict verdict) {
+            this.cell = cell;
+            this.metric = metric;
+            this.baselineRuns = baselineRuns;
+            this.candidateRuns = candidateRuns;
+            this.baselineMean = baselineMean;
+            this.candidateMean = candidateMean;
+            this.relativeChange = relativeChange;
+            this.pValue = pValue;
+            this.verdict = verdict;
+        }
+
+        String toCsvRow() {
+            return String.format(Locale.US, "%s,%s,%d,%d,%.10f,%.10f,%.6f,%s,%s", cell, metric, baselineRuns, candidateRuns,
+                    baselineMean, candidateMean, relativeChange, Double.isNaN(pValue) ? "" : String.format(Locale.US, "%.6f", pValue), verdict);
+        }
+    }
+
+    static final String REPORT_HEADER = "cell,metric,baselineRuns,candidateRuns,baselineMean,candidateMean,relativeChange,pValue,verdict";
+
+    /**
+     * Membandingkan dua kumpulan sampel {@code sel -> metrik -> nilai per run}. Sel yang ada di baseline
+     * tapi tidak di kandidat dilaporkan {@link Verdict#MISSING}; sel baru di kandidat diabaikan.
+     */
+    public List<Finding> compare(Map<String, Map<String, double[]>> baseline, Map<String, Map<String, double[]>> candidate,
+            String[][] metrics, double tolerance) {
+        return compare(baseline, candidate, metrics, tolerance, Verdict.MISSING);
+    }
+
+    /** Seperti {@link #compare(Map, Map, String[][], double)}, dengan verdict {@code missing} untuk sel tanpa sampel kandidat. */
+    public List<Finding> compare(Map<String, Map<String, double[]>> baseline, Map<String, Map<String, double[]>> candidate,
+            String[][] metrics, double tolerance, Verdict missing) {
+        List<Finding> findings = new ArrayList<>();
+        for (Map.Entry<String, Map<String, double[]>> cell : baseline.entrySet()) {
+            Map<String, double[]> cand = candidate.get(cell.getKey());
+            for (String[] metric : metrics) {
+                double[] b = cell.getValue().get(metric[0]);
+                double[] c = (cand != null) ? cand.get(metric[0]) : null;
+                if (b == null || b.length == 0) continue;
+                if (c == null || c.length == 0) {
+                    findings.add(new Finding(cell.getKey(), metric[0], b.length, 0, mean(b), Double.NaN, Double.NaN, Double.NaN, missing));
+                    continue;
+                }
+                findings.add(compareMetric(cell.getKey(), metric[0], Boolean.parseBoolean(metric[1]), b, c, tolerance));
+            }
+        }
+        return findings;
+    }
+
+    private Finding compareMetric(String cell, String metric, boolean higherIsBetter, double[] b, double[] c, double tolerance) {
+        double mb = mean(b);
+        double mc = mean(c);
+        double change = (mb != 0.0) ? (mc - mb) / Math.abs(mb) : (mc == mb ? 0.0 : Double.POSITIVE_INFINITY);
+        double worse = higherIsBetter ? -change : change;
+
+        // Tanpa variasi yang bisa diukur, uji statistik tidak berarti: hanya toleransi yang dipakai
+        double p = (b.length >= 2 && c.length >= 2) ? pValue(b, c) : Double.NaN;
+        boolean significant = Double.isNaN(p) || p < alpha;
+
+        Verdict verdict = Verdict.OK;
+        if (significant && worse > tolerance) verdict = Verdict.REGRESSION;
+        else if (significant && -worse > tolerance) verdict = Verdict.IMPROVED;
+        return new Finding(cell, metric, b.length, c.length, mb, mc, change, p, verdict);
+    }
+
+    double pValue(double[] b, double[] c) {
+        return test == Test.WELCH ? welchPValue(b, c) : bootstrapPValue(b, c);
+    }
+
+    // --- Statistik ---
+
+    static double mean(double[] x) {
+        double s = 0.0;
+        for (double v : x) s += v;
+        return s / x.length;
+    }
+
+    static double variance(double[] x) {
+        double m = mean(x), s = 0.0;
+        for (double v : x) s += (v - m) * (v - m);
+        return s / (x.length - 1);
+    }
+
+    /** p dua sisi Welch t-test; kedua sampel konstan menghasilkan 0 (beda) atau 1 (sama). */
+    static double welchPValue(double[] b, double[] c) {
+        double vb = variance(b) / b.length;
+        double vc = variance(c) / c.length;
+        double diff = mean(c) - mean(b);
+        if (vb + vc == 0.0) return diff == 0.0 ? 1.0 : 0.0;
+        double t = diff / Math.sqrt(vb + vc);
+        double df = (vb + vc) * (vb + vc) / (vb * vb / (b.length - 1) + vc * vc / (c.length - 1));
+        return regularizedBeta(df / (df + t * t), df / 2.0, 0.5);
+    }
+
+    /**
+     * p dua sisi bootstrap persentil untuk beda rata-rata: proporsi resample yang bedanya berada di sisi
+     * berlawanan dari nol, dikali dua. Seed tetap supaya gate reprodusibel.
+     */
+    static double bootstrapPValue(double[] b, double[] c) {
+        SplittableRandom rnd = new SplittableRandom(BOOTSTRAP_SEED);
+        int below = 0, above = 0;
+        for (int i = 0; i < BOOTSTRAP_SAMPLES; i++) {
+            double d = resampleMean(c, rnd) - resampleMean(b, rnd);
+            if (d <= 0) below++;
+            if (d >= 0) above++;
+        }
+        return Math.min(1.0, 2.0 * Math.min(below, above) / BOOTSTRAP_SAMPLES);
+    }
+
+    private static double resampleMean(double[] x, SplittableRandom rnd) {
+        double s = 0.0;
+        for (int i = 0; i < x.length; i++) s += x[rnd.nextInt(x.length)];
+        return s / x.length;
+    }
+
+    /** I_x(a, b) lewat continued fraction (Lentz), cukup untuk CDF distribusi t. */
+    static double regularizedBeta(double x, double a, double b) {
+        if (x <= 0.0) return 0.0;
+        if (x >= 1.0) return 1.0;
+        double lnFront = lnGamma(a + b) - lnGamma(a) - lnGamma(b) + a * Math.log(x) + b * Math.log(1.0 - x);
+        if (x > (a + 1.0) / (a + b + 2.0)) {
+            return 1.0 - Math.exp(lnFront) * betaContinuedFraction(1.0 - x, b, a) / b;
+        }
+        return Math.exp(lnFront) * betaContinuedFraction(x, a, b) / a;
+    }
+
+    private static double betaContinuedFraction(double x, double a, double b) {
+        final double tiny = 1e-300;
+        double c = 1.0, d = 1.0 - (a + b) * x / (a + 1.0);
+        if (Math.abs(d) < tiny) d = tiny;
+        d = 1.0 / d;
+        double h = d;
+        for (int m = 1; m <= 300; m++) {
+            int m2 = 2 * m;
+            double aa = m * (b - m) * x / ((a + m2 - 1.0) * (a + m2));
+            d = 1.0 + aa * d;
+            if (Math.abs(d) < tiny) d = tiny;
+            c = 1.0 + aa / c;
+            if (Math.abs(c) < tiny) c = tiny;
+            d = 1.0 / d;
+            h *= d * c;
+            aa = -(a + m) * (a + b + m) * x / ((a + m2) * (a + m2 + 1.0));
+            d = 1.0 + aa * d;
+            if (Math.abs(d) < tiny) d = tiny;
+            c = 1.0 + aa / c;
+            if (Math.abs(c) < tiny) c = tiny;
+            d = 1.0 / d;
+            double del = d * c;
+            h *= del;
+            if (Math.abs(del - 1.0) < 1e-12) break;
+        }
+        return h;
+    }
+
+    /** ln Γ(x), aproksimasi Lanczos (g = 7). */
+    private static double lnGamma(double x) {
+        final double[] coef = {0.99999999999980993, 676.5203681218851, -1259.1392167224028, 771.32342877765313,
+                -176.61502916214059, 12.507343278686905, -0.13857109526572012, 9.9843695780195716e-6, 1.5056327351493116e-7};
+        if (x < 0.5) return Math.log(Math.PI / Math.sin(Math.PI * x)) - lnGamma(1.0 - x);
+        x -= 1.0;
+        double s = coef[0];
+        for (int i = 1; i < coef.length; i++) s += coef[i] / (x + i);
+        double t = x + 7.5;
+        return 0.5 * Math.log(2 * Math.PI) + (x + 0.5) * Math.log(t) - t + Math.log(s);
+    }
+
+    // --- Pemuatan hasil ---
+
+    /**
+     * Sampel metrik kualitas per sel dari CSV detil, CSV ringkasan (satu "run" berisi rata-rata), atau
+     * direktori {@link ResultStore}. Nama skenario ringkasan ({@code MOWS_SDSC}) dikembalikan ke nama detil.
+     */
+    static Map<String, Map<String, double[]>> loadResults(Path path) throws IOException {
+        List<String> lines;
+        if (Files.isDirectory(path)) {
+            try (ResultStore store = ResultStore.open(path.toFile())) {
+                lines = Arrays.asList(store.query().latestSweep().toCsv().split("\n"));
+            }
+        } else {
+            lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+        }
+        if (lines.isEmpty()) return new LinkedHashMap<>();
+        boolean detail = Arrays.asList(lines.get(0).split(",")).contains("run");
+        int metricStart = detail ? 3 : 2;
+
+        Map<String, Map<String, List<Double>>> cells = new LinkedHashMap<>();
+        for (String line : lines.subList(1, lines.size())) {
+            String[] f = line.trim().split(",");
+            if (f.length < metricStart + ResultStore.METRICS.length) continue;
+            String cell = scenarioName(f[0]) + "/" + f[1];
+            Map<String, List<Double>> metrics = cells.computeIfAbsent(cell, k -> new LinkedHashMap<>());
+            for (int m = 0; m < ResultStore.METRICS.length; m++) {
+                metrics.computeIfAbsent(ResultStore.METRICS[m], k -> new ArrayList<>()).add(Double.parseDouble(f[metricStart + m]));
+            }
+        }
+        return toArrays(cells);
+    }
+
+    private static String scenarioName(String name) {
+        for (SchedulingPolicy policy : SchedulingPolicy.values()) {
+            if (name.startsWith(policy.getSummaryPrefix())) return policy.getScenarioName();
+        }
+        return name;
+    }
+
+    /**
+     * Total wallMs dan allocatedMB per run dari CSV fase. Run yang diambil dari result cache (tanpa fase
+     * {@code simulate}) dan baris di luar run (pembacaan dataset) tidak dihitung.
+     */
+    static Map<String, Map<String, double[]>> loadPhases(Path path) throws IOException {
+        Map<String, double[]> perRun = new LinkedHashMap<>();
+        Set<String> simulated = new HashSet<>();
+        List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+        for (String line : lines.subList(Math.min(1, lines.size()), lines.size())) {
+            String[] f = line.trim().split(",");
+            if (f.length < 8 || Integer.parseInt(f[2]) < 1) continue;
+            String run = f[0] + "/" + f[1] + "/" + f[2];
+            double[] totals = perRun.computeIfAbsent(run, k -> new double[2]);
+            totals[0] += Double.parseDouble(f[4]);
+            totals[1] += Double.parseDouble(f[7]);
+            if ("simulate".equals(f[3])) simulated.add(run);
+        }
+
+        Map<String, Map<String, List<Double>>> cells = new LinkedHashMap<>();
+        for (Map.Entry<String, double[]> e : perRun.entrySet()) {
+            if (!simulated.contains(e.getKey())) continue;
+            String cell = e.getKey().substring(0, e.getKey().lastIndexOf('/'));
+            Map<String, List<Double>> metrics = cells.computeIfAbsent(cell, k -> new LinkedHashMap<>());
+            metrics.computeIfAbsent("wallMs", k -> new ArrayList<>()).add(e.getValue()[0]);
+            metrics.computeIfAbsent("allocatedMB", k -> new ArrayList<>()).add(e.getValue()[1]);
+        }
+        return toArrays(cells);
+    }
+
+    private static Map<String, Map<String, double[]>> toArrays(Map<String, Map<String, List<Double>>> cells) {
+        Map<String, Map<String, double[]>> result = new LinkedHashMap<>();
+        for (Map.Entry<String, Map<String, List<Double>>> cell : cells.entrySet()) {
+            Map<String, double[]> metrics = new LinkedHashMap<>();
+            for (Map.Entry<String, List<Double>> m : cell.getValue().entrySet()) {
+                metrics.put(m.getKey(), m.getValue().stream().mapToDouble(Double::doubleValue).toArray());
+            }
+            result.put(cell.getKey(), metrics);
+        }
+        return result;
+    }
+
+    /** CSV fase di direktori yang sama dengan file hasil, jika ada. */
+    private static Path siblingPhases(Path results) {
+        Path dir = results.toAbsolutePath().getParent();
+        Path phases = (dir != null) ? dir.resolve("mows_rr_experiment_phases.csv") : null;
+        return (phases != null && Files.isRegularFile(phases)) ? phases : null;
+    }
+
+    public static void main(String[] args) throws IOException {
+        System.exit(run(args, System.out));
+    }
+
+    /** Menjalankan gate dengan argumen CLI; laporan ke {@code out}. Mengembalikan exit code (0 lolos, 1 regresi, 2 argumen salah). */
+    public static int run(String[] args, PrintStream out) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Pemakaian: RegressionGate <baseline> <kandidat> [--alpha a] [--tolerance t] [--speed-tolerance t]"
+                    + " [--test welch|bootstrap] [--baseline-phases f] [--candidate-phases f]");
+            return 2;
+        }
+        RegressionGate gate = new RegressionGate();
+        Path baseline = Paths.get(args[0]);
+        Path candidate = Paths.get(args[1]);
+        Path baselinePhases = siblingPhases(baseline);
+        Path candidatePhases = siblingPhases(candidate);
+        for (int i = 2; i + 1 < args.length; i += 2) {
+            switch (args[i]) {
+                case "--alpha": gate.alpha(Double.parseDouble(args[i + 1])); break;
+                case "--tolerance": gate.tolerance(Double.parseDouble(args[i + 1])); break;
+                case "--speed-tolerance": gate.speedTolerance(Double.parseDouble(args[i + 1])); break;
+                case "--test": gate.test(Test.valueOf(args[i + 1].toUpperCase(Locale.ROOT))); break;
+                case "--baseline-phases": baselinePhases = Paths.get(args[i + 1]); break;
+                case "--candidate-phases": candidatePhases = Paths.get(args[i + 1]); break;
+                default:
+                    System.err.println("Opsi tidak dikenal: " + args[i]);
+                    return 2;
+            }
+        }
+
+        List<Finding> findings = gate.compare(loadResults(baseline), loadResults(candidate), QUALITY_METRICS, gate.tolerance);
+        if (baselinePhases != null && candidatePhases != null) {
+            // Run dari journal/result cache tidak punya fase simulate: sel itu tidak terukur, bukan hilang
+            findings.addAll(gate.compare(loadPhases(baselinePhases), loadPhases(candidatePhases), SPEED_METRICS, gate.speedTolerance,
+                    Verdict.NOT_MEASURED));
+        } else {
+            System.err.println("CSV fase tidak lengkap; kecepatan simulator tidak dibandingkan.");
+        }
+
+        out.println(REPORT_HEADER);
+        int failures = 0, notMeasured = 0;
+        for (Finding f : findings) {
+            out.println(f.toCsvRow());
+            if (f.verdict == Verdict.REGRESSION || f.verdict == Verdict.MISSING) failures++;
+            if (f.verdict == Verdict.NOT_MEASURED) notMeasured++;
+        }
+        String skipped = (notMeasured > 0) ? ", " + notMeasured + " tidak terukur" : "";
+        System.err.println(failures == 0 ? "RegressionGate: lolos (" + findings.size() + " pemeriksaan" + skipped + ")"
+                : "RegressionGate: " + failures + " regresi dari " + findings.size() + " pemeriksaan" + skipped);
+        return failures == 0 ? 0 : 1;
+    }
+}
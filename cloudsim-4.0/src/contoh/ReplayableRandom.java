@@ -0,0 +1,65 @@
+package contoh;
+
+/**
+ * Generator dengan urutan angka yang sama persis dengan {@link java.util.Random} (LCG 48-bit yang
+ * sama untuk {@link #nextInt(int)}, {@link #nextLong()} dan {@link #nextDouble()}), tetapi state-nya
+ * bisa dibaca dan dipasang kembali. Dipakai {@link ResultCache}: run yang diambil dari cache harus
+ * meninggalkan RAND dalam state yang sama seperti jika run itu benar-benar disimulasikan.
+ *
+ * Sengaja bukan subclass {@code Random}: {@code nextGaussian()} di sana menyimpan nilai kedua
+ * pasangannya di luar state 48-bit, jadi tidak bisa di-replay dari satu angka.
+ */
+public class ReplayableRandom {
+
+    private static final long MULTIPLIER = 0x5DEECE66DL;
+    private static final long ADDEND = 0xBL;
+    private static final long MASK = (1L << 48) - 1;
+    private static final double DOUBLE_UNIT = 0x1.0p-53;
+
+    private long state;
+
+    public ReplayableRandom(long seed) {
+        setSeed(seed);
+    }
+
+    public synchronized void setSeed(long seed) {
+        state = (seed ^ MULTIPLIER) & MASK;
+    }
+
+    protected synchronized int next(int bits) {
+        state = (state * MULTIPLIER + ADDEND) & MASK;
+        return (int) (state >>> (48 - bits));
+    }
+
+    public int nextInt() {
+        return next(32);
+    }
+
+    /** Sama dengan {@link java.util.Random#nextInt(int)}. */
+    public int nextInt(int bound) {
+        if (bound <= 0) throw new IllegalArgumentException("bound harus positif");
+        if ((bound & -bound) == bound) return (int) ((bound * (long) next(31)) >> 31);
+        int bits, val;
+        do {
+            bits = next(31);
+            val = bits % bound;
+        } while (bits - val + (bound - 1) < 0);
+        return val;
+    }
+
+    public long nextLong() {
+        return ((long) next(32) << 32) + next(32);
+    }
+
+    public double nextDouble() {
+        return (((long) next(26) << 27) + next(27)) * DOUBLE_UNIT;
+    }
+
+    public long getState() {
+        return state;
+    }
+
+    public void setState(long state) {
+        this.state = state & MASK;
+    }
+}
@@ -0,0 +1,84 @@
+package contoh;
+
+import java.util.Arrays;
+
+/**
+ * Agregat online (Welford) untuk beberapa metrik sekaligus, dipakai untuk menentukan kapan
+ * replikasi sudah cukup: interval kepercayaan 95% (distribusi t) dari setiap metrik terpilih
+ * harus lebih sempit dari target relatif terhadap rata-ratanya.
+ */
+public class ReplicationStats {
+
+    // t_{0.975, df} untuk df = 1..30; di atasnya memakai ekspansi Cornish-Fisher dari z
+    private static final double[] T_975 = {
+        12.706, 4.303, 3.182, 2.776, 2.571, 2.447, 2.365, 2.306, 2.262, 2.228,
+        2.201, 2.179, 2.160, 2.145, 2.131, 2.120, 2.110, 2.101, 2.093, 2.086,
+        2.080, 2.074, 2.069, 2.064, 2.060, 2.056, 2.052, 2.048, 2.045, 2.042
+    };
+    private static final double Z_975 = 1.959964;
+
+    private final double[] mean;
+    private final double[] m2;
+    private long count = 0;
+
+    public ReplicationStats(int metricCount) {
+        mean = new double[metricCount];
+        m2 = new double[metricCount];
+    }
+
+    public void add(double[] values) {
+        count++;
+        for (int i = 0; i < mean.length; i++) {
+            double delta = values[i] - mean[i];
+            mean[i] += delta / count;
+            m2[i] += delta * (values[i] - mean[i]);
+        }
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMean(int metric) {
+        return mean[metric];
+    }
+
+    public double getStdDev(int metric) {
+        return count > 1 ? Math.sqrt(m2[metric] / (count - 1)) : 0.0;
+    }
+
+    /** Setengah lebar CI 95%, atau tak hingga jika belum ada dua sampel. */
+    public double getHalfWidth(int metric) {
+        if (count < 2) return Double.POSITIVE_INFINITY;
+        return tQuantile975(count - 1) * getStdDev(metric) / Math.sqrt(count);
+    }
+
+    /** Setengah lebar CI dibagi |rata-rata|; 0 jika metrik konstan. */
+    public double getRelativeHalfWidth(int metric) {
+        double hw = getHalfWidth(metric);
+        if (hw == 0.0) return 0.0;
+        return mean[metric] == 0.0 ? Double.POSITIVE_INFINITY : hw / Math.abs(mean[metric]);
+    }
+
+    public boolean isConverged(double targetRelativeHalfWidth) {
+        for (int i = 0; i < mean.length; i++) {
+            if (!(getRelativeHalfWidth(i) <= targetRelativeHalfWidth)) return false;
+        }
+        return true;
+    }
+
+    static double tQuantile975(long df) {
+        if (df <= T_975.length) return T_975[(int) df - 1];
+        double z = Z_975, v = df;
+        double z3 = z * z * z, z5 = z3 * z * z, z7 = z5 * z * z;
+        return z + (z3 + z) / (4 * v) + (5 * z5 + 16 * z3 + 3 * z) / (96 * v * v)
+                + (3 * z7 + 19 * z5 + 17 * z3 - 15 * z) / (384 * v * v * v);
+    }
+
+    @Override
+    public String toString() {
+        double[] rel = new double[mean.length];
+        for (int i = 0; i < rel.length; i++) rel[i] = getRelativeHalfWidth(i);
+        return "n=" + count + " mean=" + Arrays.toString(mean) + " relCI=" + Arrays.toString(rel);
+    }
+}
@@ -0,0 +1,177 @@
+package contoh;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * Cache hasil run di disk, dialamatkan dengan SHA-256 dari semua masukan yang menentukan hasil
+ * simulasi (isi dataset, topologi, kebijakan + parameter, state random awal, dan bytecode kelas
+ * yang terlibat). Satu entri = metrik satu run plus state yang harus dipulihkan setelahnya
+ * (state RAND dan indeks Round-Robin), sehingga run berikutnya tetap identik.
+ */
+public class ResultCache {
+
+    private static final String FORMAT_VERSION = "1";
+
+    private final File dir;
+    private int hits = 0;
+    private int misses = 0;
+
+    public ResultCache(File dir) {
+        this.dir = dir;
+    }
+
+    public static KeyBuilder key() {
+        return new KeyBuilder().add("ResultCache/" + FORMAT_VERSION);
+    }
+
+    /** Entri untuk key ini, atau null jika belum ada atau tidak terbaca. */
+    public Entry lookup(String key) {
+        File file = fileFor(key);
+        if (!file.isFile()) {
+            misses++;
+            return null;
+        }
+        Properties props = new Properties();
+        try (InputStream in = new FileInputStream(file)) {
+            props.load(in);
+            Entry entry = new Entry(props.getProperty("metrics"),
+                    Long.parseLong(props.getProperty("randomState")),
+                    Integer.parseInt(props.getProperty("nextVmIndex")));
+            if (entry.metrics == null) throw new IOException("metrics kosong");
+            hits++;
+            return entry;
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Entri cache rusak, disimulasikan ulang: " + file + " (" + e.getMessage() + ")");
+            misses++;
+            return null;
+        }
+    }
+
+    /** Ditulis ke file sementara lalu di-rename agar entri yang setengah tertulis tidak pernah terbaca. */
+    public void store(String key, Entry entry) {
+        File file = fileFor(key);
+        file.getParentFile().mkdirs();
+        Properties props = new Properties();
+        props.setProperty("metrics", entry.metrics);
+        props.setProperty("randomState", String.valueOf(entry.randomState));
+        props.setProperty("nextVmIndex", String.valueOf(entry.nextVmIndex));
+        File tmp = new File(file.getPath() + ".tmp");
+        try (OutputStream out = new FileOutputStream(tmp)) {
+            props.store(out, null);
+        } catch (IOException e) {
+            System.err.println("Gagal menulis cache hasil: " + e.getMessage());
+            return;
+        }
+        if (!tmp.renameTo(file)) {
+            file.delete();
+            tmp.renameTo(file);
+        }
+    }
+
+    private File fileFor(String key) {
+        return new File(new File(dir, key.substring(0, 2)), key + ".properties");
+    }
+
+    public int getHits() {
+        return hits;
+    }
+
+    public int getMisses() {
+        return misses;
+    }
+
+    /** Hasil satu run: kolom metrik (setelah scenario,taskCount,run) dan state setelah run. */
+    public static final class Entry {
+        public final String metrics;
+        public final long randomState;
+        public final int nextVmIndex;
+
+        public Entry(String metrics, long randomState, int nextVmIndex) {
+            this.metrics = metrics;
+            this.randomState = randomState;
+            this.nextVmIndex = nextVmIndex;
+        }
+    }
+
+    /** Menyusun key SHA-256; setiap bagian diberi pemisah agar ("ab","c") != ("a","bc"). */
+    public static final class KeyBuilder {
+        private final MessageDigest digest;
+        private final byte[] intBuffer = new byte[4 << 10];
+
+        KeyBuilder() {
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        public KeyBuilder add(String part) {
+            byte[] bytes = part.getBytes(StandardCharsets.UTF_8);
+            add((long) bytes.length);
+            digest.update(bytes);
+            return this;
+        }
+
+        public KeyBuilder add(long value) {
+            for (int i = 0; i < 8; i++) digest.update((byte) (value >>> (8 * i)));
+            return this;
+        }
+
+        /** Seluruh nilai iterator beserta jumlahnya. */
+        public KeyBuilder addInts(PrimitiveIterator.OfInt values) {
+            long count = 0;
+            int n = 0;
+            while (values.hasNext()) {
+                int v = values.nextInt();
+                intBuffer[n++] = (byte) v;
+                intBuffer[n++] = (byte) (v >>> 8);
+                intBuffer[n++] = (byte) (v >>> 16);
+                intBuffer[n++] = (byte) (v >>> 24);
+                if (n == intBuffer.length) {
+                    digest.update(intBuffer, 0, n);
+                    n = 0;
+                }
+                count++;
+            }
+            digest.update(intBuffer, 0, n);
+            return add(count);
+        }
+
+        /** Isi file apa adanya (termasuk kompresinya). */
+        public KeyBuilder addFile(String path) throws IOException {
+            byte[] buf = new byte[1 << 16];
+            long total = 0;
+            try (InputStream in = new FileInputStream(path)) {
+                int r;
+                while ((r = in.read(buf)) > 0) {
+                    digest.update(buf, 0, r);
+                    total += r;
+                }
+            }
+            return add(total);
+        }
+
+        /** Bytecode kelas, supaya perubahan kode scheduler/simulator membuat key baru. */
+        public KeyBuilder addClass(Class<?> cls) throws IOException {
+            String resource = "/" + cls.getName().replace('.', '/') + ".class";
+            try (InputStream in = cls.getResourceAsStream(resource)) {
+                if (in == null) return add("class:" + cls.getName());
+                byte[] buf = new byte[1 << 14];
+                int r;
+                while ((r = in.read(buf)) > 0) digest.update(buf, 0, r);
+            }
+            return add(cls.getName());
+        }
+
+        public String build() {
+            StringBuilder hex = new StringBuilder(64);
+            for (byte b : digest.digest()) hex.append(String.format("%02x", b));
+            return hex.toString();
+        }
+    }
+}
@@ -0,0 +1,555 @@
+package contoh;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.*;
+import java.util.function.DoublePredicate;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+/**
+ * Penyimpanan hasil run berbentuk kolom biner yang hanya di-append: satu file per kolom
+ * ({@code <metrik>.f64}, {@code taskCount.i32}, {@code run.i32}), dengan nama skenario dan label
+ * sweep di-encode sebagai kode kamus ({@code scenario.dict}, {@code sweep.dict}). Seluruh kolom
+ * dimuat ke memori saat dibuka dan diindeks per taskCount, jadi query atas ribuan sel tidak perlu
+ * mem-parse CSV lagi.
+ *
+ * Append menulis kolom metrik dulu lalu kolom kunci; saat dibuka, jumlah baris adalah panjang
+ * kolom terpendek dan sisa append yang terputus dipotong.
+ *
+ * <pre>
+ *   try (ResultStore store = ResultStore.open(new File("outputs/stratified/results.store"))) {
+ *       String csv = store.query().scenario("MOWS", "Baseline_RoundRobin").taskCount(1000, 5000)
+ *               .groupBy("scenario", "taskCount").aggregate(ResultStore.Agg.MEAN, "makespan", "totalEnergy").toCsv();
+ *   }
+ * </pre>
+ */
+public class ResultStore implements Closeable {
+
+    /** Kolom metrik, urutan sama dengan CSV detil setelah scenario,taskCount,run. */
+    public static final String[] METRICS = {"totalCpuTime", "totalWaitTime", "avgStartTime", "avgExecutionTime", "avgFinishTime",
+            "throughput", "makespan", "imbalanceDegree", "resourceUtilization", "totalEnergy"};
+
+    static final String[] KEYS = {"scenario", "sweep", "taskCount", "run"};
+
+    public enum Agg { COUNT, SUM, MEAN, MIN, MAX, STDDEV }
+
+    private final File dir;
+    private final Dictionary scenarios;
+    private final Dictionary sweeps;
+    private final IntColumn scenarioCol;
+    private final IntColumn sweepCol;
+    private final IntColumn taskCountCol;
+    private final IntColumn runCol;
+    private final DoubleColumn[] metricCols = new DoubleColumn[METRICS.length];
+    private int size;
+    private NavigableMap<Integer, int[]> taskIndex;
+
+    private ResultStore(File dir) throws IOException {
+        this.dir = dir;
+        this.scenarios = new Dictionary(new File(dir, "scenario.dict"));
+        this.sweeps = new Dictionary(new File(dir, "sweep.dict"));
+        this.scenarioCol = new IntColumn(new File(dir, "scenario.i32"));
+        this.sweepCol = new IntColumn(new File(dir, "sweep.i32"));
+        this.taskCountCol = new IntColumn(new File(dir, "taskCount.i32"));
+        this.runCol = new IntColumn(new File(dir, "run.i32"));
+        for (int m = 0; m < METRICS.length; m++) {
+            metricCols[m] = new DoubleColumn(new File(dir, METRICS[m] + ".f64"));
+        }
+
+        int rows = Math.min(Math.min(scenarioCol.size, sweepCol.size), Math.min(taskCountCol.size, runCol.size));
+        for (DoubleColumn col : metricCols) rows = Math.min(rows, col.size);
+        for (Column col : columns()) col.truncate(rows);
+        this.size = rows;
+    }
+
+    public static ResultStore open(File dir) throws IOException {
+        if (!dir.isDirectory() && !dir.mkdirs()) throw new IOException("Direktori result store tidak bisa dibuat: " + dir);
+        return new ResultStore(dir);
+    }
+
+    private List<Column> columns() {
+        List<Column> cols = new ArrayList<>(Arrays.<Column>asList(metricCols));
+        cols.addAll(Arrays.asList(scenarioCol, sweepCol, taskCountCol, runCol));
+        return cols;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public File getDirectory() {
+        return dir;
+    }
+
+    /**
+     * Menambahkan baris-baris CSV detil ({@code scenario,taskCount,run,<10 metrik>}) dengan label sweep
+     * yang sama. Baris header dan baris kosong dilewati. Mengembalikan jumlah baris yang ditambahkan.
+     */
+    public synchronized int append(String sweep, String detailCsv) throws IOException {
+        // Semua baris di-parse dulu; baris yang rusak membatalkan seluruh append sebelum ada kolom yang berubah
+        List<String> scenarioNames = new ArrayList<>();
+        List<int[]> keys = new ArrayList<>();
+        List<double[]> metrics = new ArrayList<>();
+        for (String line : detailCsv.split("\n")) {
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("scenario,")) continue;
+            String[] parts = line.split(",");
+            if (parts.length != METRICS.length + 3) throw new IllegalArgumentException("Baris detil tidak valid: " + line);
+            double[] values = new double[METRICS.length];
+            int[] taskCountAndRun;
+            try {
+                for (int m = 0; m < METRICS.length; m++) values[m] = Double.parseDouble(parts[m + 3]);
+                taskCountAndRun = new int[] {Integer.parseInt(parts[1]), Integer.parseInt(parts[2])};
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Baris detil tidak valid: " + line, e);
+            }
+            scenarioNames.add(parts[0]);
+            keys.add(taskCountAndRun);
+            metrics.add(values);
+        }
+
+        int added = scenarioNames.size();
+        if (added == 0) return 0;
+        int sweepCode = sweeps.code(sweep);
+        for (int i = 0; i < added; i++) {
+            double[] values = metrics.get(i);
+            for (int m = 0; m < METRICS.length; m++) metricCols[m].add(values[m]);
+            scenarioCol.add(scenarios.code(scenarioNames.get(i)));
+            sweepCol.add(sweepCode);
+            taskCountCol.add(keys.get(i)[0]);
+            runCol.add(keys.get(i)[1]);
+        }
+        for (Column col : columns()) col.flush();
+        size += added;
+        taskIndex = null;
+        return added;
+    }
+
+    public List<String> getScenarios() {
+        return scenarios.values();
+    }
+
+    public List<String> getSweeps() {
+        return sweeps.values();
+    }
+
+    public Query query() {
+        return new Query();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        for (Column col : columns()) col.close();
+    }
+
+    private static int metricIndex(String metric) {
+        for (int m = 0; m < METRICS.length; m++) {
+            if (METRICS[m].equals(metric)) return m;
+        }
+        throw new IllegalArgumentException("Metrik tidak dikenal: " + metric);
+    }
+
+    /** Baris per taskCount, dibangun ulang setelah append. */
+    private synchronized NavigableMap<Integer, int[]> taskIndex() {
+        if (taskIndex == null) {
+            Map<Integer, IntStream.Builder> builders = new HashMap<>();
+            for (int r = 0; r < size; r++) builders.computeIfAbsent(taskCountCol.data[r], k -> IntStream.builder()).add(r);
+            NavigableMap<Integer, int[]> index = new TreeMap<>();
+            for (Map.Entry<Integer, IntStream.Builder> e : builders.entrySet()) index.put(e.getKey(), e.getValue().build().toArray());
+            taskIndex = index;
+        }
+        return taskIndex;
+    }
+
+    private String keyValue(String key, int row) {
+        switch (key) {
+            case "scenario": return scenarios.value(scenarioCol.data[row]);
+            case "sweep": return sweeps.value(sweepCol.data[row]);
+            case "taskCount": return String.valueOf(taskCountCol.data[row]);
+            case "run": return String.valueOf(runCol.data[row]);
+            default: throw new IllegalArgumentException("Kolom kunci tidak dikenal: " + key);
+        }
+    }
+
+    /** Filter atas baris store; semua kondisi digabung dengan AND. */
+    public final class Query {
+
+        private final List<IntPredicate> filters = new ArrayList<>();
+        private int minTasks = Integer.MIN_VALUE;
+        private int maxTasks = Integer.MAX_VALUE;
+
+        private Query() {
+        }
+
+        public Query scenario(String... names) {
+            filters.add(codeFilter(scenarios, scenarioCol, names));
+            return this;
+        }
+
+        public Query sweep(String... labels) {
+            filters.add(codeFilter(sweeps, sweepCol, labels));
+            return this;
+        }
+
+        /** Hanya baris dari sweep yang paling akhir di-append. */
+        public Query latestSweep() {
+            int latest = sweeps.values().size() - 1;
+            filters.add(r -> sweepCol.data[r] == latest);
+            return this;
+        }
+
+        /** Rentang taskCount inklusif; memakai indeks taskCount, bukan scan. */
+        public Query taskCount(int min, int max) {
+            minTasks = Math.max(minTasks, min);
+            maxTasks = Math.min(maxTasks, max);
+            return this;
+        }
+
+        public Query run(int min, int max) {
+            filters.add(r -> runCol.data[r] >= min && runCol.data[r] <= max);
+            return this;
+        }
+
+        public Query where(String metric, DoublePredicate predicate) {
+            double[] values = metricCols[metricIndex(metric)].data;
+            filters.add(r -> predicate.test(values[r]));
+            return this;
+        }
+
+        private IntPredicate codeFilter(Dictionary dict, IntColumn col, String... values) {
+            BitSet codes = new BitSet();
+            for (String v : values) {
+                int code = dict.find(v);
+                if (code >= 0) codes.set(code);
+            }
+            return r -> codes.get(col.data[r]);
+        }
+
+        /** Nomor baris yang lolos filter, urut sesuai urutan append. */
+        public int[] rows() {
+            synchronized (ResultStore.this) {
+                int[] candidates;
+                if (minTasks == Integer.MIN_VALUE && maxTasks == Integer.MAX_VALUE) {
+                    candidates = new int[size];
+                    for (int r = 0; r < size; r++) candidates[r] = r;
+                } else if (minTasks > maxTasks) {
+                    candidates = new int[0];
+                } else {
+                    Collection<int[]> parts = taskIndex().subMap(minTasks, true, maxTasks, true).values();
+                    candidates = parts.stream().flatMapToInt(Arrays::stream).sorted().toArray();
+                }
+                int n = 0;
+                outer:
+                for (int r : candidates) {
+                    for (IntPredicate f : filters) {
+                        if (!f.test(r)) continue outer;
+                    }
+                    candidates[n++] = r;
+                }
+                return Arrays.copyOf(candidates, n);
+            }
+        }
+
+        public int count() {
+            return rows().length;
+        }
+
+        /** Nilai satu metrik untuk baris yang lolos filter. */
+        public double[] values(String metric) {
+            double[] column = metricCols[metricIndex(metric)].data;
+            return Arrays.stream(rows()).mapToDouble(r -> column[r]).toArray();
+        }
+
+        public Grouping groupBy(String... keys) {
+            return new Grouping(this, keys);
+        }
+
+        /** Baris yang lolos filter dalam format CSV detil driver ({@code %.10f}). */
+        public String toCsv() {
+            StringBuilder sb = new StringBuilder("scenario,taskCount,run");
+            for (String metric : METRICS) sb.append(',').append(metric);
+            sb.append('\n');
+            for (int r : rows()) {
+                sb.append(keyValue("scenario", r)).append(',').append(taskCountCol.data[r]).append(',').append(runCol.data[r]);
+                for (DoubleColumn col : metricCols) sb.append(',').append(String.format(Locale.US, "%.10f", col.data[r]));
+                sb.append('\n');
+            }
+            return sb.toString();
+        }
+    }
+
+    /** Hasil {@link Query#groupBy}: grup diurutkan sesuai kemunculan pertamanya di store. */
+    public final class Grouping {
+
+        private final Query query;
+        private final String[] keys;
+
+        private Grouping(Query query, String... keys) {
+            for (String key : keys) {
+                if (!Arrays.asList(KEYS).contains(key)) {
+                    throw new IllegalArgumentException("Kolom kunci tidak dikenal: " + key + " (pilihan: " + Arrays.toString(KEYS) + ")");
+                }
+            }
+            this.query = query;
+            this.keys = keys.clone();
+        }
+
+        public Table aggregate(Agg agg, String... metrics) {
+            int[] m = new int[metrics.length];
+            for (int i = 0; i < m.length; i++) m[i] = metricIndex(metrics[i]);
+
+            Map<List<String>, double[][]> groups = new LinkedHashMap<>();
+            for (int r : query.rows()) {
+                List<String> key = new ArrayList<>(keys.length);
+                for (String k : keys) key.add(keyValue(k, r));
+                // per metrik: count, sum, mean & M2 (Welford, seperti ReplicationStats), min, max
+                double[][] acc = groups.computeIfAbsent(key, k -> {
+                    double[][] a = new double[m.length][];
+                    for (int i = 0; i < a.length; i++) a[i] = new double[] {0, 0, 0, 0, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY};
+                    return a;
+                });
+                for (int i = 0; i < m.length; i++) {
+                    double v = metricCols[m[i]].data[r];
+                    acc[i][0]++;
+                    acc[i][1] += v;
+                    double delta = v - acc[i][2];
+                    acc[i][2] += delta / acc[i][0];
+                    acc[i][3] += delta * (v - acc[i][2]);
+                    acc[i][4] = Math.min(acc[i][4], v);
+                    acc[i][5] = Math.max(acc[i][5], v);
+                }
+            }
+
+            Table table = new Table(keys, agg, metrics);
+            for (Map.Entry<List<String>, double[][]> e : groups.entrySet()) {
+                double[] values = new double[m.length];
+                for (int i = 0; i < m.length; i++) values[i] = finish(agg, e.getValue()[i]);
+                table.rows.add(e.getKey().toArray(new String[0]));
+                table.values.add(values);
+            }
+            return table;
+        }
+
+        private double finish(Agg agg, double[] acc) {
+            double n = acc[0];
+            switch (agg) {
+                case COUNT: return n;
+                case SUM: return acc[1];
+                case MEAN: return acc[1] / n;
+                case MIN: return acc[4];
+                case MAX: return acc[5];
+                case STDDEV: return n < 2 ? 0.0 : Math.sqrt(acc[3] / (n - 1));
+                default: throw new IllegalArgumentException(String.valueOf(agg));
+            }
+        }
+    }
+
+    /** Tabel hasil agregasi: kolom kunci lalu satu kolom per metrik. */
+    public static final class Table {
+
+        private final String[] keys;
+        private final Agg agg;
+        private final String[] metrics;
+        private final List<String[]> rows = new ArrayList<>();
+        private final List<double[]> values = new ArrayList<>();
+
+        Table(String[] keys, Agg agg, String[] metrics) {
+            this.keys = keys.clone();
+            this.agg = agg;
+            this.metrics = metrics.clone();
+        }
+
+        public int size() {
+            return rows.size();
+        }
+
+        public String[] getKeys(int row) {
+            return rows.get(row).clone();
+        }
+
+        public double getValue(int row, int metric) {
+            return values.get(row)[metric];
+        }
+
+        public String toCsv() {
+            StringJoiner header = new StringJoiner(",", "", "\n");
+            for (String key : keys) header.add(key);
+            for (String metric : metrics) header.add(agg.name().toLowerCase(Locale.ROOT) + "_" + metric);
+            StringBuilder sb = new StringBuilder(header.toString());
+            for (int i = 0; i < rows.size(); i++) {
+                StringJoiner line = new StringJoiner(",", "", "\n");
+                for (String key : rows.get(i)) line.add(key);
+                for (double v : values.get(i)) line.add(agg == Agg.COUNT ? String.valueOf((long) v) : String.format(Locale.US, "%.10f", v));
+                sb.append(line);
+            }
+            return sb.toString();
+        }
+    }
+
+    // --- File kolom & kamus ---
+
+    private abstract static class Column implements Closeable {
+        final File file;
+        final int width;
+        int size;
+        private DataOutputStream out;
+
+        Column(File file, int width) {
+            this.file = file;
+            this.width = width;
+        }
+
+        byte[] readAll() throws IOException {
+            return file.isFile() ? Files.readAllBytes(file.toPath()) : new byte[0];
+        }
+
+        DataOutputStream out() throws IOException {
+            if (out == null) out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file, true)));
+            return out;
+        }
+
+        void truncate(int rows) throws IOException {
+            size = rows;
+            if (file.isFile() && file.length() > (long) rows * width) {
+                try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+                    raf.setLength((long) rows * width);
+                }
+            }
+        }
+
+        void flush() throws IOException {
+            if (out != null) out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (out != null) out.close();
+            out = null;
+        }
+    }
+
+    private static final class IntColumn extends Column {
+        int[] data;
+
+        IntColumn(File file) throws IOException {
+            super(file, 4);
+            ByteBuffer bytes = ByteBuffer.wrap(readAll());
+            size = bytes.remaining() / width;
+            data = new int[Math.max(16, size)];
+            bytes.asIntBuffer().get(data, 0, size);
+        }
+
+        void add(int value) throws IOException {
+            if (size == data.length) data = Arrays.copyOf(data, data.length * 2);
+            data[size++] = value;
+            out().writeInt(value);
+        }
+    }
+
+    private static final class DoubleColumn extends Column {
+        double[] data;
+
+        DoubleColumn(File file) throws IOException {
+            super(file, 8);
+            ByteBuffer bytes = ByteBuffer.wrap(readAll());
+            size = bytes.remaining() / width;
+            data = new double[Math.max(16, size)];
+            bytes.asDoubleBuffer().get(data, 0, size);
+        }
+
+        void add(double value) throws IOException {
+            if (size == data.length) data = Arrays.copyOf(data, data.length * 2);
+            data[size++] = value;
+            out().writeDouble(value);
+        }
+    }
+
+    /** Kamus string -> kode (nomor baris di file), nilai baru langsung di-append ke file. */
+    private static final class Dictionary {
+        private final File file;
+        private final List<String> values = new ArrayList<>();
+        private final Map<String, Integer> codes = new HashMap<>();
+
+        Dictionary(File file) throws IOException {
+            this.file = file;
+            if (file.isFile()) {
+                String text = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+                // Baris terakhir tanpa newline berasal dari append yang terputus
+                int end = text.lastIndexOf('\n') + 1;
+                for (String v : text.substring(0, end).split("\n")) {
+                    if (!v.isEmpty()) add(v);
+                }
+            }
+        }
+
+        private void add(String value) {
+            codes.put(value, values.size());
+            values.add(value);
+        }
+
+        int find(String value) {
+            Integer code = codes.get(value);
+            return code == null ? -1 : code;
+        }
+
+        int code(String value) throws IOException {
+            int code = find(value);
+            if (code >= 0) return code;
+            if (value.isEmpty() || value.indexOf('\n') >= 0) throw new IllegalArgumentException("Nilai kamus tidak valid: '" + value + "'");
+            try (Writer w = new OutputStreamWriter(new FileOutputStream(file, true), StandardCharsets.UTF_8)) {
+                w.write(value + "\n");
+            }
+            add(value);
+            return values.size() - 1;
+        }
+
+        String value(int code) {
+            return values.get(code);
+        }
+
+        List<String> values() {
+            return Collections.unmodifiableList(values);
+        }
+    }
+
+    /**
+     * Pemakaian:
+     * <pre>
+     *   ResultStore &lt;dir&gt; import &lt;label sweep&gt; &lt;details.csv&gt;...
+     *   ResultStore &lt;dir&gt; export [scenario...]
+     *   ResultStore &lt;dir&gt; summary [count|sum|mean|min|max|stddev] [metrik...]   (group by scenario,taskCount)
+     * </pre>
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length < 2) {
+            System.err.println("Pemakaian: ResultStore <dir> import <sweep> <csv>... | export [scenario...] | summary [agg] [metrik...]");
+            return;
+        }
+        try (ResultStore store = ResultStore.open(new File(args[0]))) {
+            String[] rest = Arrays.copyOfRange(args, 2, args.length);
+            switch (args[1]) {
+                case "import":
+                    for (int i = 1; i < rest.length; i++) {
+                        String csv = new String(Files.readAllBytes(new File(rest[i]).toPath()), StandardCharsets.UTF_8);
+                        System.out.println(rest[i] + ": " + store.append(rest[0], csv) + " baris");
+                    }
+                    break;
+                case "export":
+                    Query q = store.query();
+                    if (rest.length > 0) q.scenario(rest);
+                    System.out.print(q.toCsv());
+                    break;
+                case "summary":
+                    Agg agg = rest.length > 0 ? Agg.valueOf(rest[0].toUpperCase(Locale.ROOT)) : Agg.MEAN;
+                    String[] metrics = rest.length > 1 ? Arrays.copyOfRange(rest, 1, rest.length) : METRICS;
+                    System.out.print(store.query().groupBy("scenario", "taskCount").aggregate(agg, metrics).toCsv());
+                    break;
+                default:
+                    System.err.println("Perintah tidak dikenal: " + args[1]);
+            }
+        }
+    }
+}
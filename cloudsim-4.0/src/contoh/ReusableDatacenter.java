@@ -0,0 +1,48 @@
+package contoh;
+
+import org.cloudbus.cloudsim.*;
+import org.cloudbus.cloudsim.core.CloudSim;
+import java.util.*;
+
+/**
+ * Datacenter yang bisa didaftarkan ulang ke CloudSim setelah {@code CloudSim.init(...)}.
+ * Host, karakteristik dan kebijakan alokasi VM tetap dipakai antar run, hanya state
+ * run sebelumnya yang dibersihkan (lihat {@link SimulationSession}).
+ */
+public class ReusableDatacenter extends Datacenter {
+
+    public ReusableDatacenter(String name, DatacenterCharacteristics characteristics, VmAllocationPolicy vmAllocationPolicy,
+            List<Storage> storageList, double schedulingInterval) throws Exception {
+        super(name, characteristics, vmAllocationPolicy, storageList, schedulingInterval);
+    }
+
+    /**
+     * Membersihkan state run sebelumnya lalu mendaftarkan datacenter ini ke CloudSim
+     * yang baru saja di-init. Harus dipanggil dengan urutan yang sama seperti saat
+     * entitas pertama kali dibuat agar id entitas tidak berubah.
+     */
+    void resetForNextRun() {
+        // Normalnya semua VM sudah di-destroy broker di akhir run; ini untuk run yang berhenti di tengah
+        for (Vm vm : new ArrayList<Vm>(this.<Vm>getVmList())) {
+            getVmAllocationPolicy().deallocateHostForVm(vm);
+        }
+        getVmList().clear();
+        setLastProcessTime(0.0);
+
+        setEventBuffer(null);
+        setState(RUNNABLE);
+        setId(-1);
+        CloudSim.addEntity(this);
+    }
+
+    /** Sama dengan {@code SimEntity.run()}, lewat {@link InstrumentedEventLoop} jika ada pencatat event aktif. */
+    @Override
+    public void run() {
+        if (!InstrumentedEventLoop.isActive()) {
+            super.run();
+            return;
+        }
+        InstrumentedEventLoop.run(this, getEventBuffer(), () -> getState() == RUNNABLE);
+        setEventBuffer(null);
+    }
+}
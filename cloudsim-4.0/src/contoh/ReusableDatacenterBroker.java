@@ -0,0 +1,63 @@
+package contoh;
+
+import org.cloudbus.cloudsim.*;
+import org.cloudbus.cloudsim.core.CloudSim;
+import org.cloudbus.cloudsim.core.SimEvent;
+import java.util.*;
+
+/**
+ * DatacenterBroker yang bisa dipakai ulang antar run tanpa membuat entitas baru
+ * (dan tanpa nama acak baru) setiap kali CloudSim di-init ulang.
+ */
+public class ReusableDatacenterBroker extends DatacenterBroker {
+
+    public ReusableDatacenterBroker(String name) throws Exception {
+        super(name);
+    }
+
+    /**
+     * Mengembalikan broker ke state awal seperti baru dibuat, lalu mendaftarkannya ulang
+     * ke CloudSim. List dibuat baru (bukan di-clear) supaya hasil run sebelumnya yang masih
+     * dipegang pemanggil tidak ikut terhapus, tapi kapasitasnya disesuaikan dengan run terakhir.
+     */
+    void resetForNextRun() {
+        int vmCapacity = Math.max(16, getVmList().size());
+        int cloudletCapacity = Math.max(16, getCloudletReceivedList().size());
+
+        setVmList(new ArrayList<Vm>(vmCapacity));
+        setVmsCreatedList(new ArrayList<Vm>(vmCapacity));
+        setCloudletList(new ArrayList<Cloudlet>(cloudletCapacity));
+        setCloudletSubmittedList(new ArrayList<Cloudlet>(cloudletCapacity));
+        setCloudletReceivedList(new ArrayList<Cloudlet>(cloudletCapacity));
+        cloudletsSubmitted = 0;
+        setVmsRequested(0);
+        setVmsAcks(0);
+        setVmsDestroyed(0);
+        setDatacenterIdsList(new LinkedList<Integer>());
+        setDatacenterRequestedIdsList(new ArrayList<Integer>());
+        setVmsToDatacentersMap(new HashMap<Integer, Integer>());
+        setDatacenterCharacteristicsList(new HashMap<Integer, DatacenterCharacteristics>());
+
+        setEventBuffer(null);
+        setState(RUNNABLE);
+        setId(-1);
+        CloudSim.addEntity(this);
+    }
+
+    @Override
+    protected void processCloudletReturn(SimEvent ev) {
+        SweepProgress.cloudletsReturned(1);
+        super.processCloudletReturn(ev);
+    }
+
+    /** Sama dengan {@code SimEntity.run()}, lewat {@link InstrumentedEventLoop} jika ada pencatat event aktif. */
+    @Override
+    public void run() {
+        if (!InstrumentedEventLoop.isActive()) {
+            super.run();
+            return;
+        }
+        InstrumentedEventLoop.run(this, getEventBuffer(), () -> getState() == RUNNABLE);
+        setEventBuffer(null);
+    }
+}
@@ -0,0 +1,45 @@
+package contoh;
+
+/**
+ * Kebijakan penjadwalan yang bisa dibandingkan dalam satu loop eksperimen. Nama skenario
+ * MOWS dan Round-Robin sama dengan yang sudah ada di file CSV sebelumnya.
+ */
+public enum SchedulingPolicy {
+    MOWS("MOWS", "MOWS_"),
+    ROUND_ROBIN("Baseline_RoundRobin", "Baseline_RR_"),
+    GA("GA", "GA_"),
+    PSO("PSO", "PSO_"),
+    ACO("ACO", "ACO_");
+
+    private final String scenarioName;
+    private final String summaryPrefix;
+
+    SchedulingPolicy(String scenarioName, String summaryPrefix) {
+        this.scenarioName = scenarioName;
+        this.summaryPrefix = summaryPrefix;
+    }
+
+    /** Nilai kolom {@code scenario} di CSV detail. */
+    public String getScenarioName() {
+        return scenarioName;
+    }
+
+    /** Awalan nama skenario di CSV ringkasan, diikuti mode dataset (mis. {@code MOWS_SDSC}). */
+    public String getSummaryPrefix() {
+        return summaryPrefix;
+    }
+
+    public boolean isMetaheuristic() {
+        return this == GA || this == PSO || this == ACO;
+    }
+
+    /** Penjadwal metaheuristik baru dengan parameter bawaan, atau {@code null} untuk MOWS/RR. */
+    public MetaheuristicScheduler newScheduler() {
+        switch (this) {
+            case GA: return new GeneticScheduler();
+            case PSO: return new ParticleSwarmScheduler();
+            case ACO: return new AntColonyScheduler();
+            default: return null;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package contoh;
+
+import org.cloudbus.cloudsim.*;
+import org.cloudbus.cloudsim.core.CloudSim;
+import java.util.*;
+
+/**
+ * Menyimpan topologi (datacenter) dan broker yang sudah terdaftar supaya bisa dipakai
+ * ulang antar run. {@link #reset()} hanya meng-init ulang clock dan antrean event CloudSim,
+ * lalu mendaftarkan kembali entitas yang sama dengan urutan (dan id) yang sama.
+ *
+ * Pemakaian:
+ * <pre>
+ *   SimulationSession session = new SimulationSession(1, calendar, false);
+ *   session.addDatacenter(new ReusableDatacenter(...));
+ *   session.setBroker(new ReusableDatacenterBroker("Broker_0"));
+ *   for (...) {
+ *       session.reset();
+ *       // submit VM & cloudlet ke session.getBroker(), lalu CloudSim.startSimulation()
+ *   }
+ * </pre>
+ */
+public class SimulationSession {
+
+    private final int numUser;
+    private final Calendar calendar;
+    private final boolean traceFlag;
+
+    private final List<ReusableDatacenter> datacenters = new ArrayList<>();
+    private ReusableDatacenterBroker broker;
+    private int runCount = 0;
+
+    public SimulationSession(int numUser, Calendar calendar, boolean traceFlag) {
+        this.numUser = numUser;
+        this.calendar = calendar;
+        this.traceFlag = traceFlag;
+        CloudSim.init(numUser, calendar, traceFlag);
+    }
+
+    /** Datacenter harus ditambahkan sebelum broker, sama seperti urutan pembuatan biasa. */
+    public void addDatacenter(ReusableDatacenter datacenter) {
+        if (broker != null) {
+            throw new IllegalStateException("Datacenter harus ditambahkan sebelum broker");
+        }
+        datacenters.add(datacenter);
+    }
+
+    public void setBroker(ReusableDatacenterBroker broker) {
+        this.broker = broker;
+    }
+
+    /**
+     * Menyiapkan run berikutnya: clock kembali ke 0, antrean future/deferred kosong,
+     * dan semua entitas yang disimpan didaftarkan ulang dalam keadaan bersih.
+     */
+    public void reset() {
+        if (broker == null) {
+            throw new IllegalStateException("Broker belum di-set");
+        }
+        CloudSim.init(numUser, calendar, traceFlag);
+        for (ReusableDatacenter dc : datacenters) {
+            dc.resetForNextRun();
+        }
+        broker.resetForNextRun();
+        runCount++;
+    }
+
+    public List<Datacenter> getDatacenters() {
+        return Collections.<Datacenter>unmodifiableList(datacenters);
+    }
+
+    public ReusableDatacenterBroker getBroker() {
+        return broker;
+    }
+
+    public int getRunCount() {
+        return runCount;
+    }
+}
@@ -0,0 +1,96 @@
+package contoh;
+
+import org.cloudbus.cloudsim.*;
+import java.util.*;
+
+/**
+ * Broker yang mengambil cloudlet dari {@link CloudletSource} per jendela (window), bukan
+ * dari list yang dibuat di awal. Jendela berikutnya dikirim saat jumlah cloudlet yang masih
+ * berjalan turun ke batas bawah, dan cloudlet yang selesai langsung dihitung ke
+ * {@link MetricsCollector} lalu dilepas. Jadi pemakaian heap dibatasi oleh jumlah cloudlet
+ * yang sedang berjalan, bukan panjang trace.
+ *
+ * Tanpa source, broker ini berperilaku sama dengan {@link BatchDatacenterBroker}.
+ */
+public class StreamingDatacenterBroker extends BatchDatacenterBroker {
+
+    private CloudletSource source;
+    private MetricsCollector collector;
+    private int windowSize = 1000;
+    private int lowWatermark = 500;
+    private boolean sourceExhausted = false;
+    private long pulled = 0;
+
+    public StreamingDatacenterBroker(String name) throws Exception {
+        super(name);
+    }
+
+    /**
+     * Mengatur sumber cloudlet untuk run berikutnya.
+     *
+     * @param windowSize jumlah cloudlet maksimum yang berjalan bersamaan
+     * @param collector tempat metrik cloudlet selesai dikumpulkan, boleh {@code null} jika
+     *                  hasilnya sudah disimpan oleh source sendiri (lihat {@link CloudletSource#onReturned})
+     */
+    public void setSource(CloudletSource source, int windowSize, MetricsCollector collector) {
+        this.source = source;
+        this.windowSize = Math.max(1, windowSize);
+        this.lowWatermark = this.windowSize / 2;
+        this.collector = collector;
+        this.sourceExhausted = (source == null);
+        this.pulled = 0;
+    }
+
+    public long getPulledCount() {
+        return pulled;
+    }
+
+    @Override
+    void resetForNextRun() {
+        super.resetForNextRun();
+        setSource(null, windowSize, null);
+    }
+
+    @Override
+    protected void submitCloudlets() {
+        refill();
+        super.submitCloudlets();
+    }
+
+    @Override
+    protected void onCloudletSubmitted(Cloudlet cloudlet) {
+        // Dengan source, daftar submitted tidak disimpan supaya heap tidak tumbuh mengikuti trace
+        if (source == null) super.onCloudletSubmitted(cloudlet);
+    }
+
+    @Override
+    protected void onCloudletsReturned(List<Cloudlet> finished) {
+        if (source == null) {
+            super.onCloudletsReturned(finished);
+        } else {
+            for (Cloudlet cl : finished) {
+                source.onReturned(cl);
+                if (collector != null) collector.fold(cl);
+            }
+        }
+
+        if (!sourceExhausted && cloudletsSubmitted <= lowWatermark) {
+            submitCloudlets();
+        }
+    }
+
+    /** Mengisi cloudletList sampai jumlah yang berjalan + menunggu mencapai windowSize. */
+    private void refill() {
+        if (sourceExhausted) return;
+        int room = windowSize - cloudletsSubmitted - getCloudletList().size();
+        if (room <= 0) return;
+
+        List<Cloudlet> window = source.next(room);
+        if (window.isEmpty()) {
+            sourceExhausted = true;
+            return;
+        }
+        pulled += window.size();
+        getCloudletList().addAll(window);
+    }
+}
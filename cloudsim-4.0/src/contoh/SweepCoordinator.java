@@ -0,0 +1,220 @@
+package contoh;
+
+import java.io.*;
+import java.net.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Membagi run sweep ke beberapa proses {@link SweepWorker} (boleh di host lain) lewat TCP biasa.
+ * Coordinator merencanakan sweep sekali ({@link ExampleMOWSExperiment#planRuns}), sehingga setiap
+ * run membawa state RAND dan indeks Round-Robin awalnya sendiri dan hasil gabungannya sama persis
+ * dengan sweep serial. Baris hasil disusun kembali menjadi CSV detil dan ringkasan standar.
+ *
+ * Protokol per baris:
+ * <pre>
+ *   hello &lt;nama&gt; &lt;specId&gt;         -&gt; ok &lt;jumlah run&gt;  atau  error &lt;pesan&gt;
+ *   next                            -&gt; run &lt;index taskCount policy run randomState nextVmIndex digest&gt;
+ *                                      | wait &lt;ms&gt; | finished
+ *   result &lt;index&gt; &lt;baris CSV&gt;     -&gt; ok
+ *   failed &lt;index&gt; &lt;pesan&gt;         -&gt; ok
+ * </pre>
+ * Worker menarik run sendiri (yang paling besar dulu), jadi worker cepat otomatis mengambil lebih
+ * banyak. Saat antrean habis, worker yang menganggur diberi salinan run yang paling lama berjalan
+ * (maksimal {@link #MAX_COPIES}); hasil yang pertama datang dipakai. Run milik worker yang terputus
+ * dikembalikan ke antrean.
+ */
+public class SweepCoordinator {
+
+    static final int DEFAULT_PORT = 7396;
+    static final int MAX_COPIES = 2;
+    static final int MAX_FAILURES = 3;
+    static final long WAIT_MS = 1000;
+
+    private final ServerSocket server;
+    private final String specId;
+    private final List<PlannedRun> plan;
+    private final String[] rows;
+    private final int[] copies;
+    private final int[] failures;
+    private final long[] startedAt;
+    private final Deque<PlannedRun> pending = new ArrayDeque<>();
+    private int remaining;
+    private String abortMessage;
+
+    public SweepCoordinator(int port, String specId, List<PlannedRun> plan) throws IOException {
+        this.server = new ServerSocket(port);
+        this.specId = specId;
+        this.plan = plan;
+        this.rows = new String[plan.size()];
+        this.copies = new int[plan.size()];
+        this.failures = new int[plan.size()];
+        this.startedAt = new long[plan.size()];
+        this.remaining = plan.size();
+
+        // Run terbesar dulu supaya run SDSC yang panjang tidak tersisa di akhir sweep
+        List<PlannedRun> order = new ArrayList<>(plan);
+        order.sort(Comparator.comparingInt((PlannedRun p) -> -p.taskCount).thenComparingInt(p -> p.index));
+        pending.addAll(order);
+    }
+
+    public static void main(String[] args) throws Exception {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+
+        List<Integer> tasksToProcess = ExampleMOWSExperiment.prepareSweep();
+        if (tasksToProcess == null) return;
+        long start = System.nanoTime();
+        List<PlannedRun> plan = ExampleMOWSExperiment.planRuns(tasksToProcess);
+        System.out.printf("Rencana sweep: %d run (%.1f s)%n", plan.size(), (System.nanoTime() - start) / 1e9);
+
+        SweepCoordinator coordinator = new SweepCoordinator(port, ExampleMOWSExperiment.sweepSpecId(tasksToProcess), plan);
+        System.out.println("SweepCoordinator listening on " + coordinator.server.getLocalSocketAddress());
+        String[] rows = coordinator.collect();
+
+        ExampleMOWSExperiment.writePlannedResults(plan, rows);
+        System.out.println("All experiments completed.");
+    }
+
+    /** Menerima worker sampai semua run selesai, lalu mengembalikan baris hasil per index run. */
+    public String[] collect() throws IOException, InterruptedException {
+        Thread acceptor = new Thread(this::acceptWorkers, "coordinator-accept");
+        acceptor.setDaemon(true);
+        acceptor.start();
+        try {
+            synchronized (this) {
+                while (remaining > 0 && abortMessage == null) {
+                    wait();
+                }
+                if (abortMessage != null) throw new IOException(abortMessage);
+            }
+        } finally {
+            server.close();
+        }
+        return rows.clone();
+    }
+
+    private void acceptWorkers() {
+        while (!server.isClosed()) {
+            try {
+                Socket client = server.accept();
+                Thread t = new Thread(() -> handle(client), "coordinator-worker-" + client.getRemoteSocketAddress());
+                t.setDaemon(true);
+                t.start();
+            } catch (IOException e) {
+                // server ditutup setelah sweep selesai
+            }
+        }
+    }
+
+    private void handle(Socket client) {
+        String worker = String.valueOf(client.getRemoteSocketAddress());
+        Set<Integer> held = new HashSet<>();
+        try (Socket s = client;
+             BufferedReader in = new BufferedReader(new InputStreamReader(s.getInputStream(), StandardCharsets.UTF_8));
+             PrintWriter out = new PrintWriter(new OutputStreamWriter(s.getOutputStream(), StandardCharsets.UTF_8), true)) {
+            String line;
+            while ((line = in.readLine()) != null) {
+                String[] f = line.trim().split(" ", 3);
+                switch (f[0]) {
+                    case "hello":
+                        if (f.length < 3 || !specId.equals(f[2])) {
+                            out.println("error spec sweep berbeda dengan coordinator (cek konfigurasi & dataset)");
+                            return;
+                        }
+                        worker = f[1] + "@" + worker;
+                        System.out.println("Worker terhubung: " + worker);
+                        out.println("ok " + plan.size());
+                        break;
+                    case "next":
+                        PlannedRun planned = next(held);
+                        if (planned != null) {
+                            out.println("run " + planned.toLine());
+                        } else if (isFinished()) {
+                            out.println("finished");
+                        } else {
+                            out.println("wait " + WAIT_MS);
+                        }
+                        break;
+                    case "result":
+                        complete(Integer.parseInt(f[1]), f[2], worker, held);
+                        out.println("ok");
+                        break;
+                    case "failed":
+                        failed(Integer.parseInt(f[1]), f.length > 2 ? f[2] : "", worker, held);
+                        out.println("ok");
+                        break;
+                    default:
+                        out.println("error perintah tidak dikenal: " + f[0]);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Koneksi worker " + worker + " terputus: " + e.getMessage());
+        } finally {
+            release(held);
+        }
+    }
+
+    /** Run berikutnya untuk worker ini; null jika tidak ada (tunggu atau selesai). */
+    private synchronized PlannedRun next(Set<Integer> held) {
+        PlannedRun planned = pending.poll();
+        if (planned == null) {
+            // Antrean habis: salinan cadangan untuk run yang paling lama dikerjakan worker lain
+            for (PlannedRun p : plan) {
+                if (rows[p.index] != null || copies[p.index] == 0 || copies[p.index] >= MAX_COPIES || held.contains(p.index)) continue;
+                if (planned == null || startedAt[p.index] < startedAt[planned.index]) planned = p;
+            }
+            if (planned == null) return null;
+        }
+        if (copies[planned.index]++ == 0) startedAt[planned.index] = System.nanoTime();
+        held.add(planned.index);
+        return planned;
+    }
+
+    private synchronized boolean isFinished() {
+        return remaining == 0 || abortMessage != null;
+    }
+
+    private synchronized void complete(int index, String row, String worker, Set<Integer> held) {
+        if (!held.remove(index)) throw new IllegalStateException("Run " + index + " tidak sedang dikerjakan worker ini");
+        copies[index]--;
+        if (rows[index] != null) {
+            if (!rows[index].equals(row)) {
+                System.err.println("Peringatan: salinan " + plan.get(index) + " dari " + worker + " berbeda dengan hasil pertama");
+            }
+            return;
+        }
+        rows[index] = row;
+        remaining--;
+        System.out.printf(Locale.US, "[%d/%d] %s selesai di %s (%.1f s)%n", plan.size() - remaining, plan.size(),
+                plan.get(index), worker, (System.nanoTime() - startedAt[index]) / 1e9);
+        notifyAll();
+    }
+
+    private synchronized void failed(int index, String message, String worker, Set<Integer> held) {
+        System.err.println("Run " + plan.get(index) + " gagal di " + worker + ": " + message);
+        if (held.remove(index)) {
+            copies[index]--;
+            if (rows[index] == null && ++failures[index] >= MAX_FAILURES) {
+                abortMessage = "Run " + plan.get(index) + " gagal " + MAX_FAILURES + " kali, sweep dibatalkan";
+                notifyAll();
+                return;
+            }
+            requeue(index);
+        }
+    }
+
+    /** Run yang dipegang worker yang terputus dikembalikan ke depan antrean. */
+    private synchronized void release(Set<Integer> held) {
+        for (int index : held) {
+            copies[index]--;
+            requeue(index);
+        }
+        held.clear();
+    }
+
+    private void requeue(int index) {
+        if (rows[index] == null && copies[index] == 0) {
+            pending.addFirst(plan.get(index));
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package contoh;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Journal append-only untuk sweep eksperimen: setiap run yang selesai ditulis (dan di-fsync)
+ * bersama state RAND dan indeks Round-Robin sesudahnya. Driver yang dijalankan ulang dengan spec
+ * yang sama memakai run dari journal, memulihkan state, lalu melanjutkan dari run berikutnya,
+ * sehingga hasilnya sama dengan sweep yang tidak pernah terputus.
+ *
+ * Format per baris (dipisah tab): {@code run taskCount policy randomState nextVmIndex row}.
+ * Baris pertama berisi spec; journal dengan spec berbeda dipindahkan ke {@code <file>.old}.
+ */
+public class SweepJournal implements Closeable {
+
+    private static final String HEADER_PREFIX = "# sweep-journal spec=";
+
+    private final Map<String, List<Run>> runs = new HashMap<>();
+    private final FileOutputStream out;
+    private int recovered = 0;
+
+    private SweepJournal(FileOutputStream out) {
+        this.out = out;
+    }
+
+    public static SweepJournal open(File file, String specId) throws IOException {
+        String header = HEADER_PREFIX + specId;
+        List<String> lines = new ArrayList<>();
+        if (file.isFile()) {
+            lines = readCompleteLines(file);
+            if (lines.isEmpty() || !lines.get(0).equals(header)) {
+                File old = new File(file.getPath() + ".old");
+                old.delete();
+                if (!file.renameTo(old)) throw new IOException("Journal lama tidak bisa dipindahkan: " + file);
+                System.out.println("Spec sweep berubah; journal lama dipindahkan ke " + old.getName());
+                lines = new ArrayList<>();
+            }
+        }
+
+        SweepJournal journal = new SweepJournal(new FileOutputStream(file, true));
+        if (lines.isEmpty()) {
+            journal.write(header);
+        }
+        for (int i = 1; i < lines.size(); i++) {
+            String[] f = lines.get(i).split("\t", 6);
+            if (f.length != 6 || !"run".equals(f[0])) continue;
+            try {
+                journal.cell(Integer.parseInt(f[1]), f[2])
+                        .add(new Run(f[5], Long.parseLong(f[3]), Integer.parseInt(f[4])));
+                journal.recovered++;
+            } catch (NumberFormatException e) {
+                // baris rusak dilewati; run-nya akan disimulasikan ulang
+            }
+        }
+        return journal;
+    }
+
+    /**
+     * Baris-baris lengkap di file. Sisa baris terakhir tanpa newline (crash saat menulis)
+     * dipotong dari file supaya append berikutnya dimulai di baris baru.
+     */
+    private static List<String> readCompleteLines(File file) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            byte[] bytes = new byte[(int) raf.length()];
+            raf.readFully(bytes);
+            int end = bytes.length;
+            while (end > 0 && bytes[end - 1] != '\n') end--;
+            if (end < bytes.length) raf.setLength(end);
+            String text = new String(bytes, 0, end, StandardCharsets.UTF_8);
+            return text.isEmpty() ? new ArrayList<String>() : new ArrayList<>(Arrays.asList(text.split("\n")));
+        }
+    }
+
+    /** Run yang sudah tercatat untuk sel ini, berurutan dari run 1. */
+    public List<Run> getRuns(int taskCount, String policy) {
+        List<Run> cell = runs.get(taskCount + "\t" + policy);
+        return cell == null ? Collections.<Run>emptyList() : Collections.unmodifiableList(cell);
+    }
+
+    public void appendRun(int taskCount, String policy, String row, long randomState, int nextVmIndex) throws IOException {
+        write("run\t" + taskCount + "\t" + policy + "\t" + randomState + "\t" + nextVmIndex + "\t" + row);
+        cell(taskCount, policy).add(new Run(row, randomState, nextVmIndex));
+    }
+
+    /** Jumlah run yang dibaca dari journal saat dibuka. */
+    public int getRecoveredRuns() {
+        return recovered;
+    }
+
+    private List<Run> cell(int taskCount, String policy) {
+        return runs.computeIfAbsent(taskCount + "\t" + policy, k -> new ArrayList<Run>());
+    }
+
+    private void write(String line) throws IOException {
+        out.write((line + "\n").getBytes(StandardCharsets.UTF_8));
+        out.getChannel().force(false);
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+
+    public static final class Run {
+        public final String row;
+        public final long randomState;
+        public final int nextVmIndex;
+
+        Run(String row, long randomState, int nextVmIndex) {
+            this.row = row;
+            this.randomState = randomState;
+            this.nextVmIndex = nextVmIndex;
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package contoh;
+
+import org.cloudbus.cloudsim.core.CloudSim;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.management.ObjectName;
+
+/**
+ * Progres sweep yang bisa dipantau selama berjalan: lewat MBean {@code contoh:type=SweepProgress}
+ * (jconsole/VisualVM) dan satu baris ringkas di console setiap interval.
+ *
+ * Thread simulasi hanya menulis counter dengan {@code lazySet} (satu penulis, tanpa lock);
+ * thread reporter dan JMX membaca nilainya dan menghitung laju per interval.
+ */
+public class SweepProgress implements SweepProgressMBean {
+
+    private static final String OBJECT_NAME = "contoh:type=SweepProgress";
+    // Jam simulasi cukup dipublikasikan sekali per sekian event
+    private static final long CLOCK_PUBLISH_MASK = 255;
+
+    private static volatile SweepProgress active;
+
+    private final int cellsTotal;
+    private final long runsTotal;
+    private final boolean runsTotalIsUpperBound;
+    private final long startNanos = System.nanoTime();
+
+    private final AtomicLong events = new AtomicLong();
+    private final AtomicLong cloudlets = new AtomicLong();
+    private final AtomicLong simClockBits = new AtomicLong();
+    private final AtomicLong runsCompleted = new AtomicLong();
+    // Hanya run yang benar-benar disimulasikan proses ini (bukan dari journal/result cache), untuk ETA
+    private final AtomicLong runsSimulated = new AtomicLong();
+    private final AtomicLong simulatedNanos = new AtomicLong();
+    private volatile long runStartNanos = startNanos;
+    private volatile int cellsCompleted = 0;
+    private volatile String currentRun = "-";
+
+    // Laju per interval, dihitung oleh thread reporter
+    private volatile double eventsPerSecond = 0;
+    private volatile double cloudletsPerSecond = 0;
+    private long lastEvents = 0;
+    private long lastCloudlets = 0;
+    private long lastSampleNanos = startNanos;
+
+    private ScheduledExecutorService reporter;
+    private ObjectName objectName;
+
+    /**
+     * @param runsTotal perkiraan jumlah run seluruh sweep, dipakai untuk ETA
+     * @param runsTotalIsUpperBound true jika sel bisa berhenti lebih awal (ADAPTIVE_RUNS), sehingga
+     *        runsTotal dan ETA hanyalah batas atas
+     */
+    public SweepProgress(int cellsTotal, long runsTotal, boolean runsTotalIsUpperBound) {
+        this.cellsTotal = cellsTotal;
+        this.runsTotal = runsTotal;
+        this.runsTotalIsUpperBound = runsTotalIsUpperBound;
+    }
+
+    public static SweepProgress getActive() {
+        return active;
+    }
+
+    /** Mendaftarkan MBean dan mencetak status setiap {@code intervalSeconds} (0 = tanpa console). */
+    public void start(int intervalSeconds) {
+        active = this;
+        try {
+            objectName = new ObjectName(OBJECT_NAME);
+            if (ManagementFactory.getPlatformMBeanServer().isRegistered(objectName)) {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+            }
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, objectName);
+        } catch (Exception e) {
+            System.err.println("MBean progres tidak bisa didaftarkan: " + e.getMessage());
+            objectName = null;
+        }
+        reporter = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "sweep-progress");
+            t.setDaemon(true);
+            return t;
+        });
+        reporter.scheduleAtFixedRate(() -> {
+            sampleRates();
+            if (intervalSeconds > 0) System.out.println(getStatusLine());
+        }, Math.max(1, intervalSeconds), Math.max(1, intervalSeconds), TimeUnit.SECONDS);
+    }
+
+    public void stop() {
+        if (active == this) active = null;
+        if (reporter != null) reporter.shutdownNow();
+        if (objectName != null) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+            } catch (Exception e) {
+                // sudah tidak terdaftar
+            }
+        }
+    }
+
+    // --- Dipanggil dari thread simulasi ---
+
+    /** Satu event CloudSim selesai diproses (dari {@code run()} datacenter/broker). */
+    void onEvent() {
+        long n = events.get() + 1;
+        events.lazySet(n);
+        if ((n & CLOCK_PUBLISH_MASK) == 0) simClockBits.lazySet(Double.doubleToRawLongBits(CloudSim.clock()));
+    }
+
+    static void cloudletsReturned(int count) {
+        SweepProgress p = active;
+        if (p != null) p.cloudlets.lazySet(p.cloudlets.get() + count);
+    }
+
+    static void runStarted(String scenario, int taskCount, int run) {
+        SweepProgress p = active;
+        if (p != null) {
+            p.currentRun = scenario + " tasks=" + taskCount + " run=" + run;
+            p.simClockBits.lazySet(0L);
+            p.runStartNanos = System.nanoTime();
+        }
+    }
+
+    /** Run yang dimulai dengan {@link #runStarted} selesai disimulasikan. */
+    static void runFinished() {
+        SweepProgress p = active;
+        if (p == null) return;
+        p.simulatedNanos.lazySet(p.simulatedNanos.get() + System.nanoTime() - p.runStartNanos);
+        p.runsSimulated.lazySet(p.runsSimulated.get() + 1);
+        p.runsCompleted.lazySet(p.runsCompleted.get() + 1);
+    }
+
+    /** Run yang hasilnya diambil dari journal atau result cache: dihitung selesai, tapi tidak ikut ETA. */
+    static void runReplayed() {
+        SweepProgress p = active;
+        if (p != null) p.runsCompleted.lazySet(p.runsCompleted.get() + 1);
+    }
+
+    static void cellFinished() {
+        SweepProgress p = active;
+        if (p != null) p.cellsCompleted++;
+    }
+
+    // --- Dibaca dari thread reporter / JMX ---
+
+    private synchronized void sampleRates() {
+        long now = System.nanoTime();
+        double seconds = (now - lastSampleNanos) / 1e9;
+        if (seconds <= 0) return;
+        long e = events.get(), c = cloudlets.get();
+        eventsPerSecond = (e - lastEvents) / seconds;
+        cloudletsPerSecond = (c - lastCloudlets) / seconds;
+        lastEvents = e;
+        lastCloudlets = c;
+        lastSampleNanos = now;
+    }
+
+    @Override
+    public int getCellsTotal() {
+        return cellsTotal;
+    }
+
+    @Override
+    public int getCellsCompleted() {
+        return cellsCompleted;
+    }
+
+    @Override
+    public int getCellsRemaining() {
+        return Math.max(0, cellsTotal - cellsCompleted);
+    }
+
+    @Override
+    public long getRunsCompleted() {
+        return runsCompleted.get();
+    }
+
+    @Override
+    public long getRunsSimulated() {
+        return runsSimulated.get();
+    }
+
+    @Override
+    public String getCurrentRun() {
+        return currentRun;
+    }
+
+    @Override
+    public double getSimulatedTime() {
+        return Double.longBitsToDouble(simClockBits.get());
+    }
+
+    @Override
+    public long getEventsProcessed() {
+        return events.get();
+    }
+
+    @Override
+    public long getCloudletsCompleted() {
+        return cloudlets.get();
+    }
+
+    @Override
+    public double getEventsPerSecond() {
+        return eventsPerSecond;
+    }
+
+    @Override
+    public double getCloudletsPerSecond() {
+        return cloudletsPerSecond;
+    }
+
+    @Override
+    public long getHeapUsedBytes() {
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    @Override
+    public long getHeapMaxBytes() {
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getMax();
+    }
+
+    /**
+     * Rata-rata waktu per run yang disimulasikan proses ini dikali sisa run; -1 jika belum ada. Run dari
+     * journal/result cache selesai seketika, jadi tidak dipakai untuk rata-rata. Dengan ADAPTIVE_RUNS
+     * nilainya batas atas.
+     */
+    @Override
+    public long getEtaSeconds() {
+        long simulated = runsSimulated.get();
+        if (simulated == 0) return -1;
+        double perRun = simulatedNanos.get() / 1e9 / simulated;
+        return Math.round(perRun * Math.max(0, runsTotal - runsCompleted.get()));
+    }
+
+    @Override
+    public String getStatusLine() {
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        long eta = getEtaSeconds();
+        String bound = runsTotalIsUpperBound ? "maks " : "";
+        return String.format(Locale.US, "[progress] cells %d/%d runs %d/%s%d (%d disimulasikan) | %s | sim t=%.1f | %.0f ev/s %.0f cl/s | heap %d/%d MB | ETA %s%s",
+                cellsCompleted, cellsTotal, runsCompleted.get(), bound, runsTotal, runsSimulated.get(), currentRun, getSimulatedTime(),
+                eventsPerSecond, cloudletsPerSecond, heap.getUsed() >> 20, heap.getMax() >> 20,
+                bound, eta < 0 ? "?" : String.format("%d:%02d:%02d", eta / 3600, eta / 60 % 60, eta % 60));
+    }
+}
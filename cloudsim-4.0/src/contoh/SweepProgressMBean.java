@@ -0,0 +1,35 @@
+package contoh;
+
+/** Atribut JMX {@link SweepProgress} ({@code contoh:type=SweepProgress}). */
+public interface SweepProgressMBean {
+
+    int getCellsTotal();
+
+    int getCellsCompleted();
+
+    int getCellsRemaining();
+
+    long getRunsCompleted();
+
+    long getRunsSimulated();
+
+    String getCurrentRun();
+
+    double getSimulatedTime();
+
+    long getEventsProcessed();
+
+    long getCloudletsCompleted();
+
+    double getEventsPerSecond();
+
+    double getCloudletsPerSecond();
+
+    long getHeapUsedBytes();
+
+    long getHeapMaxBytes();
+
+    long getEtaSeconds();
+
+    String getStatusLine();
+}
@@ -0,0 +1,70 @@
+package contoh;
+
+import org.cloudbus.cloudsim.Log;
+import java.io.*;
+import java.lang.management.ManagementFactory;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Worker untuk {@link SweepCoordinator}: memuat dataset dengan konfigurasi driver yang sama,
+ * lalu menarik run satu per satu, mensimulasikannya, dan mengirim baris hasilnya kembali.
+ * Beberapa worker boleh berjalan di satu host (satu proses per core) maupun di host lain.
+ *
+ * Pemakaian: {@code SweepWorker <host> [port] [nama]}
+ */
+public class SweepWorker {
+
+    public static void main(String[] args) throws Exception {
+        String host = args.length > 0 ? args[0] : "localhost";
+        int port = args.length > 1 ? Integer.parseInt(args[1]) : SweepCoordinator.DEFAULT_PORT;
+        String name = args.length > 2 ? args[2] : ManagementFactory.getRuntimeMXBean().getName();
+        // Hasil dikirim lewat socket; log CloudSim per event hanya memperlambat run
+        Log.disable();
+
+        List<Integer> tasksToProcess = ExampleMOWSExperiment.prepareSweep();
+        if (tasksToProcess == null) return;
+        String specId = ExampleMOWSExperiment.sweepSpecId(tasksToProcess);
+
+        try (Socket s = new Socket(host, port);
+             BufferedReader in = new BufferedReader(new InputStreamReader(s.getInputStream(), StandardCharsets.UTF_8));
+             PrintWriter out = new PrintWriter(new OutputStreamWriter(s.getOutputStream(), StandardCharsets.UTF_8), true)) {
+            out.println("hello " + name + " " + specId);
+            String reply = in.readLine();
+            if (reply == null || !reply.startsWith("ok")) {
+                System.err.println("Ditolak coordinator: " + reply);
+                return;
+            }
+
+            int done = 0;
+            String line;
+            while (true) {
+                out.println("next");
+                line = in.readLine();
+                if (line == null || line.equals("finished")) break;
+                if (line.startsWith("wait ")) {
+                    Thread.sleep(Long.parseLong(line.substring(5)));
+                    continue;
+                }
+                if (!line.startsWith("run ")) throw new IOException("Balasan coordinator tidak dikenal: " + line);
+
+                PlannedRun planned = PlannedRun.parse(line.substring(4));
+                long start = System.nanoTime();
+                try {
+                    String row = ExampleMOWSExperiment.runPlanned(planned);
+                    out.println("result " + planned.index + " " + row);
+                    done++;
+                    System.out.printf("%s selesai (%.1f s)%n", planned, (System.nanoTime() - start) / 1e9);
+                } catch (Exception e) {
+                    out.println("failed " + planned.index + " " + e.toString().replace('\n', ' '));
+                }
+                if (in.readLine() == null) break;
+            }
+            System.out.println("Worker " + name + " berhenti setelah " + done + " run.");
+        } catch (IOException e) {
+            // Coordinator menutup socket setelah sweep selesai, termasuk saat worker masih mengerjakan salinan cadangan
+            System.out.println("Koneksi ke coordinator berakhir: " + e.getMessage());
+        }
+    }
+}
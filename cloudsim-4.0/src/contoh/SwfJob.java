@@ -0,0 +1,106 @@
+package contoh;
+
+/**
+ * Satu baris Standard Workload Format (SWF, Parallel Workloads Archive). Waktu dalam detik
+ * relatif terhadap awal log; nilai -1 berarti field tidak tersedia, sesuai spesifikasi SWF.
+ */
+public class SwfJob {
+
+    private final long jobId;
+    private final double submitTime;
+    private final double waitTime;
+    private final double runTime;
+    private final int allocatedProcessors;
+    private final int requestedProcessors;
+    private final double requestedTime;
+    private final int status;
+    private final int userId;
+    private final int groupId;
+    private final int queue;
+    private final int partition;
+    // Hanya untuk baris lama yang berisi satu angka (panjang tugas langsung dalam MI)
+    private final long explicitLength;
+
+    SwfJob(long jobId, double submitTime, double waitTime, double runTime, int allocatedProcessors,
+            int requestedProcessors, double requestedTime, int status, int userId, int groupId,
+            int queue, int partition, long explicitLength) {
+        this.jobId = jobId;
+        this.submitTime = submitTime;
+        this.waitTime = waitTime;
+        this.runTime = runTime;
+        this.allocatedProcessors = allocatedProcessors;
+        this.requestedProcessors = requestedProcessors;
+        this.requestedTime = requestedTime;
+        this.status = status;
+        this.userId = userId;
+        this.groupId = groupId;
+        this.queue = queue;
+        this.partition = partition;
+        this.explicitLength = explicitLength;
+    }
+
+    /** Job dari dataset satu kolom: hanya panjang tugas, tanpa waktu kedatangan. */
+    static SwfJob ofLength(long jobId, long length) {
+        return new SwfJob(jobId, 0.0, -1, -1, 1, 1, -1, -1, -1, -1, -1, -1, length);
+    }
+
+    /**
+     * Panjang cloudlet (MI). Untuk baris SWF dihitung dari run time x jumlah prosesor x MIPS
+     * acuan (kerja total job di mesin aslinya); untuk baris satu angka nilainya dipakai langsung.
+     * Mengembalikan 0 jika run time tidak tersedia.
+     */
+    public long getLength(double referenceMips) {
+        if (explicitLength > 0) return explicitLength;
+        if (runTime <= 0) return 0;
+        int procs = allocatedProcessors > 0 ? allocatedProcessors : Math.max(1, requestedProcessors);
+        return (long) Math.min(runTime * procs * referenceMips, Long.MAX_VALUE);
+    }
+
+    public long getJobId() {
+        return jobId;
+    }
+
+    public double getSubmitTime() {
+        return submitTime;
+    }
+
+    public double getWaitTime() {
+        return waitTime;
+    }
+
+    public double getRunTime() {
+        return runTime;
+    }
+
+    public int getAllocatedProcessors() {
+        return allocatedProcessors;
+    }
+
+    public int getRequestedProcessors() {
+        return requestedProcessors;
+    }
+
+    public double getRequestedTime() {
+        return requestedTime;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public int getUserId() {
+        return userId;
+    }
+
+    public int getGroupId() {
+        return groupId;
+    }
+
+    public int getQueue() {
+        return queue;
+    }
+
+    public int getPartition() {
+        return partition;
+    }
+}
@@ -0,0 +1,126 @@
+package contoh;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * Membaca log Standard Workload Format (18 kolom dipisah spasi, komentar header ';') baris
+ * per baris sehingga log berukuran GB tidak perlu dimuat seluruhnya.
+ *
+ * Baris yang hanya berisi satu angka (format SDSC7395.txt) dibaca sebagai panjang tugas
+ * dengan aturan yang sama seperti {@link TaskLengthReader}, dengan waktu submit 0.
+ * Job dengan run time tidak tersedia atau &lt;= 0 (dibatalkan sebelum jalan) dilewati.
+ */
+public class SwfReader implements Iterator<SwfJob>, Closeable {
+
+    private static final int SWF_FIELDS = 18;
+
+    private final BufferedReader reader;
+    private final double[] fields = new double[SWF_FIELDS];
+    private SwfJob nextJob;
+    private boolean eof = false;
+    private long lineNumber = 0;
+    private long skipped = 0;
+    private long singleValueIds = 0;
+
+    public SwfReader(Reader in) {
+        this.reader = (in instanceof BufferedReader) ? (BufferedReader) in : new BufferedReader(in, 1 << 16);
+    }
+
+    public static SwfReader open(String filename) throws IOException {
+        return new SwfReader(CompressedInput.openReader(filename));
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextJob != null) return true;
+        if (eof) return false;
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                SwfJob job = parse(line);
+                if (job != null) {
+                    nextJob = job;
+                    return true;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        eof = true;
+        return false;
+    }
+
+    @Override
+    public SwfJob next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        SwfJob job = nextJob;
+        nextJob = null;
+        return job;
+    }
+
+    /** Jumlah baris data yang dilewati (rusak, kolom kurang, atau run time tidak valid). */
+    public long getSkipped() {
+        return skipped;
+    }
+
+    private SwfJob parse(String line) {
+        int count = tokenize(line);
+        if (count == 0) return null; // baris kosong / komentar
+
+        if (count == 1) {
+            int length = TaskLengthReader.parseLength(line);
+            if (length <= 0) {
+                skipped++;
+                return null;
+            }
+            return SwfJob.ofLength(++singleValueIds, length);
+        }
+        if (count < SWF_FIELDS) {
+            skipped++;
+            return null;
+        }
+
+        double runTime = fields[3];
+        if (runTime <= 0) {
+            skipped++;
+            return null;
+        }
+        return new SwfJob((long) fields[0], fields[1], fields[2], runTime, (int) fields[4],
+                (int) fields[7], fields[8], (int) fields[10], (int) fields[11], (int) fields[12],
+                (int) fields[14], (int) fields[15], 0);
+    }
+
+    /**
+     * Memecah baris ke {@link #fields} tanpa regex/split (dipanggil jutaan kali untuk log besar).
+     * Mengembalikan jumlah kolom, 0 untuk baris kosong/komentar, atau -1 jika ada kolom yang bukan angka.
+     */
+    private int tokenize(String line) {
+        int n = line.length();
+        int i = 0;
+        while (i < n && Character.isWhitespace(line.charAt(i))) i++;
+        if (i == n || line.charAt(i) == ';') return 0;
+
+        int count = 0;
+        while (i < n) {
+            int start = i;
+            while (i < n && !Character.isWhitespace(line.charAt(i))) i++;
+            if (count < SWF_FIELDS) {
+                try {
+                    fields[count] = Double.parseDouble(line.substring(start, i));
+                } catch (NumberFormatException e) {
+                    return -1;
+                }
+            }
+            count++;
+            while (i < n && Character.isWhitespace(line.charAt(i))) i++;
+        }
+        return count;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,83 @@
+package contoh;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * Membaca panjang tugas (MI) dari file dataset baris per baris tanpa memuat seluruh file.
+ * Aturan parsing sama dengan pembacaan SDSC: baris kosong dan komentar ';' dilewati,
+ * nilai boleh desimal (dibulatkan ke bawah), nilai &lt;= 0 diabaikan, dan nilai di atas
+ * Integer.MAX_VALUE dipotong. {@link #open} juga menerima file gzip/BGZF ({@link CompressedInput}).
+ */
+public class TaskLengthReader implements PrimitiveIterator.OfInt, Closeable {
+
+    private final BufferedReader reader;
+    private final long limit;
+    private long produced = 0;
+    private int nextValue;
+    private boolean hasNextValue = false;
+    private boolean eof = false;
+
+    /**
+     * @param limit jumlah maksimum nilai yang dibaca, atau {@code Long.MAX_VALUE} untuk seluruh file
+     */
+    public TaskLengthReader(Reader in, long limit) {
+        this.reader = (in instanceof BufferedReader) ? (BufferedReader) in : new BufferedReader(in, 1 << 16);
+        this.limit = limit;
+    }
+
+    public static TaskLengthReader open(String filename, long limit) throws IOException {
+        return new TaskLengthReader(CompressedInput.openReader(filename), limit);
+    }
+
+    /** Mengembalikan panjang tugas dari satu baris, atau -1 jika baris tersebut harus dilewati. */
+    static int parseLength(String line) {
+        line = line.trim();
+        if (line.isEmpty() || line.startsWith(";")) return -1;
+        try {
+            long length = (long) Double.parseDouble(line);
+            if (length <= 0) return -1;
+            return (int) Math.min(length, Integer.MAX_VALUE);
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (hasNextValue) return true;
+        if (eof || produced >= limit) return false;
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int v = parseLength(line);
+                if (v > 0) {
+                    nextValue = v;
+                    hasNextValue = true;
+                    return true;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        eof = true;
+        return false;
+    }
+
+    @Override
+    public int nextInt() {
+        if (!hasNext()) throw new NoSuchElementException();
+        hasNextValue = false;
+        produced++;
+        return nextValue;
+    }
+
+    public long getProduced() {
+        return produced;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
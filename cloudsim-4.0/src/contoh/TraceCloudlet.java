@@ -0,0 +1,31 @@
+package contoh;
+
+import org.cloudbus.cloudsim.*;
+
+/**
+ * Cloudlet yang membawa waktu kedatangan dari trace, dipakai {@link ArrivalDatacenterBroker}
+ * untuk menentukan kapan cloudlet dikirim ke datacenter.
+ */
+public class TraceCloudlet extends Cloudlet {
+
+    private final double arrivalTime;
+    private final int traceUserId;
+
+    public TraceCloudlet(int cloudletId, long cloudletLength, int pesNumber, long cloudletFileSize, long cloudletOutputSize,
+            UtilizationModel utilizationModel, double arrivalTime, int traceUserId) {
+        super(cloudletId, cloudletLength, pesNumber, cloudletFileSize, cloudletOutputSize,
+                utilizationModel, utilizationModel, utilizationModel);
+        this.arrivalTime = arrivalTime;
+        this.traceUserId = traceUserId;
+    }
+
+    /** Waktu kedatangan (detik simulasi) yang sudah digeser relatif terhadap job pertama. */
+    public double getArrivalTime() {
+        return arrivalTime;
+    }
+
+    /** User id dari kolom SWF, bukan id broker pemilik cloudlet. */
+    public int getTraceUserId() {
+        return traceUserId;
+    }
+}
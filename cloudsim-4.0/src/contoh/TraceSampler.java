@@ -0,0 +1,215 @@
+package contoh;
+
+import java.util.*;
+
+/**
+ * Mengambil subset bertingkat (nested) dari satu trace dalam satu pass: subset untuk k tugas
+ * selalu berisi seluruh subset untuk k' &lt; k, sehingga kurva skala 1000..10000 dari satu
+ * trace tidak bergantung pada undian yang berbeda per jumlah tugas.
+ *
+ * <ul>
+ * <li>{@link Method#RESERVOIR}: bottom-k sampling. Setiap tugas mendapat kunci acak dari
+ *     (seed, indeks); subset k = k kunci terkecil. Hanya {@code maxCount} kandidat disimpan.</li>
+ * <li>{@link Method#STRATIFIED}: tugas dikelompokkan per kelipatan dua panjangnya; urutan
+ *     pengambilan strata ditentukan secara sekuensial (selalu strata yang paling kurang
+ *     terwakili) sehingga setiap prefiks proporsional terhadap trace, dan di dalam strata
+ *     dipakai kunci bottom-k yang sama.</li>
+ * </ul>
+ *
+ * Jika k melebihi jumlah tugas di trace, subset berisi seluruh trace ditambah tugas yang
+ * diambil ulang (dengan pengembalian) secara deterministik.
+ */
+public class TraceSampler {
+
+    public enum Method { RESERVOIR, STRATIFIED }
+
+    private static final int STRATA = 32;
+
+    private TraceSampler() {
+    }
+
+    /**
+     * @param maxCount jumlah tugas terbesar yang akan diminta dari {@link NestedSample#subset}
+     */
+    public static NestedSample sample(PrimitiveIterator.OfInt lengths, int maxCount, Method method, long seed) {
+        // Satu heap bottom-k per strata (RESERVOIR memakai satu strata saja)
+        int strata = method == Method.STRATIFIED ? STRATA : 1;
+        Reservoir[] reservoirs = new Reservoir[strata];
+        long[] population = new long[strata];
+        for (int s = 0; s < strata; s++) reservoirs[s] = new Reservoir(maxCount);
+
+        int index = 0;
+        while (lengths.hasNext()) {
+            int length = lengths.nextInt();
+            int s = method == Method.STRATIFIED ? stratum(length) : 0;
+            population[s]++;
+            reservoirs[s].offer(key(seed, index), index, length);
+            index++;
+        }
+        return new NestedSample(method, reservoirs, population, index, maxCount, seed);
+    }
+
+    static int stratum(int length) {
+        return Math.min(STRATA - 1, 31 - Integer.numberOfLeadingZeros(Math.max(1, length)));
+    }
+
+    static long key(long seed, long index) {
+        long z = seed + 0x9E3779B97F4A7C15L * (index + 1);
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return (z ^ (z >>> 31)) >>> 1;
+    }
+
+    /** Hasil sampling; {@link #subset(int)} bisa dipanggil untuk setiap k &lt;= maxCount. */
+    public static final class NestedSample {
+        private final int sourceSize;
+        private final int maxCount;
+        // Urutan pengambilan: indeks trace dan panjang, sepanjang min(maxCount, sourceSize)
+        private final int[] pickIndex;
+        private final int[] pickLength;
+        // Tambahan dengan pengembalian untuk k > sourceSize
+        private final int[] extraLength;
+
+        NestedSample(Method method, Reservoir[] reservoirs, long[] population, int sourceSize, int maxCount, long seed) {
+            this.sourceSize = sourceSize;
+            this.maxCount = maxCount;
+            int distinct = Math.min(maxCount, sourceSize);
+            pickIndex = new int[distinct];
+            pickLength = new int[distinct];
+
+            int[][] sortedIdx = new int[reservoirs.length][];
+            int[][] sortedLen = new int[reservoirs.length][];
+            for (int s = 0; s < reservoirs.length; s++) {
+                reservoirs[s].sortByKey();
+                sortedIdx[s] = reservoirs[s].index;
+                sortedLen[s] = reservoirs[s].length;
+            }
+
+            // Urutan strata sekuensial: pada langkah j pilih strata dengan defisit p_s * j - n_s terbesar
+            int[] taken = new int[reservoirs.length];
+            int[] stratumOrder = new int[Math.max(distinct, maxCount)];
+            for (int j = 0; j < stratumOrder.length; j++) {
+                int best = -1;
+                double bestDeficit = Double.NEGATIVE_INFINITY;
+                for (int s = 0; s < reservoirs.length; s++) {
+                    if (population[s] == 0) continue;
+                    if (j < distinct && taken[s] >= reservoirs[s].size) continue;
+                    double deficit = (double) population[s] / Math.max(1, sourceSize) * (j + 1) - taken[s];
+                    if (deficit > bestDeficit) {
+                        bestDeficit = deficit;
+                        best = s;
+                    }
+                }
+                if (best < 0) break;
+                stratumOrder[j] = best;
+                taken[best]++;
+            }
+
+            Arrays.fill(taken, 0);
+            for (int j = 0; j < distinct; j++) {
+                int s = stratumOrder[j];
+                pickIndex[j] = sortedIdx[s][taken[s]];
+                pickLength[j] = sortedLen[s][taken[s]];
+                taken[s]++;
+            }
+
+            // k > sourceSize: seluruh trace sudah terambil, sisanya diambil ulang dari strata yang sama
+            extraLength = new int[Math.max(0, maxCount - distinct)];
+            if (extraLength.length > 0) {
+                SplittableRandom rng = new SplittableRandom(seed);
+                for (int j = 0; j < extraLength.length; j++) {
+                    int s = stratumOrder[distinct + j];
+                    extraLength[j] = sortedLen[s][rng.nextInt(reservoirs[s].size)];
+                }
+            }
+        }
+
+        public int getSourceSize() {
+            return sourceSize;
+        }
+
+        public int getMaxCount() {
+            return maxCount;
+        }
+
+        /** Panjang tugas untuk subset berukuran k, dalam urutan trace asli (tambahan di akhir). */
+        public int[] subset(int k) {
+            if (k > maxCount) throw new IllegalArgumentException("k=" + k + " > maxCount=" + maxCount);
+            int distinct = Math.min(k, pickIndex.length);
+            long[] packed = new long[distinct];
+            for (int j = 0; j < distinct; j++) {
+                packed[j] = ((long) pickIndex[j] << 32) | (pickLength[j] & 0xffffffffL);
+            }
+            Arrays.sort(packed);
+            int[] out = new int[k];
+            for (int j = 0; j < distinct; j++) out[j] = (int) packed[j];
+            System.arraycopy(extraLength, 0, out, distinct, k - distinct);
+            return out;
+        }
+    }
+
+    /** Max-heap berdasarkan kunci berisi kandidat dengan kunci terkecil (bottom-k). */
+    static final class Reservoir {
+        final long[] key;
+        final int[] index;
+        final int[] length;
+        int size = 0;
+
+        Reservoir(int capacity) {
+            key = new long[capacity];
+            index = new int[capacity];
+            length = new int[capacity];
+        }
+
+        void offer(long k, int idx, int len) {
+            if (size < key.length) {
+                key[size] = k;
+                index[size] = idx;
+                length[size] = len;
+                siftUp(size++);
+            } else if (key.length > 0 && k < key[0]) {
+                key[0] = k;
+                index[0] = idx;
+                length[0] = len;
+                siftDown(0);
+            }
+        }
+
+        /** Mengurutkan isi heap menaik menurut kunci (heap tidak dipakai lagi setelahnya). */
+        void sortByKey() {
+            for (int end = size - 1; end > 0; end--) {
+                swap(0, end);
+                int saved = size;
+                size = end;
+                siftDown(0);
+                size = saved;
+            }
+        }
+
+        private void siftUp(int i) {
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (key[parent] >= key[i]) break;
+                swap(i, parent);
+                i = parent;
+            }
+        }
+
+        private void siftDown(int i) {
+            while (true) {
+                int l = 2 * i + 1, r = l + 1, largest = i;
+                if (l < size && key[l] > key[largest]) largest = l;
+                if (r < size && key[r] > key[largest]) largest = r;
+                if (largest == i) return;
+                swap(i, largest);
+                i = largest;
+            }
+        }
+
+        private void swap(int a, int b) {
+            long k = key[a]; key[a] = key[b]; key[b] = k;
+            int x = index[a]; index[a] = index[b]; index[b] = x;
+            int y = length[a]; length[a] = length[b]; length[b] = y;
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package contoh;
+
+import java.util.*;
+import java.util.stream.IntStream;
+
+/**
+ * Pembangkit panjang tugas sintetis langsung ke array primitif, tanpa file.
+ *
+ * Nilai ke-i hanya bergantung pada (seed, i): tugas dibagi ke blok 2^16 dan setiap blok
+ * memakai RNG sendiri yang diturunkan dari seed dan nomor blok. Jadi {@link #generate}
+ * (paralel per blok) dan {@link #iterator} (berurutan, tanpa menyimpan seluruh data)
+ * menghasilkan deret yang sama persis, berapa pun jumlah core.
+ */
+public abstract class WorkloadGenerator {
+
+    static final int BLOCK_SHIFT = 16;
+    static final int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+
+    /** Lebar kelas pada tabel stratifikasi ("Olah Data Random Stratified.xlsx"). */
+    static final int STRATUM_WIDTH = 88000;
+
+    /** Jumlah tugas SDSC per kelas 88.000 MI (sheet "Data processing"), dasar proporsi RandStratified. */
+    static final int[] SDSC_STRATUM_COUNTS = {
+        6380, 233, 101, 48, 73, 61, 26, 13, 11, 5, 14, 77, 3, 10, 7, 22, 11, 11, 6, 25,
+        7, 8, 12, 7, 4, 2, 1, 1, 8, 24, 6, 14, 12, 20, 18, 1, 5, 7, 6, 4,
+        3, 7, 0, 1, 6, 1, 17, 3, 3, 1, 0, 1, 2, 0, 0, 1, 1, 0, 0, 1,
+        4, 0, 0, 1, 0, 0, 5, 3, 6, 1, 2, 2, 2, 2, 5, 0, 0, 1, 2, 1,
+        0, 0, 0, 1, 0, 0, 0, 0, 1, 0, 0, 0, 0, 1, 1, 1, 0, 0, 0, 1
+    };
+
+    /** Satu sampel panjang tugas (&gt; 0). */
+    protected abstract int sample(SplittableRandom rng);
+
+    /** Nama singkat untuk log/output. */
+    public abstract String getName();
+
+    /** Membangkitkan {@code n} panjang tugas secara paralel per blok. */
+    public int[] generate(int n, long seed) {
+        int[] lengths = new int[n];
+        int blocks = (n + BLOCK_SIZE - 1) >>> BLOCK_SHIFT;
+        IntStream.range(0, blocks).parallel().forEach(b -> {
+            SplittableRandom rng = blockRandom(seed, b);
+            int end = (int) Math.min(n, ((long) b + 1) << BLOCK_SHIFT);
+            for (int i = b << BLOCK_SHIFT; i < end; i++) {
+                lengths[i] = sample(rng);
+            }
+        });
+        return lengths;
+    }
+
+    /** Deret yang sama dengan {@link #generate} tetapi dibangkitkan berurutan sesuai kebutuhan. */
+    public PrimitiveIterator.OfInt iterator(long n, long seed) {
+        return new PrimitiveIterator.OfInt() {
+            private long i = 0;
+            private SplittableRandom rng;
+
+            @Override
+            public boolean hasNext() {
+                return i < n;
+            }
+
+            @Override
+            public int nextInt() {
+                if (i >= n) throw new NoSuchElementException();
+                if ((i & (BLOCK_SIZE - 1)) == 0) rng = blockRandom(seed, i >>> BLOCK_SHIFT);
+                i++;
+                return sample(rng);
+            }
+        };
+    }
+
+    static SplittableRandom blockRandom(long seed, long block) {
+        long z = seed + 0x9E3779B97F4A7C15L * (block + 1);
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return new SplittableRandom(z ^ (z >>> 33));
+    }
+
+    // --- Distribusi ---
+
+    /** Uniform bilangan bulat di [min, max], seperti RandSimple (10.000..50.000). */
+    public static WorkloadGenerator simple(final int min, final int max) {
+        return new WorkloadGenerator() {
+            @Override
+            protected int sample(SplittableRandom rng) {
+                return min + rng.nextInt(max - min + 1);
+            }
+
+            @Override
+            public String getName() {
+                return "simple";
+            }
+        };
+    }
+
+    public static WorkloadGenerator simple() {
+        return simple(10000, 50000);
+    }
+
+    /**
+     * Stratified seperti RandStratified: kelas dipilih dengan proporsi {@link #SDSC_STRATUM_COUNTS},
+     * lalu panjang diambil uniform di dalam kelas (kelas k = (88000k, 88000(k+1)]).
+     */
+    public static WorkloadGenerator stratified() {
+        int[] counts = SDSC_STRATUM_COUNTS;
+        final long[] cumulative = new long[counts.length];
+        long total = 0;
+        for (int k = 0; k < counts.length; k++) {
+            total += counts[k];
+            cumulative[k] = total;
+        }
+        final long sum = total;
+        return new WorkloadGenerator() {
+            @Override
+            protected int sample(SplittableRandom rng) {
+                long pick = rng.nextLong(sum);
+                int k = Arrays.binarySearch(cumulative, pick + 1);
+                if (k < 0) k = -k - 1;
+                return k * STRATUM_WIDTH + 1 + rng.nextInt(STRATUM_WIDTH);
+            }
+
+            @Override
+            public String getName() {
+                return "stratified";
+            }
+        };
+    }
+
+    /**
+     * Distribusi yang dicocokkan ke profil dataset nyata (mis. SDSC): bagian badan mengikuti
+     * CDF empiris histogram logaritmik (log-uniform di dalam bin), dan 1% teratas mengikuti
+     * ekor Pareto dengan indeks Hill dari profil, dipotong di nilai maksimum dataset.
+     */
+    public static WorkloadGenerator fitted(WorkloadProfile profile) {
+        if (profile.getCount() == 0) throw new IllegalArgumentException("Profil kosong");
+        final long[] histogram = profile.getHistogram();
+        final long[] cumulative = new long[histogram.length];
+        long total = 0;
+        for (int b = 0; b < histogram.length; b++) {
+            total += histogram[b];
+            cumulative[b] = total;
+        }
+        final long sum = total;
+        final double min = Math.max(1, profile.getMin());
+        final double max = profile.getMax();
+        final double tailStart = profile.quantile(0.99);
+        final double alpha = Double.isNaN(profile.getTailIndex()) || Double.isInfinite(profile.getTailIndex())
+                ? 0.0 : profile.getTailIndex();
+        return new WorkloadGenerator() {
+            @Override
+            protected int sample(SplittableRandom rng) {
+                double u = rng.nextDouble();
+                double v;
+                if (alpha > 0 && u >= 0.99 && max > tailStart) {
+                    // Pareto terpotong di [tailStart, max], inverse CDF
+                    double w = (u - 0.99) / 0.01;
+                    double ratio = Math.pow(tailStart / max, alpha);
+                    v = tailStart * Math.pow(1 - w * (1 - ratio), -1.0 / alpha);
+                } else {
+                    long pick = (long) (u * sum);
+                    int b = Arrays.binarySearch(cumulative, pick + 1);
+                    if (b < 0) b = -b - 1;
+                    double lo = Math.max(min, WorkloadProfile.binLower(b));
+                    double hi = Math.min(max, WorkloadProfile.binLower(b + 1));
+                    v = hi > lo ? lo * Math.pow(hi / lo, rng.nextDouble()) : lo;
+                }
+                return (int) Math.max(1, Math.min(Integer.MAX_VALUE, v));
+            }
+
+            @Override
+            public String getName() {
+                return "fitted";
+            }
+        };
+    }
+}
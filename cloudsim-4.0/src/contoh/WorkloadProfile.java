@@ -0,0 +1,263 @@
+package contoh;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * Ringkasan distribusi panjang tugas yang dihitung dalam satu pass streaming: min/max,
+ * rata-rata & simpangan baku (Welford), histogram logaritmik (8 bin per kelipatan dua,
+ * dipakai untuk kuantil) dan estimasi indeks ekor berat (Hill) dari 500 nilai terbesar.
+ *
+ * Profil bisa disimpan sebagai file sidecar {@code <dataset>.profile} sehingga pemanggil
+ * yang tidak memuat dataset (mis. mode streaming) tidak perlu memindai ulang file.
+ */
+public class WorkloadProfile {
+
+    static final int BINS_PER_OCTAVE = 8;
+    static final int TAIL_CAPACITY = 500;
+    private static final int NUM_BINS = 64 * BINS_PER_OCTAVE;
+
+    private long count = 0;
+    private long min = Long.MAX_VALUE;
+    private long max = 0;
+    private double mean = 0.0;
+    private double m2 = 0.0;
+    private final long[] histogram = new long[NUM_BINS];
+
+    // Min-heap berisi nilai terbesar untuk estimator Hill; null setelah finish()
+    private long[] tail = new long[TAIL_CAPACITY + 1];
+    private int tailSize = 0;
+    private double tailIndex = Double.NaN;
+
+    public void add(long length) {
+        if (length <= 0) return;
+        count++;
+        min = Math.min(min, length);
+        max = Math.max(max, length);
+        double delta = length - mean;
+        mean += delta / count;
+        m2 += delta * (length - mean);
+        histogram[bin(length)]++;
+        offerTail(length);
+    }
+
+    /** Membaca seluruh iterator sambil memprofilkan nilainya. */
+    public static WorkloadProfile scan(PrimitiveIterator.OfInt lengths) {
+        WorkloadProfile p = new WorkloadProfile();
+        while (lengths.hasNext()) p.add(lengths.nextInt());
+        return p.finish();
+    }
+
+    /** Menutup profil: menghitung indeks ekor dan melepas heap nilai terbesar. */
+    public WorkloadProfile finish() {
+        if (tail != null) {
+            tailIndex = hillEstimate();
+            tail = null;
+        }
+        return this;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getMin() {
+        return count > 0 ? min : 0;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    public double getStdDev() {
+        return count > 1 ? Math.sqrt(m2 / (count - 1)) : 0.0;
+    }
+
+    /**
+     * Indeks ekor Hill (alpha). Nilai &lt; 2 berarti variansi tak terbatas secara teoretis
+     * (ekor berat, mis. SDSC); NaN jika data terlalu sedikit.
+     */
+    public double getTailIndex() {
+        return tailIndex;
+    }
+
+    public boolean isHeavyTailed() {
+        return !Double.isNaN(tailIndex) && tailIndex < 2.0;
+    }
+
+    /** Kuantil perkiraan dari histogram (galat relatif maksimum sekitar 9%, lebar satu bin). */
+    public double quantile(double q) {
+        if (count == 0) return 0.0;
+        if (q <= 0) return getMin();
+        if (q >= 1) return max;
+        double target = q * count;
+        long seen = 0;
+        for (int b = 0; b < NUM_BINS; b++) {
+            if (histogram[b] == 0) continue;
+            if (seen + histogram[b] >= target) {
+                double lo = Math.max(getMin(), binLower(b));
+                double hi = Math.min(max, binLower(b + 1));
+                double frac = (target - seen) / histogram[b];
+                return lo * Math.pow(hi / lo, frac);
+            }
+            seen += histogram[b];
+        }
+        return max;
+    }
+
+    /** Salinan histogram logaritmik; bin b mencakup [2^(b/8), 2^((b+1)/8)). */
+    public long[] getHistogram() {
+        return histogram.clone();
+    }
+
+    static int bin(long v) {
+        return Math.min(NUM_BINS - 1, (int) Math.floor(Math.log(v) / Math.log(2) * BINS_PER_OCTAVE));
+    }
+
+    static double binLower(int b) {
+        return Math.pow(2.0, (double) b / BINS_PER_OCTAVE);
+    }
+
+    private void offerTail(long v) {
+        if (tailSize < tail.length) {
+            tail[tailSize] = v;
+            siftUp(tailSize++);
+        } else if (v > tail[0]) {
+            tail[0] = v;
+            siftDown(0);
+        }
+    }
+
+    private void siftUp(int i) {
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (tail[parent] <= tail[i]) break;
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int i) {
+        while (true) {
+            int l = 2 * i + 1, r = l + 1, smallest = i;
+            if (l < tailSize && tail[l] < tail[smallest]) smallest = l;
+            if (r < tailSize && tail[r] < tail[smallest]) smallest = r;
+            if (smallest == i) return;
+            swap(i, smallest);
+            i = smallest;
+        }
+    }
+
+    private void swap(int a, int b) {
+        long t = tail[a];
+        tail[a] = tail[b];
+        tail[b] = t;
+    }
+
+    /** Hill: alpha = k / sum(ln(x_i / x_(k+1))) atas k nilai terbesar, k = 5% data (maks. 500). */
+    private double hillEstimate() {
+        int k = (int) Math.min(TAIL_CAPACITY, Math.min(tailSize - 1, count / 20));
+        if (k < 10) return Double.NaN;
+        long[] top = Arrays.copyOf(tail, tailSize);
+        Arrays.sort(top);
+        double threshold = top[top.length - k - 1];
+        double sum = 0.0;
+        for (int i = top.length - k; i < top.length; i++) {
+            sum += Math.log(top[i] / threshold);
+        }
+        return sum > 0 ? k / sum : Double.POSITIVE_INFINITY;
+    }
+
+    // --- Sidecar ---
+
+    /** File sidecar untuk dataset tertentu. */
+    static File sidecarFor(String datasetPath, long limit) {
+        return new File(datasetPath + (limit == Long.MAX_VALUE ? "" : "." + limit) + ".profile");
+    }
+
+    /**
+     * Profil untuk file dataset: dibaca dari sidecar jika masih cocok dengan ukuran & waktu
+     * modifikasi file, jika tidak dihitung dengan satu pass lalu sidecar ditulis ulang.
+     */
+    public static WorkloadProfile forFile(String datasetPath, long limit) throws IOException {
+        WorkloadProfile cached = readSidecar(datasetPath, limit);
+        if (cached != null) return cached;
+        WorkloadProfile p;
+        try (TaskLengthReader reader = TaskLengthReader.open(datasetPath, limit)) {
+            p = scan(reader);
+        }
+        p.writeSidecar(datasetPath, limit);
+        return p;
+    }
+
+    static WorkloadProfile readSidecar(String datasetPath, long limit) {
+        File data = new File(datasetPath);
+        File sidecar = sidecarFor(datasetPath, limit);
+        if (!sidecar.isFile()) return null;
+        Properties props = new Properties();
+        try (InputStream in = new FileInputStream(sidecar)) {
+            props.load(in);
+        } catch (IOException e) {
+            return null;
+        }
+        if (!String.valueOf(data.length()).equals(props.getProperty("sourceSize"))
+                || !String.valueOf(data.lastModified()).equals(props.getProperty("sourceModified"))) {
+            return null;
+        }
+        try {
+            WorkloadProfile p = new WorkloadProfile();
+            p.count = Long.parseLong(props.getProperty("count"));
+            p.min = Long.parseLong(props.getProperty("min"));
+            p.max = Long.parseLong(props.getProperty("max"));
+            p.mean = Double.parseDouble(props.getProperty("mean"));
+            p.m2 = Double.parseDouble(props.getProperty("m2"));
+            p.tailIndex = Double.parseDouble(props.getProperty("tailIndex"));
+            String hist = props.getProperty("histogram", "");
+            for (String entry : hist.split(";")) {
+                if (entry.isEmpty()) continue;
+                int colon = entry.indexOf(':');
+                p.histogram[Integer.parseInt(entry.substring(0, colon))] = Long.parseLong(entry.substring(colon + 1));
+            }
+            p.tail = null;
+            return p;
+        } catch (RuntimeException e) {
+            return null; // sidecar rusak: hitung ulang
+        }
+    }
+
+    /** Menulis sidecar; kegagalan menulis (mis. direktori read-only) hanya dilaporkan. */
+    void writeSidecar(String datasetPath, long limit) {
+        File data = new File(datasetPath);
+        Properties props = new Properties();
+        props.setProperty("sourceSize", String.valueOf(data.length()));
+        props.setProperty("sourceModified", String.valueOf(data.lastModified()));
+        props.setProperty("count", String.valueOf(count));
+        props.setProperty("min", String.valueOf(min));
+        props.setProperty("max", String.valueOf(max));
+        props.setProperty("mean", String.valueOf(mean));
+        props.setProperty("m2", String.valueOf(m2));
+        props.setProperty("tailIndex", String.valueOf(tailIndex));
+        StringBuilder hist = new StringBuilder();
+        for (int b = 0; b < NUM_BINS; b++) {
+            if (histogram[b] == 0) continue;
+            if (hist.length() > 0) hist.append(';');
+            hist.append(b).append(':').append(histogram[b]);
+        }
+        props.setProperty("histogram", hist.toString());
+        try (OutputStream out = new FileOutputStream(sidecarFor(datasetPath, limit))) {
+            props.store(out, "WorkloadProfile for " + data.getName());
+        } catch (IOException e) {
+            System.err.println("Gagal menulis profil dataset: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.US, "n=%d min=%d p50=%.0f p90=%.0f p99=%.0f max=%d mean=%.1f sd=%.1f tailIndex=%.3f",
+                count, getMin(), quantile(0.5), quantile(0.9), quantile(0.99), max, mean, getStdDev(), tailIndex);
+    }
+}